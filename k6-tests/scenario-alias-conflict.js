@@ -0,0 +1,66 @@
+import http from 'k6/http';
+import { check } from 'k6';
+import { Counter, Rate, Trend } from 'k6/metrics';
+
+// 커스텀 메트릭
+const serverErrors = new Rate('server_errors');
+const aliasCreated = new Counter('alias_created');
+const aliasConflict = new Counter('alias_conflict');
+const createLatency = new Trend('create_latency');
+
+// Base URL
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+
+// 동시에 경쟁할 alias 개수 (작을수록 충돌이 많아짐)
+const ALIAS_POOL_SIZE = parseInt(__ENV.ALIAS_POOL_SIZE || '100');
+
+// 실행마다 다른 alias를 쓰도록 접두사 지정 (Base62 문자만 허용)
+const RUN_ID = __ENV.RUN_ID || `${Date.now() % 1000000}`;
+
+// 테스트 옵션
+export const options = {
+    scenarios: {
+        alias_conflict: {
+            executor: 'constant-vus',
+            vus: 200,
+            duration: '1m',
+        },
+    },
+    thresholds: {
+        // alias 충돌은 409로 응답되어야 하며 5xx가 발생하면 안 됨
+        server_errors: ['rate==0'],
+        create_latency: ['p(95)<200'],
+    },
+};
+
+// 테스트 함수: 여러 VU가 같은 alias 집합을 동시에 생성 시도
+export default function () {
+    const alias = `c${RUN_ID}a${Math.floor(Math.random() * ALIAS_POOL_SIZE)}`;
+    const payload = JSON.stringify({
+        originalUrl: `https://www.example.com/conflict/${alias}`,
+        alias: alias,
+    });
+
+    const response = http.post(`${BASE_URL}/urls`, payload, {
+        headers: { 'Content-Type': 'application/json' },
+    });
+    createLatency.add(response.timings.duration);
+
+    if (response.status === 201) {
+        aliasCreated.add(1);
+    } else if (response.status === 409) {
+        aliasConflict.add(1);
+    }
+    serverErrors.add(response.status >= 500);
+
+    check(response, {
+        'status is 201 or 409': (r) => r.status === 201 || r.status === 409,
+    });
+}
+
+// 테스트 완료 후 리포트 생성
+export function handleSummary(data) {
+    return {
+        'results/results-alias-conflict.json': JSON.stringify(data, null, 2),
+    };
+}
@@ -0,0 +1,16 @@
+-- wrk 스크립트: 미리 적재한 단축코드(bench-0 ~ bench-N-1)를 무작위로 요청
+-- 사용: wrk -s bench/redirect.lua http://localhost:8081 -- <코드 수>
+
+local count = 10000
+
+function init(args)
+    if args[1] then
+        count = tonumber(args[1])
+    end
+    math.randomseed(os.time() + math.floor(os.clock() * 1000000))
+end
+
+function request()
+    return wrk.format("GET", "/bench" .. math.random(0, count - 1))
+end
+
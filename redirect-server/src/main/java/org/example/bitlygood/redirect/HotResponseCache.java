@@ -0,0 +1,63 @@
+package org.example.bitlygood.redirect;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 링크별로 미리 만든 302 응답 바이트 캐시
+ *
+ * 한 번 조회된 링크는 응답 전체(상태 줄 + Location 헤더)를 바이트 배열로 보관해
+ * 다음 요청부터 Redis 조회와 문자열 조합 없이 바로 씁니다.
+ * 크기 제한을 넘으면 임의의 항목 일부를 제거하며, 삭제/만료된 링크는 ttl 이내에 반영됩니다.
+ */
+final class HotResponseCache {
+
+    // 크기 제한 초과 시 한 번에 제거하는 항목 수
+    private static final int EVICTION_BATCH = 64;
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private final int maxSize;
+    private final long ttlNanos;
+
+    HotResponseCache(int maxSize, long ttlSeconds) {
+        this.maxSize = maxSize;
+        this.ttlNanos = ttlSeconds * 1_000_000_000L;
+    }
+
+    /**
+     * @return 미리 만든 응답 (없거나 유효 시간이 지났으면 null)
+     */
+    byte[] get(String code) {
+        Entry entry = entries.get(code);
+        if (entry == null) {
+            return null;
+        }
+        if (System.nanoTime() - entry.createdAt() > ttlNanos) {
+            entries.remove(code, entry);
+            return null;
+        }
+        return entry.response();
+    }
+
+    void put(String code, byte[] response) {
+        if (maxSize <= 0) {
+            return;
+        }
+        if (entries.size() >= maxSize) {
+            Iterator<String> it = entries.keySet().iterator();
+            for (int i = 0; i < EVICTION_BATCH && it.hasNext(); i++) {
+                it.next();
+                it.remove();
+            }
+        }
+        entries.put(code, new Entry(response, System.nanoTime()));
+    }
+
+    int size() {
+        return entries.size();
+    }
+
+    private record Entry(byte[] response, long createdAt) {
+    }
+}
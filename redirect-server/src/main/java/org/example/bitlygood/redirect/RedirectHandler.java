@@ -0,0 +1,185 @@
+package org.example.bitlygood.redirect;
+
+import java.util.ArrayDeque;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.ChannelFutureListener;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInboundHandlerAdapter;
+import io.netty.handler.codec.http.HttpMethod;
+import io.netty.handler.codec.http.HttpRequest;
+import io.netty.handler.codec.http.HttpUtil;
+import io.netty.util.ReferenceCountUtil;
+
+/**
+ * GET /{code} 요청을 302 응답으로 처리하는 핸들러 (연결마다 하나)
+ *
+ * 미리 만든 응답이 있으면 바로 쓰고, 없으면 UrlLookup 결과를 기다려 응답을 만든 뒤 캐시합니다.
+ * HTTP 파이프라이닝으로 여러 요청이 한 번에 들어와도 요청 순서대로 응답하도록 대기열을 유지하며,
+ * 대기열의 모든 상태는 채널의 이벤트 루프에서만 변경합니다.
+ * 응답 바이트는 채널의 풀링된 direct 버퍼에 복사해 씁니다.
+ */
+final class RedirectHandler extends ChannelInboundHandlerAdapter {
+
+    private static final Logger log = LoggerFactory.getLogger(RedirectHandler.class);
+
+    // 단축코드 최대 길이 (alias 20자, 생성 코드 12자보다 넉넉하게)
+    private static final int MAX_CODE_LENGTH = 64;
+
+    // 응답 대기 요청이 이 수를 넘으면 읽기를 멈춤
+    private static final int MAX_PENDING = 256;
+
+    private final HotResponseCache hotResponses;
+    private final UrlLookup lookup;
+    private final ArrayDeque<Pending> pending = new ArrayDeque<>();
+
+    RedirectHandler(HotResponseCache hotResponses, UrlLookup lookup) {
+        this.hotResponses = hotResponses;
+        this.lookup = lookup;
+    }
+
+    @Override
+    public void channelRead(ChannelHandlerContext ctx, Object msg) {
+        try {
+            // 본문(HttpContent)은 무시
+            if (msg instanceof HttpRequest request) {
+                handle(ctx, request);
+            }
+        } finally {
+            ReferenceCountUtil.release(msg);
+        }
+    }
+
+    @Override
+    public void channelReadComplete(ChannelHandlerContext ctx) {
+        ctx.flush();
+    }
+
+    @Override
+    public void channelInactive(ChannelHandlerContext ctx) {
+        pending.clear();
+        ctx.fireChannelInactive();
+    }
+
+    @Override
+    public void exceptionCaught(ChannelHandlerContext ctx, Throwable cause) {
+        log.debug("Closing redirect connection after error", cause);
+        ctx.close();
+    }
+
+    private void handle(ChannelHandlerContext ctx, HttpRequest request) {
+        if (request.decoderResult().isFailure()) {
+            respond(ctx, new Pending(false, RedirectResponses.BAD_REQUEST), false);
+            return;
+        }
+        boolean keepAlive = HttpUtil.isKeepAlive(request);
+        if (request.method() != HttpMethod.GET && request.method() != HttpMethod.HEAD) {
+            respond(ctx, new Pending(keepAlive, RedirectResponses.METHOD_NOT_ALLOWED), false);
+            return;
+        }
+        String code = extractCode(request.uri());
+        if (code == null) {
+            respond(ctx, new Pending(keepAlive, RedirectResponses.NOT_FOUND), false);
+            return;
+        }
+        byte[] hot = hotResponses.get(code);
+        if (hot != null) {
+            respond(ctx, new Pending(keepAlive, hot), false);
+            return;
+        }
+
+        Pending slot = new Pending(keepAlive, null);
+        pending.add(slot);
+        if (pending.size() >= MAX_PENDING) {
+            ctx.channel().config().setAutoRead(false);
+        }
+        lookup.find(code).whenComplete((originalUrl, error) -> ctx.executor().execute(() -> {
+            if (error != null) {
+                log.warn("URL lookup failed for {}: {}", code, error.toString());
+                slot.response = RedirectResponses.SERVICE_UNAVAILABLE;
+            } else if (originalUrl == null) {
+                slot.response = RedirectResponses.NOT_FOUND;
+            } else {
+                byte[] found = RedirectResponses.found(originalUrl);
+                if (found != null) {
+                    hotResponses.put(code, found);
+                }
+                slot.response = found != null ? found : RedirectResponses.NOT_FOUND;
+            }
+            drain(ctx, true);
+        }));
+    }
+
+    /**
+     * 이미 응답이 정해진 요청을 대기열 순서를 지켜 씁니다.
+     */
+    private void respond(ChannelHandlerContext ctx, Pending slot, boolean flush) {
+        pending.add(slot);
+        drain(ctx, flush);
+    }
+
+    /**
+     * 대기열 앞에서부터 응답이 준비된 요청을 씁니다.
+     */
+    private void drain(ChannelHandlerContext ctx, boolean flush) {
+        boolean written = false;
+        while (!pending.isEmpty() && pending.peek().response != null) {
+            Pending slot = pending.poll();
+            ByteBuf buf = ctx.alloc().directBuffer(slot.response.length).writeBytes(slot.response);
+            written = true;
+            if (!slot.keepAlive) {
+                pending.clear();
+                ctx.writeAndFlush(buf).addListener(ChannelFutureListener.CLOSE);
+                return;
+            }
+            ctx.write(buf);
+        }
+        if (pending.size() < MAX_PENDING && !ctx.channel().config().isAutoRead()) {
+            ctx.channel().config().setAutoRead(true);
+        }
+        if (written && flush) {
+            ctx.flush();
+        }
+    }
+
+    /**
+     * "/{code}" 또는 "/{code}?..." 에서 단축코드를 꺼냅니다.
+     *
+     * @return 단축코드 (Base62 문자와 생성 코드 마커만 허용, 형식이 맞지 않으면 null)
+     */
+    static String extractCode(String uri) {
+        if (uri == null || uri.length() < 2 || uri.charAt(0) != '/') {
+            return null;
+        }
+        int end = uri.length();
+        for (int i = 1; i < uri.length(); i++) {
+            char c = uri.charAt(i);
+            if (c == '?' || c == '#') {
+                end = i;
+                break;
+            }
+            boolean valid = (c >= '0' && c <= '9') || (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || c == '_';
+            if (!valid) {
+                return null;
+            }
+        }
+        int length = end - 1;
+        return length >= 1 && length <= MAX_CODE_LENGTH ? uri.substring(1, end) : null;
+    }
+
+    /**
+     * 응답 대기 중인 요청 (response가 null이면 조회 중)
+     */
+    private static final class Pending {
+        final boolean keepAlive;
+        byte[] response;
+
+        Pending(boolean keepAlive, byte[] response) {
+            this.keepAlive = keepAlive;
+            this.response = response;
+        }
+    }
+}
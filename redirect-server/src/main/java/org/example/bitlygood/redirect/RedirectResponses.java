@@ -0,0 +1,41 @@
+package org.example.bitlygood.redirect;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 미리 만든 HTTP 응답 바이트
+ *
+ * 응답은 본문 없는 고정 형식이므로 Netty HTTP 인코더를 거치지 않고 바이트를 그대로 씁니다.
+ */
+final class RedirectResponses {
+
+    static final byte[] NOT_FOUND = status("404 Not Found", "");
+    static final byte[] BAD_REQUEST = status("400 Bad Request", "");
+    static final byte[] METHOD_NOT_ALLOWED = status("405 Method Not Allowed", "Allow: GET, HEAD\r\n");
+    static final byte[] SERVICE_UNAVAILABLE = status("503 Service Unavailable", "Retry-After: 1\r\n");
+
+    private RedirectResponses() {
+    }
+
+    /**
+     * 302 응답을 만듭니다.
+     *
+     * @return 응답 바이트 (Location에 넣을 수 없는 값이면 null)
+     */
+    static byte[] found(String location) {
+        for (int i = 0; i < location.length(); i++) {
+            char c = location.charAt(i);
+            // 헤더 분할 방지
+            if (c == '\r' || c == '\n') {
+                return null;
+            }
+        }
+        return ("HTTP/1.1 302 Found\r\nLocation: " + location + "\r\nContent-Length: 0\r\n\r\n")
+                .getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static byte[] status(String status, String headers) {
+        return ("HTTP/1.1 " + status + "\r\n" + headers + "Content-Length: 0\r\n\r\n")
+                .getBytes(StandardCharsets.US_ASCII);
+    }
+}
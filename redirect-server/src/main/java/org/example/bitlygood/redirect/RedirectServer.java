@@ -0,0 +1,86 @@
+package org.example.bitlygood.redirect;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.netty.bootstrap.ServerBootstrap;
+import io.netty.buffer.PooledByteBufAllocator;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelInitializer;
+import io.netty.channel.ChannelOption;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.epoll.Epoll;
+import io.netty.channel.epoll.EpollEventLoopGroup;
+import io.netty.channel.epoll.EpollServerSocketChannel;
+import io.netty.channel.nio.NioEventLoopGroup;
+import io.netty.channel.socket.SocketChannel;
+import io.netty.channel.socket.nio.NioServerSocketChannel;
+import io.netty.handler.codec.http.HttpRequestDecoder;
+
+/**
+ * 리다이렉션 전용 Netty HTTP 서버
+ *
+ * Spring MVC/JPA/AOP 없이 GET /{code} 만 처리합니다. 링크 생성, 일괄 조회, 관리 API는 메인 애플리케이션이 담당하며,
+ * 두 프로세스는 같은 Redis 캐시와 PostgreSQL을 사용하므로 함께 띄우거나 읽기 경로만 이 서버로 보낼 수 있습니다.
+ *
+ * Linux에서는 epoll 네이티브 전송을, 그 외에는 NIO를 사용합니다.
+ * 실행: ./gradlew :redirect-server:run (설정은 RedirectServerConfig 참고)
+ */
+public final class RedirectServer {
+
+    private static final Logger log = LoggerFactory.getLogger(RedirectServer.class);
+
+    private final RedirectServerConfig config;
+    private final UrlLookup lookup;
+    private final HotResponseCache hotResponses;
+    private EventLoopGroup group;
+    private Channel serverChannel;
+
+    RedirectServer(RedirectServerConfig config, UrlLookup lookup) {
+        this.config = config;
+        this.lookup = lookup;
+        this.hotResponses = new HotResponseCache(config.hotMaxSize(), config.hotTtlSeconds());
+    }
+
+    public static void main(String[] args) throws InterruptedException {
+        RedirectServerConfig config = RedirectServerConfig.fromEnvironment();
+        RedisUrlLookup lookup = new RedisUrlLookup(config);
+        RedirectServer server = new RedirectServer(config, lookup);
+        server.start();
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            server.stop();
+            lookup.close();
+        }, "redirect-shutdown"));
+        server.serverChannel.closeFuture().sync();
+    }
+
+    void start() throws InterruptedException {
+        boolean epoll = Epoll.isAvailable();
+        group = epoll ? new EpollEventLoopGroup(config.ioThreads()) : new NioEventLoopGroup(config.ioThreads());
+        ServerBootstrap bootstrap = new ServerBootstrap()
+                .group(group)
+                .channel(epoll ? EpollServerSocketChannel.class : NioServerSocketChannel.class)
+                .option(ChannelOption.SO_BACKLOG, 4096)
+                .childOption(ChannelOption.TCP_NODELAY, true)
+                .childOption(ChannelOption.ALLOCATOR, PooledByteBufAllocator.DEFAULT)
+                .childHandler(new ChannelInitializer<SocketChannel>() {
+                    @Override
+                    protected void initChannel(SocketChannel ch) {
+                        ch.pipeline()
+                                .addLast(new HttpRequestDecoder(4096, 8192, 8192))
+                                .addLast(new RedirectHandler(hotResponses, lookup));
+                    }
+                });
+        serverChannel = bootstrap.bind(config.port()).sync().channel();
+        log.info("Redirect server listening on {} ({} transport)", config.port(), epoll ? "epoll" : "nio");
+    }
+
+    void stop() {
+        if (serverChannel != null) {
+            serverChannel.close().syncUninterruptibly();
+        }
+        if (group != null) {
+            group.shutdownGracefully().syncUninterruptibly();
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package org.example.bitlygood.redirect;
+
+/**
+ * 리다이렉션 서버 설정
+ *
+ * 시스템 프로퍼티(-Dredirect.port=8081) 또는 환경 변수(REDIRECT_PORT=8081) 순으로 읽습니다.
+ * 캐시 키 구조와 TTL은 메인 애플리케이션의 app.cache.* 설정과 같은 값을 사용해야 합니다.
+ *
+ * @param port            HTTP 포트
+ * @param ioThreads       이벤트 루프 스레드 수 (0이면 코어 수 x 2)
+ * @param redisUri        Redis 접속 URI (예: redis://localhost:6379/0)
+ * @param cacheLayout     캐시 저장 구조 (string 또는 hash, app.cache.layout)
+ * @param hashBuckets     hash 구조 버킷 수 (app.cache.hash.buckets)
+ * @param cacheTtlSeconds DB에서 읽은 값을 Redis에 다시 저장할 때의 TTL (app.cache.url.ttl)
+ * @param hotMaxSize      미리 만든 302 응답을 보관할 최대 링크 수
+ * @param hotTtlSeconds   미리 만든 응답의 유효 시간 (삭제/만료 반영 지연 상한)
+ * @param dbUrl           캐시 미스 시 조회할 PostgreSQL JDBC URL (비어 있으면 DB 조회 안 함)
+ * @param dbUser          DB 사용자
+ * @param dbPassword      DB 비밀번호
+ * @param dbPoolSize      DB 커넥션/조회 스레드 수
+ */
+public record RedirectServerConfig(int port, int ioThreads, String redisUri, String cacheLayout, int hashBuckets,
+        long cacheTtlSeconds, int hotMaxSize, long hotTtlSeconds, String dbUrl, String dbUser, String dbPassword,
+        int dbPoolSize) {
+
+    public static RedirectServerConfig fromEnvironment() {
+        return new RedirectServerConfig(
+                Integer.parseInt(get("redirect.port", "8081")),
+                Integer.parseInt(get("redirect.io-threads", "0")),
+                get("redirect.redis-uri", "redis://localhost:6379/0"),
+                get("redirect.cache-layout", "string"),
+                Integer.parseInt(get("redirect.hash-buckets", "65536")),
+                Long.parseLong(get("redirect.cache-ttl-seconds", "3600")),
+                Integer.parseInt(get("redirect.hot.max-size", "100000")),
+                Long.parseLong(get("redirect.hot.ttl-seconds", "60")),
+                get("redirect.db.url", ""),
+                get("redirect.db.user", ""),
+                get("redirect.db.password", ""),
+                Integer.parseInt(get("redirect.db.pool-size", "8")));
+    }
+
+    boolean hashLayout() {
+        return "hash".equalsIgnoreCase(cacheLayout);
+    }
+
+    boolean databaseEnabled() {
+        return dbUrl != null && !dbUrl.isBlank();
+    }
+
+    private static String get(String name, String defaultValue) {
+        String value = System.getProperty(name);
+        if (value == null) {
+            value = System.getenv(name.toUpperCase().replace('.', '_').replace('-', '_'));
+        }
+        return value != null && !value.isBlank() ? value : defaultValue;
+    }
+}
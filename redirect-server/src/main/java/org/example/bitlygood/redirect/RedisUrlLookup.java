@@ -0,0 +1,144 @@
+package org.example.bitlygood.redirect;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import javax.sql.DataSource;
+
+import org.example.bitlygood.util.GeneratedCode;
+import org.example.bitlygood.util.UrlCodec;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+
+import io.lettuce.core.RedisClient;
+import io.lettuce.core.api.StatefulRedisConnection;
+import io.lettuce.core.api.async.RedisAsyncCommands;
+
+/**
+ * Redis 캐시 → PostgreSQL 순으로 원본 URL을 조회합니다.
+ *
+ * 메인 애플리케이션(UrlCacheService, HashBucketUrlCache)과 같은 키 구조를 읽으므로 캐시를 공유합니다.
+ * - string: url:&lt;code&gt;
+ * - hash: urlh:&lt;floorMod(code.hashCode(), buckets)&gt; 의 &lt;code&gt; 필드
+ *
+ * Redis 명령은 연결 하나에서 비동기로 파이프라이닝되고, DB 조회는 이벤트 루프를 막지 않도록
+ * 별도 스레드 풀(db.pool-size)에서 실행한 뒤 결과를 Redis에 다시 저장합니다.
+ */
+final class RedisUrlLookup implements UrlLookup, AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(RedisUrlLookup.class);
+
+    private static final String URL_CACHE_PREFIX = "url:";
+    private static final String BUCKET_PREFIX = "urlh:";
+
+    private static final String FIND_BY_SHORT_URL_SQL = "SELECT original_url FROM url "
+            + "WHERE short_url = ? AND (expiration_date IS NULL OR expiration_date > NOW())";
+    private static final String FIND_BY_CODE_ID_SQL = "SELECT original_url FROM url "
+            + "WHERE code_id = ? AND (expiration_date IS NULL OR expiration_date > NOW())";
+
+    private final RedirectServerConfig config;
+    private final RedisClient redisClient;
+    private final StatefulRedisConnection<String, String> connection;
+    private final RedisAsyncCommands<String, String> redis;
+    private final HikariDataSource dataSource;
+    private final ExecutorService dbExecutor;
+
+    RedisUrlLookup(RedirectServerConfig config) {
+        this.config = config;
+        this.redisClient = RedisClient.create(config.redisUri());
+        this.connection = redisClient.connect();
+        this.redis = connection.async();
+        if (config.databaseEnabled()) {
+            HikariConfig hikari = new HikariConfig();
+            hikari.setJdbcUrl(config.dbUrl());
+            hikari.setUsername(config.dbUser());
+            hikari.setPassword(config.dbPassword());
+            hikari.setMaximumPoolSize(config.dbPoolSize());
+            hikari.setReadOnly(true);
+            hikari.setPoolName("redirect-db");
+            this.dataSource = new HikariDataSource(hikari);
+            this.dbExecutor = Executors.newFixedThreadPool(config.dbPoolSize(),
+                    Thread.ofPlatform().name("redirect-db-", 0).daemon().factory());
+        } else {
+            this.dataSource = null;
+            this.dbExecutor = null;
+        }
+    }
+
+    @Override
+    public CompletableFuture<String> find(String code) {
+        CompletableFuture<String> cached = config.hashLayout()
+                ? redis.hget(bucketKey(code), code).toCompletableFuture()
+                : redis.get(URL_CACHE_PREFIX + code).toCompletableFuture();
+        return cached.handle((value, error) -> {
+            if (error != null) {
+                log.warn("Redis lookup failed for {}, falling back to database: {}", code, error.toString());
+            }
+            return value;
+        }).thenCompose(value -> value != null
+                ? CompletableFuture.completedFuture(UrlCodec.decode(value))
+                : loadFromDatabase(code));
+    }
+
+    @Override
+    public void close() {
+        connection.close();
+        redisClient.shutdown();
+        if (dataSource != null) {
+            dbExecutor.shutdown();
+            dataSource.close();
+        }
+    }
+
+    private CompletableFuture<String> loadFromDatabase(String code) {
+        if (dataSource == null) {
+            return CompletableFuture.completedFuture(null);
+        }
+        return CompletableFuture.supplyAsync(() -> {
+            String originalUrl = query(code);
+            if (originalUrl != null) {
+                writeBack(code, originalUrl);
+            }
+            return originalUrl;
+        }, dbExecutor);
+    }
+
+    private String query(String code) {
+        long codeId = GeneratedCode.decode(code);
+        try (Connection con = dataSource.getConnection();
+                PreparedStatement ps = con.prepareStatement(codeId >= 0 ? FIND_BY_CODE_ID_SQL : FIND_BY_SHORT_URL_SQL)) {
+            if (codeId >= 0) {
+                ps.setLong(1, codeId);
+            } else {
+                ps.setString(1, code);
+            }
+            try (ResultSet rs = ps.executeQuery()) {
+                return rs.next() ? UrlCodec.decode(rs.getString(1)) : null;
+            }
+        } catch (SQLException e) {
+            throw new IllegalStateException("Database lookup failed for " + code, e);
+        }
+    }
+
+    private void writeBack(String code, String originalUrl) {
+        if (config.hashLayout()) {
+            String key = bucketKey(code);
+            redis.hset(key, code, originalUrl);
+            redis.hpexpire(key, config.cacheTtlSeconds() * 1000, code);
+        } else {
+            redis.setex(URL_CACHE_PREFIX + code, config.cacheTtlSeconds(), originalUrl);
+        }
+    }
+
+    private String bucketKey(String code) {
+        return BUCKET_PREFIX + Math.floorMod(code.hashCode(), config.hashBuckets());
+    }
+}
@@ -0,0 +1,14 @@
+package org.example.bitlygood.redirect;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 단축코드 → 원본 URL 비동기 조회
+ */
+interface UrlLookup {
+
+    /**
+     * @return 원본 URL (존재하지 않거나 만료되었으면 null로 완료)
+     */
+    CompletableFuture<String> find(String code);
+}
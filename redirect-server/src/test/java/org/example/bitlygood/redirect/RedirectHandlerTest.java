@@ -0,0 +1,140 @@
+package org.example.bitlygood.redirect;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.handler.codec.http.HttpRequestDecoder;
+
+/**
+ * RedirectHandler 응답 형식과 파이프라이닝 순서 테스트
+ */
+class RedirectHandlerTest {
+
+    private final Map<String, CompletableFuture<String>> lookups = new HashMap<>();
+    private final UrlLookup lookup = code -> lookups.computeIfAbsent(code, key -> new CompletableFuture<>());
+
+    private EmbeddedChannel channel;
+
+    @BeforeEach
+    void setUp() {
+        channel = new EmbeddedChannel(new HttpRequestDecoder(4096, 8192, 8192),
+                new RedirectHandler(new HotResponseCache(100, 60), lookup));
+    }
+
+    @AfterEach
+    void tearDown() {
+        channel.finishAndReleaseAll();
+    }
+
+    @Test
+    @DisplayName("존재하는 단축코드는 Location 헤더와 함께 302를 응답한다")
+    void get_ExistingCode_Returns302() {
+        // given
+        lookups.put("abc123", CompletableFuture.completedFuture("https://example.com/a"));
+
+        // when
+        send("GET /abc123 HTTP/1.1\r\nHost: localhost\r\n\r\n");
+
+        // then
+        String response = readResponse();
+        assertThat(response).startsWith("HTTP/1.1 302 Found\r\n");
+        assertThat(response).contains("Location: https://example.com/a\r\n");
+    }
+
+    @Test
+    @DisplayName("없는 단축코드와 잘못된 형식의 경로는 404를 응답한다")
+    void get_MissingOrInvalidCode_Returns404() {
+        // given
+        lookups.put("none", CompletableFuture.completedFuture(null));
+
+        // when
+        send("GET /none HTTP/1.1\r\nHost: localhost\r\n\r\n");
+        send("GET /../etc HTTP/1.1\r\nHost: localhost\r\n\r\n");
+
+        // then
+        assertThat(readResponse()).startsWith("HTTP/1.1 404 Not Found\r\n");
+        assertThat(readResponse()).startsWith("HTTP/1.1 404 Not Found\r\n");
+    }
+
+    @Test
+    @DisplayName("GET/HEAD 외의 메서드는 405를 응답한다")
+    void post_Returns405() {
+        // when
+        send("POST /abc123 HTTP/1.1\r\nHost: localhost\r\nContent-Length: 0\r\n\r\n");
+
+        // then
+        assertThat(readResponse()).startsWith("HTTP/1.1 405 Method Not Allowed\r\n");
+    }
+
+    @Test
+    @DisplayName("파이프라이닝된 요청은 조회 완료 순서와 관계없이 요청 순서대로 응답한다")
+    void pipelined_RespondsInRequestOrder() {
+        // given
+        send("GET /first HTTP/1.1\r\nHost: localhost\r\n\r\n"
+                + "GET /second HTTP/1.1\r\nHost: localhost\r\n\r\n");
+
+        // when (두 번째 요청의 조회가 먼저 끝남)
+        lookups.get("second").complete("https://example.com/2");
+        channel.runPendingTasks();
+        assertThat((Object) channel.readOutbound()).isNull();
+        lookups.get("first").complete("https://example.com/1");
+        channel.runPendingTasks();
+
+        // then
+        assertThat(readResponse()).contains("Location: https://example.com/1\r\n");
+        assertThat(readResponse()).contains("Location: https://example.com/2\r\n");
+    }
+
+    @Test
+    @DisplayName("한 번 조회된 링크는 다시 조회하지 않고 미리 만든 응답을 쓴다")
+    void get_Twice_UsesHotResponse() {
+        // given
+        lookups.put("abc123", CompletableFuture.completedFuture("https://example.com/a"));
+        send("GET /abc123 HTTP/1.1\r\nHost: localhost\r\n\r\n");
+        readResponse();
+        lookups.put("abc123", CompletableFuture.completedFuture("https://changed.example.com"));
+
+        // when
+        send("GET /abc123 HTTP/1.1\r\nHost: localhost\r\n\r\n");
+
+        // then
+        assertThat(readResponse()).contains("Location: https://example.com/a\r\n");
+    }
+
+    @Test
+    @DisplayName("경로에서 쿼리 문자열을 제외한 단축코드를 꺼낸다")
+    void extractCode() {
+        assertThat(RedirectHandler.extractCode("/abc123")).isEqualTo("abc123");
+        assertThat(RedirectHandler.extractCode("/_4c92?utm=x")).isEqualTo("_4c92");
+        assertThat(RedirectHandler.extractCode("/")).isNull();
+        assertThat(RedirectHandler.extractCode("/a/b")).isNull();
+        assertThat(RedirectHandler.extractCode("/" + "a".repeat(65))).isNull();
+    }
+
+    private void send(String request) {
+        channel.writeInbound(Unpooled.copiedBuffer(request, StandardCharsets.US_ASCII));
+        channel.runPendingTasks();
+    }
+
+    private String readResponse() {
+        ByteBuf buf = channel.readOutbound();
+        assertThat(buf).isNotNull();
+        try {
+            return buf.toString(StandardCharsets.UTF_8);
+        } finally {
+            buf.release();
+        }
+    }
+}
@@ -0,0 +1,49 @@
+#!/bin/bash
+# 리다이렉션 쿼리 실행 계획/버퍼 비교 스크립트
+#
+# 무작위 단축코드 SAMPLES개로 리다이렉션 쿼리를 EXPLAIN (ANALYZE, BUFFERS) 하고
+# 스캔 방식(Index Scan / Index Only Scan)별 횟수, Heap Fetches, 공유 버퍼 hit/read 합계를 출력합니다.
+# 마이그레이션(V3, V4) 적용 전과 후에 각각 실행해 결과를 비교합니다. (docs/step2/phase7-index-only-scan.md)
+#
+# 사용법: ./scripts/explain-redirect-query.sh [라벨] [샘플 수]
+# 환경 변수 PSQL로 접속 명령을 바꿀 수 있습니다. (기본: 로컬 5432, DB bitly)
+# 결과는 ./explain-<라벨>.txt 에도 저장됩니다.
+
+PSQL=${PSQL:-"psql -h localhost -p 5432 -U ${POSTGRES_USER:-postgres} -d bitly"}
+LABEL=${1:-before}
+SAMPLES=${2:-200}
+OUT="explain-${LABEL}.txt"
+
+# 통계와 visibility map 갱신 (Index Only Scan 여부는 visibility map에 좌우됨)
+$PSQL -q -c "VACUUM (ANALYZE) url;"
+
+echo "== 인덱스 ($LABEL) ==" | tee "$OUT"
+$PSQL -At -c "SELECT indexname || ' ' || pg_size_pretty(pg_relation_size(indexname::regclass)) FROM pg_indexes WHERE tablename = 'url' ORDER BY indexname;" | tee -a "$OUT"
+
+CODES=$($PSQL -At -c "SELECT short_url FROM url TABLESAMPLE SYSTEM (1) LIMIT $SAMPLES;")
+
+PLANS=$(for code in $CODES; do
+    $PSQL -At -c "EXPLAIN (ANALYZE, BUFFERS, TIMING OFF, SUMMARY OFF) SELECT original_url FROM url WHERE short_url = '$code' AND (expiration_date IS NULL OR expiration_date > NOW());"
+done)
+
+echo "== 대표 실행 계획 ==" | tee -a "$OUT"
+$PSQL -At -c "EXPLAIN (ANALYZE, BUFFERS) SELECT original_url FROM url WHERE short_url = '$(echo "$CODES" | head -1)' AND (expiration_date IS NULL OR expiration_date > NOW());" | tee -a "$OUT"
+
+echo "== 요약 (${SAMPLES}회) ==" | tee -a "$OUT"
+echo "$PLANS" | awk '
+    /Index Only Scan/ { only++ }
+    /Index Scan/ && !/Index Only Scan/ { scan++ }
+    /Seq Scan/ { seq++ }
+    /Heap Fetches:/ { for (i = 1; i <= NF; i++) if ($i == "Fetches:") heap += $(i + 1) }
+    /Buffers: shared/ {
+        for (i = 1; i <= NF; i++) {
+            if ($i ~ /^hit=/) { split($i, v, "="); hit += v[2] }
+            if ($i ~ /^read=/) { split($i, v, "="); read += v[2] }
+        }
+    }
+    END {
+        printf "Index Only Scan: %d, Index Scan: %d, Seq Scan: %d\n", only, scan, seq
+        printf "Heap Fetches: %d\n", heap
+        queries = only + scan + seq
+        printf "shared hit: %d, shared read: %d (쿼리당 %.2f 페이지)\n", hit, read, queries > 0 ? (hit + read) / queries : 0
+    }' | tee -a "$OUT"
@@ -0,0 +1,49 @@
+#!/bin/bash
+# 리다이렉션 처리량 비교 스크립트 (Spring MVC 앱 vs redirect-server)
+#
+# Redis에 url:bench<i> 키로 링크 CODES개를 적재한 뒤, 같은 부하(wrk)를 두 서버의 GET /{code}에 보내
+# 초당 요청 수와 지연 분포를 비교합니다. 두 서버 모두 Redis 캐시 히트 경로만 측정합니다.
+# 부하 발생기와 서버가 CPU를 나눠 쓰지 않도록 wrk는 taskset으로 WRK_CPUS에 고정합니다.
+#
+# 사용법: ./scripts/redirect-server-bench.sh [코드 수] [연결 수] [시간]
+# 환경 변수:
+#   REDIS_CLI    Redis 접속 명령 (기본: 로컬 6379, DB 0 - 두 서버가 읽는 DB)
+#   APP_URL      Spring 앱 주소 (기본: http://localhost:8080)
+#   REDIRECT_URL redirect-server 주소 (기본: http://localhost:8081)
+#   WRK_CPUS     wrk를 고정할 CPU 목록 (기본: 0-1)
+# 주의: string 캐시 구조(app.cache.layout=string) 기준입니다. 적재한 bench 키는 TTL(1시간) 후 삭제됩니다.
+
+REDIS_CLI=${REDIS_CLI:-"redis-cli -h localhost -p 6379 -n 0"}
+APP_URL=${APP_URL:-"http://localhost:8080"}
+REDIRECT_URL=${REDIRECT_URL:-"http://localhost:8081"}
+WRK_CPUS=${WRK_CPUS:-"0-1"}
+CODES=${1:-10000}
+CONNECTIONS=${2:-256}
+DURATION=${3:-30s}
+SCRIPT="$(dirname "$0")/../redirect-server/bench/redirect.lua"
+URL="https://www.example.com/landing/spring-sale?utm_source=newsletter&utm_medium=email"
+
+SEED_SCRIPT="
+local n, url = tonumber(ARGV[1]), ARGV[2]
+for i = 0, n - 1 do
+    redis.call('SET', 'url:bench' .. i, url, 'EX', 3600)
+end
+return n"
+
+$REDIS_CLI EVAL "$SEED_SCRIPT" 0 "$CODES" "$URL" > /dev/null || exit 1
+echo "Seeded $CODES links, connections: $CONNECTIONS, duration: $DURATION"
+
+run() {
+    local label=$1
+    local target=$2
+
+    # 예열 (JIT, 미리 만든 응답 캐시)
+    taskset -c "$WRK_CPUS" wrk -t2 -c"$CONNECTIONS" -d10s -s "$SCRIPT" "$target" -- "$CODES" > /dev/null
+    # 정상 응답은 302이므로 Non-2xx 수가 전체 요청 수와 같아야 함
+    echo "== $label ($target) =="
+    taskset -c "$WRK_CPUS" wrk -t2 -c"$CONNECTIONS" -d"$DURATION" --latency -s "$SCRIPT" "$target" -- "$CODES" \
+        | grep -E 'Requests/sec|50%|90%|99%|Non-2xx|Socket errors'
+}
+
+run "spring-mvc" "$APP_URL"
+run "redirect-server" "$REDIRECT_URL"
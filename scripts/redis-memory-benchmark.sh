@@ -0,0 +1,75 @@
+#!/bin/bash
+# Redis URL 캐시 저장 구조별 메모리 사용량 비교 스크립트
+#
+# string 구조(url:<code> 키)와 hash 구조(urlh:<bucket> 해시 필드)에
+# 같은 수의 링크를 저장하고 링크당 사용 메모리(used_memory 증가분 / 링크 수)를 비교합니다.
+#
+# 사용법: ./scripts/redis-memory-benchmark.sh [링크 수] [버킷당 필드 수]
+# 환경 변수 REDIS_CLI로 접속 명령을 바꿀 수 있습니다. (기본: 로컬 6379, DB 15)
+# 주의: 대상 DB를 FLUSHDB 합니다. 운영 Redis에서 실행하지 마세요. hash 구조는 Redis 7.4 이상이 필요합니다.
+
+REDIS_CLI=${REDIS_CLI:-"redis-cli -h localhost -p 6379 -n 15"}
+LINKS=${1:-1000000}
+PER_BUCKET=${2:-100}
+BUCKETS=$(( (LINKS + PER_BUCKET - 1) / PER_BUCKET ))
+CHUNK=10000
+TTL=3600
+URL="https://www.example.com/landing/spring-sale?utm_source=newsletter&utm_medium=email&utm_campaign=2025_spring"
+
+used_memory() {
+    $REDIS_CLI INFO memory | grep '^used_memory:' | cut -d: -f2 | tr -d '\r'
+}
+
+# string 구조: 링크마다 SET url:<code> <url> EX <ttl>
+STRING_SCRIPT="
+local start, n, url, ttl = tonumber(ARGV[1]), tonumber(ARGV[2]), ARGV[3], ARGV[4]
+for i = start, start + n - 1 do
+    redis.call('SET', 'url:c' .. i, url, 'EX', ttl)
+end
+return n"
+
+# hash 구조: HSET urlh:<bucket> <code> <url> + 필드 TTL
+HASH_SCRIPT="
+local start, n, url, ttl, buckets = tonumber(ARGV[1]), tonumber(ARGV[2]), ARGV[3], ARGV[4], tonumber(ARGV[5])
+for i = start, start + n - 1 do
+    local key, field = 'urlh:' .. (i % buckets), 'c' .. i
+    redis.call('HSET', key, field, url)
+    redis.call('HEXPIRE', key, ttl, 'FIELDS', 1, field)
+end
+return n"
+
+run_layout() {
+    local layout=$1
+    local script=$2
+
+    $REDIS_CLI FLUSHDB > /dev/null
+    local before=$(used_memory)
+
+    local start=0
+    while [ $start -lt $LINKS ]; do
+        local n=$(( LINKS - start < CHUNK ? LINKS - start : CHUNK ))
+        $REDIS_CLI EVAL "$script" 0 $start $n "$URL" $TTL $BUCKETS > /dev/null || exit 1
+        start=$(( start + n ))
+    done
+
+    local after=$(used_memory)
+    local bytes=$(( after - before ))
+    echo "$layout: $(( bytes / 1024 / 1024 )) MB total, $(( bytes / LINKS )) bytes/link"
+}
+
+echo "Links: $LINKS, URL length: ${#URL}, buckets: $BUCKETS (~$PER_BUCKET fields/bucket)"
+
+run_layout "string" "$STRING_SCRIPT"
+
+# listpack 인코딩을 유지하도록 임계값 조정 (종료 후 원래 값 복구)
+original_value=$($REDIS_CLI CONFIG GET hash-max-listpack-value | tail -n 1)
+original_entries=$($REDIS_CLI CONFIG GET hash-max-listpack-entries | tail -n 1)
+$REDIS_CLI CONFIG SET hash-max-listpack-value 1024 > /dev/null
+$REDIS_CLI CONFIG SET hash-max-listpack-entries $(( PER_BUCKET * 2 )) > /dev/null
+
+run_layout "hash" "$HASH_SCRIPT"
+echo "hash bucket encoding: $($REDIS_CLI OBJECT ENCODING urlh:0)"
+
+$REDIS_CLI CONFIG SET hash-max-listpack-value "$original_value" > /dev/null
+$REDIS_CLI CONFIG SET hash-max-listpack-entries "$original_entries" > /dev/null
+$REDIS_CLI FLUSHDB > /dev/null
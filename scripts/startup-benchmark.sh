@@ -0,0 +1,105 @@
+#!/bin/bash
+# 기동 방식별 시작 시간/메모리 비교 스크립트
+#
+# 모드마다 애플리케이션을 새로 띄우고, 실행 시점부터 GET /<코드>가 처음 302를 응답할 때까지의 시간
+# (time-to-first-redirect)과 그 시점의 RSS를 측정합니다. 각 모드는 RUNS번 실행해 평균을 냅니다.
+#
+# 모드:
+#   jar    java -jar (기준)
+#   aot    Spring AOT 처리 결과 사용 (-Dspring.aot.enabled=true)
+#   cds    AOT + AppCDS 아카이브 (학습 실행으로 build/cds/app.jsa 생성)
+#   crac   CRaC 체크포인트에서 복원 (CRaC 지원 JDK 필요, CRAC_JAVA로 지정)
+#   native GraalVM 네이티브 이미지 (./gradlew nativeCompile 결과)
+#
+# 사용법: ./scripts/startup-benchmark.sh [모드...] (기본: jar aot cds)
+# 사전 준비: ./gradlew bootJar (native 모드는 ./gradlew nativeCompile), PostgreSQL/Redis 기동
+# 환경 변수:
+#   PROFILE   실행 프로파일 (기본: docker, processAot의 -PaotProfiles와 같아야 함)
+#   PSQL      테스트 링크를 넣을 psql 명령 (기본: 로컬 5432, DB bitly)
+#   RUNS      모드별 반복 횟수 (기본: 3)
+
+set -u
+
+PROFILE=${PROFILE:-docker}
+PSQL=${PSQL:-"psql -h localhost -p 5432 -U ${POSTGRES_USER:-postgres} -d bitly"}
+RUNS=${RUNS:-3}
+CRAC_JAVA=${CRAC_JAVA:-java}
+PORT=8080
+CODE=startupbench
+JAR=build/libs/bitly-good-0.0.1-SNAPSHOT.jar
+CDS_DIR=build/cds
+CRAC_DIR=build/crac
+NATIVE=build/native/nativeCompile/bitly-good
+MODES=${*:-"jar aot cds"}
+
+$PSQL -q -c "INSERT INTO url (short_url, original_url, created_at) VALUES ('$CODE', 'https://example.com/startup', NOW()) ON CONFLICT DO NOTHING;" || exit 1
+
+now_ms() {
+    echo $(( $(date +%s%N) / 1000000 ))
+}
+
+# 리스닝 중인 프로세스의 RSS(MB) (CRaC 복원은 PID가 바뀌므로 포트로 찾음)
+rss_mb() {
+    local pid=$(lsof -ti "tcp:$PORT" -sTCP:LISTEN | head -1)
+    awk '/VmRSS/ { printf "%d", $2 / 1024 }' "/proc/$pid/status"
+}
+
+stop_app() {
+    local pid=$(lsof -ti "tcp:$PORT" -sTCP:LISTEN | head -1)
+    [ -n "$pid" ] && kill "$pid" && while kill -0 "$pid" 2>/dev/null; do sleep 0.1; done
+}
+
+prepare() {
+    case $1 in
+        cds)
+            # jar를 풀고, 컨텍스트 refresh 직후 종료하는 학습 실행으로 로드된 클래스를 아카이브
+            rm -rf "$CDS_DIR"
+            java -Djarmode=tools -jar "$JAR" extract --destination "$CDS_DIR" > /dev/null || exit 1
+            java -XX:ArchiveClassesAtExit="$CDS_DIR/app.jsa" -Dspring.aot.enabled=true -Dspring.context.exit=onRefresh \
+                -jar "$CDS_DIR/bitly-good-0.0.1-SNAPSHOT.jar" --spring.profiles.active="$PROFILE" > /dev/null || exit 1
+            ;;
+        crac)
+            # refresh 직후 체크포인트를 만들고 프로세스 종료
+            rm -rf "$CRAC_DIR"
+            $CRAC_JAVA -XX:CRaCCheckpointTo="$CRAC_DIR" -Dspring.aot.enabled=true -Dspring.context.checkpoint=onRefresh \
+                -jar "$JAR" --spring.profiles.active="$PROFILE" > /dev/null
+            [ -d "$CRAC_DIR" ] || { echo "crac: checkpoint failed (CRaC JDK required)"; exit 1; }
+            ;;
+    esac
+}
+
+launch() {
+    case $1 in
+        jar) java -jar "$JAR" --spring.profiles.active="$PROFILE" ;;
+        aot) java -Dspring.aot.enabled=true -jar "$JAR" --spring.profiles.active="$PROFILE" ;;
+        cds) java -XX:SharedArchiveFile="$CDS_DIR/app.jsa" -Dspring.aot.enabled=true \
+                -jar "$CDS_DIR/bitly-good-0.0.1-SNAPSHOT.jar" --spring.profiles.active="$PROFILE" ;;
+        crac) $CRAC_JAVA -XX:CRaCRestoreFrom="$CRAC_DIR" ;;
+        native) "$NATIVE" --spring.profiles.active="$PROFILE" ;;
+    esac
+}
+
+printf "%-8s %12s %10s\n" "mode" "first(ms)" "rss(MB)"
+for mode in $MODES; do
+    prepare "$mode"
+    total_ms=0
+    total_rss=0
+    for run in $(seq "$RUNS"); do
+        start=$(now_ms)
+        launch "$mode" > "build/startup-$mode.log" 2>&1 &
+        until [ "$(curl -s -o /dev/null -w '%{http_code}' "http://localhost:$PORT/$CODE")" = "302" ]; do
+            if [ $(( $(now_ms) - start )) -gt 120000 ]; then
+                echo "$mode: no redirect within 120s (see build/startup-$mode.log)"
+                stop_app
+                exit 1
+            fi
+            sleep 0.01
+        done
+        elapsed=$(( $(now_ms) - start ))
+        rss=$(rss_mb)
+        stop_app
+        total_ms=$(( total_ms + elapsed ))
+        total_rss=$(( total_rss + rss ))
+    done
+    printf "%-8s %12d %10d\n" "$mode" $(( total_ms / RUNS )) $(( total_rss / RUNS ))
+done
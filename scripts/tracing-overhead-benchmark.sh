@@ -0,0 +1,52 @@
+#!/bin/bash
+# 트레이싱 설정별 리다이렉션 처리량/지연 비교 스크립트
+#
+# 같은 jar를 설정만 바꿔 차례로 띄우고, 같은 단축코드로 GET /<코드> 부하(wrk)를 보내
+# 초당 요청 수, 지연 분포, Zipkin으로 내보낸 스팬 수(tracing.tail.traces 메트릭)를 비교합니다.
+#
+# 설정:
+#   off        management.tracing.sampling.probability=0 (기준)
+#   full       모든 관측, 모든 스팬 내보내기 (기존 설정)
+#   tail       테일 샘플링 (app.tracing.tail.enabled=true)
+#   tail-hot   테일 샘플링 + 캐시/카운터 관측 제외
+#
+# 사용법: ./scripts/tracing-overhead-benchmark.sh [연결 수] [시간]
+# 사전 준비: ./gradlew bootJar, PostgreSQL/Redis/Zipkin 기동
+# 환경 변수: PSQL (테스트 링크를 넣을 psql 명령), WRK_CPUS (wrk 고정 CPU, 기본 0-1)
+
+PSQL=${PSQL:-"psql -h localhost -p 5432 -U ${POSTGRES_USER:-postgres} -d bitly"}
+WRK_CPUS=${WRK_CPUS:-"0-1"}
+CONNECTIONS=${1:-64}
+DURATION=${2:-30s}
+JAR=build/libs/bitly-good-0.0.1-SNAPSHOT.jar
+PORT=8080
+CODE=tracebench
+HOT="url.cache.getOriginalUrl,url.cache.getOriginalUrls,redis.counter.getNextCounter"
+
+$PSQL -q -c "INSERT INTO url (short_url, original_url, created_at) VALUES ('$CODE', 'https://example.com/tracing', NOW()) ON CONFLICT DO NOTHING;" || exit 1
+
+run() {
+    local label=$1
+    shift
+
+    java -jar "$JAR" --management.observations.annotations.enabled=true "$@" > "build/tracing-$label.log" 2>&1 &
+    local pid=$!
+    until [ "$(curl -s -o /dev/null -w '%{http_code}' "http://localhost:$PORT/$CODE")" = "302" ]; do
+        sleep 0.5
+    done
+
+    # 예열 후 측정
+    taskset -c "$WRK_CPUS" wrk -t2 -c"$CONNECTIONS" -d10s "http://localhost:$PORT/$CODE" > /dev/null
+    echo "== $label =="
+    taskset -c "$WRK_CPUS" wrk -t2 -c"$CONNECTIONS" -d"$DURATION" --latency "http://localhost:$PORT/$CODE" \
+        | grep -E 'Requests/sec|50%|99%'
+    curl -s "http://localhost:$PORT/actuator/prometheus" | grep '^tracing_tail_traces_total'
+
+    kill "$pid"
+    wait "$pid" 2>/dev/null
+}
+
+run off --management.tracing.sampling.probability=0 --app.tracing.tail.enabled=false
+run full --app.tracing.tail.enabled=false
+run tail --app.tracing.tail.enabled=true
+run tail-hot --app.tracing.tail.enabled=true --app.tracing.observations.disabled="$HOT"
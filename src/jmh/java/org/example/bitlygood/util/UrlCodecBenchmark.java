@@ -0,0 +1,66 @@
+package org.example.bitlygood.util;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * UrlCodec 인코딩/디코딩 성능 벤치마크
+ * 
+ * 리다이렉션 경로에서는 캐시 히트마다 decode가 한 번 호출되므로 decode 지연 시간이 중요합니다.
+ * 실행: ./gradlew jmh
+ * 
+ * 실행이 끝나면 URL 종류별 압축 전/후 UTF-8 바이트 수를 함께 출력합니다. (메모리 절감 추정용)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class UrlCodecBenchmark {
+
+    @Param({
+            "https://www.example.com/landing/spring-sale?utm_source=newsletter&utm_medium=email&utm_campaign=2025_spring",
+            "https://www.youtube.com/watch?v=dQw4w9WgXcQ",
+            "https://github.com/System-Deep-Dive/Bitly-kihong"
+    })
+    private String url;
+
+    private String encoded;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        encoded = UrlCodec.encode(url);
+    }
+
+    @TearDown(Level.Trial)
+    public void report() {
+        int before = url.getBytes(StandardCharsets.UTF_8).length;
+        int after = encoded.getBytes(StandardCharsets.UTF_8).length;
+        System.out.printf("%n[size] %d -> %d bytes (%.1f%%) %s%n", before, after, 100.0 * after / before, url);
+    }
+
+    @Benchmark
+    public String encode() {
+        return UrlCodec.encode(url);
+    }
+
+    @Benchmark
+    public String decode() {
+        return UrlCodec.decode(encoded);
+    }
+
+    @Benchmark
+    public String decodeLegacy() {
+        // 압축되지 않은 기존 값 (마커 검사만 수행)
+        return UrlCodec.decode(url);
+    }
+}
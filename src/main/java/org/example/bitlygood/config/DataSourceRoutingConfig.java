@@ -0,0 +1,105 @@
+package org.example.bitlygood.config;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.sql.DataSource;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * 읽기 복제본 라우팅 설정
+ * 
+ * app.datasource.replicas.enabled=true 일 때만 활성화되며,
+ * Spring Boot가 자동 구성하는 단일 DataSource 대신 라우팅 DataSource를 등록합니다.
+ * 
+ * 구성:
+ * - primaryDataSource: 기존 spring.datasource.* / spring.datasource.hikari.* 설정 그대로 사용
+ * - replica-N: app.datasource.replicas.nodes[N] 마다 별도 Hikari 풀
+ * - dataSource(@Primary): LazyConnectionDataSourceProxy → ReplicationRoutingDataSource
+ * 
+ * 쓰기와 일반 트랜잭션은 Primary, 읽기 전용 트랜잭션은 정상 복제본 중 하나로 라우팅됩니다.
+ */
+@Configuration
+@EnableConfigurationProperties(ReplicaDataSourceProperties.class)
+@ConditionalOnProperty(prefix = "app.datasource.replicas", name = "enabled", havingValue = "true")
+public class DataSourceRoutingConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    @Bean
+    public ReplicaDataSources replicaDataSources(DataSourceProperties primaryProperties,
+            ReplicaDataSourceProperties replicaProperties, MeterRegistry meterRegistry) {
+        Map<String, HikariDataSource> replicas = new LinkedHashMap<>();
+        List<ReplicaDataSourceProperties.Node> nodes = replicaProperties.getNodes();
+        for (int i = 0; i < nodes.size(); i++) {
+            ReplicaDataSourceProperties.Node node = nodes.get(i);
+            String key = "replica-" + i;
+
+            HikariDataSource replica = new HikariDataSource();
+            replica.setPoolName(key);
+            replica.setJdbcUrl(node.getUrl());
+            replica.setUsername(node.getUsername() != null ? node.getUsername() : primaryProperties.getUsername());
+            replica.setPassword(node.getPassword() != null ? node.getPassword() : primaryProperties.getPassword());
+            replica.setDriverClassName(primaryProperties.getDriverClassName());
+            replica.setMaximumPoolSize(replicaProperties.getMaximumPoolSize());
+            replica.setReadOnly(true);
+            replica.setMetricRegistry(meterRegistry);
+            replicas.put(key, replica);
+        }
+        return new ReplicaDataSources(replicas);
+    }
+
+    @Bean
+    public ReplicaSelector replicaSelector(ReplicaDataSources replicaDataSources,
+            ReplicaDataSourceProperties replicaProperties, MeterRegistry meterRegistry) {
+        ReplicaSelector selector = new ReplicaSelector(replicaDataSources.keys(), replicaProperties.getMaxLag());
+        for (String key : selector.getReplicaKeys()) {
+            Gauge.builder("db.replica.lag.seconds", selector, s -> s.getLagSeconds(key))
+                    .description("Replication lag of the replica (-1 when unhealthy)")
+                    .tag("replica", key)
+                    .register(meterRegistry);
+        }
+        return selector;
+    }
+
+    @Bean
+    public ReplicaHealthChecker replicaHealthChecker(ReplicaDataSources replicaDataSources,
+            ReplicaSelector replicaSelector) {
+        return new ReplicaHealthChecker(replicaDataSources.asMap(), replicaSelector);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(HikariDataSource primaryDataSource, ReplicaDataSources replicaDataSources,
+            ReplicaSelector replicaSelector) {
+        Map<Object, Object> targets = new HashMap<>(replicaDataSources.asMap());
+        targets.put(ReplicationRoutingDataSource.PRIMARY, primaryDataSource);
+
+        ReplicationRoutingDataSource routingDataSource = new ReplicationRoutingDataSource(replicaSelector);
+        routingDataSource.setTargetDataSources(targets);
+        routingDataSource.setDefaultTargetDataSource(primaryDataSource);
+        routingDataSource.afterPropertiesSet();
+
+        // 트랜잭션 시작 시점이 아닌 첫 쿼리 시점에 커넥션을 얻도록 하여 readOnly 플래그를 라우팅에 반영
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+}
@@ -0,0 +1,42 @@
+package org.example.bitlygood.config;
+
+import org.example.bitlygood.controller.UrlController;
+import org.example.bitlygood.domain.OriginalUrlConverter;
+import org.example.bitlygood.domain.Url;
+import org.example.bitlygood.service.RedisCounterService;
+import org.example.bitlygood.service.UrlCacheService;
+import org.example.bitlygood.service.UrlService;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+
+/**
+ * GraalVM 네이티브 이미지 런타임 힌트
+ *
+ * Spring AOT가 빈 정의와 프록시는 빌드 시점에 생성하지만, 리플렉션으로만 접근하는 타입은 직접 등록해야 합니다.
+ * - Url 엔티티, OriginalUrlConverter: Hibernate가 필드 접근과 기본 생성자로 사용
+ * - @Observed 클래스: ObservedAspect가 메서드의 @Observed 애노테이션을 리플렉션으로 읽음
+ *   (management.observations.annotations.enabled=true 일 때)
+ * - Flyway 마이그레이션 설정 파일(.sql.conf): Spring Boot 기본 힌트는 .sql만 포함
+ *
+ * Redis는 키와 값 모두 StringRedisSerializer를 사용하므로 직렬화용 리플렉션 힌트가 필요 없습니다.
+ * (JDK/Jackson 직렬화기로 바꾸면 값 타입을 여기에 추가해야 합니다)
+ */
+public class NativeRuntimeHints implements RuntimeHintsRegistrar {
+
+    @Override
+    public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+        hints.reflection()
+                .registerType(Url.class, MemberCategory.DECLARED_FIELDS,
+                        MemberCategory.INVOKE_DECLARED_CONSTRUCTORS, MemberCategory.INVOKE_PUBLIC_METHODS)
+                .registerType(OriginalUrlConverter.class, MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS,
+                        MemberCategory.INVOKE_PUBLIC_METHODS);
+
+        for (Class<?> observed : new Class<?>[] { UrlController.class, UrlService.class,
+                UrlCacheService.class, RedisCounterService.class }) {
+            hints.reflection().registerType(observed, MemberCategory.INTROSPECT_PUBLIC_METHODS);
+        }
+
+        hints.resources().registerPattern("db/migration/*.sql.conf");
+    }
+}
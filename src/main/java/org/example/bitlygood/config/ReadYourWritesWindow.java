@@ -0,0 +1,79 @@
+package org.example.bitlygood.config;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+/**
+ * Read-your-writes 구간 관리
+ * 
+ * 복제본은 Primary보다 늦게 반영되므로, 방금 생성한 단축코드를 바로 조회하면
+ * 복제본에서는 아직 보이지 않을 수 있습니다.
+ * 생성 직후 일정 시간 동안은 해당 단축코드의 DB 조회를 Primary로 보내기 위해
+ * 최근 생성된 단축코드와 구간 만료 시각을 기억합니다.
+ * 
+ * 복제본 라우팅이 비활성화되어 있으면 아무 것도 기록하지 않습니다.
+ * 
+ * 구간은 생성 요청을 처리한 노드에만 기록됩니다. 생성 직후의 조회가 다른 노드로 가면
+ * 그 노드는 복제본에서 조회하므로, 복제 지연(최대 app.datasource.replicas.max-lag) 동안 404가 날 수 있습니다.
+ * 생성 직후 바로 조회하는 클라이언트가 있다면 로드밸런서의 세션 고정(sticky session)으로 같은 노드에 보내야 합니다.
+ */
+@Component
+public class ReadYourWritesWindow {
+
+    // 만료된 항목 정리를 시도하는 크기 기준
+    private static final int PURGE_THRESHOLD = 10_000;
+
+    private final Map<String, Long> deadlines = new ConcurrentHashMap<>();
+
+    private final boolean enabled;
+    private final long windowNanos;
+
+    /**
+     * @param replicaProperties 복제본 설정 (DataSourceRoutingConfig가 활성화된 경우에만 등록됨)
+     */
+    public ReadYourWritesWindow(ObjectProvider<ReplicaDataSourceProperties> replicaProperties) {
+        ReplicaDataSourceProperties properties = replicaProperties.getIfAvailable();
+        this.enabled = properties != null && properties.isEnabled();
+        this.windowNanos = enabled ? properties.getReadYourWritesWindow().toNanos() : 0;
+    }
+
+    /**
+     * 단축코드가 방금 생성되었음을 기록합니다.
+     * 
+     * @param shortCode 생성된 단축코드
+     */
+    public void markWritten(String shortCode) {
+        if (!enabled) {
+            return;
+        }
+        long now = System.nanoTime();
+        if (deadlines.size() >= PURGE_THRESHOLD) {
+            deadlines.values().removeIf(deadline -> deadline - now < 0);
+        }
+        deadlines.put(shortCode, now + windowNanos);
+    }
+
+    /**
+     * 단축코드가 아직 read-your-writes 구간 안에 있는지 확인합니다.
+     * 
+     * @param shortCode 조회할 단축코드
+     * @return 구간 안이면 true (Primary에서 조회해야 함)
+     */
+    public boolean isWithinWindow(String shortCode) {
+        if (!enabled || deadlines.isEmpty()) {
+            return false;
+        }
+        Long deadline = deadlines.get(shortCode);
+        if (deadline == null) {
+            return false;
+        }
+        if (deadline - System.nanoTime() < 0) {
+            deadlines.remove(shortCode, deadline);
+            return false;
+        }
+        return true;
+    }
+}
@@ -0,0 +1,48 @@
+package org.example.bitlygood.config;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 읽기 복제본(Read Replica) 설정
+ * 
+ * app.datasource.replicas.* 프로퍼티를 바인딩합니다.
+ * 복제본의 사용자/비밀번호를 지정하지 않으면 Primary(spring.datasource.*) 값을 그대로 사용합니다.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.datasource.replicas")
+public class ReplicaDataSourceProperties {
+
+    // 복제본 라우팅 활성화 여부
+    private boolean enabled = false;
+
+    // 이 값보다 복제 지연이 큰 복제본은 라우팅 대상에서 제외
+    private Duration maxLag = Duration.ofSeconds(2);
+
+    // 헬스 체크 주기 (밀리초)
+    private long healthCheckIntervalMs = 5000;
+
+    // URL 생성 직후 해당 단축코드를 Primary에서 읽는 기간
+    private Duration readYourWritesWindow = Duration.ofSeconds(5);
+
+    // 복제본별 커넥션 풀 최대 크기
+    private int maximumPoolSize = 20;
+
+    // 복제본 목록
+    private List<Node> nodes = new ArrayList<>();
+
+    @Getter
+    @Setter
+    public static class Node {
+        private String url;
+        private String username;
+        private String password;
+    }
+}
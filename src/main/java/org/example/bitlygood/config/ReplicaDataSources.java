@@ -0,0 +1,36 @@
+package org.example.bitlygood.config;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import javax.sql.DataSource;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+/**
+ * 복제본 데이터소스 목록
+ * 
+ * 복제본 풀은 개별 DataSource 빈으로 등록하지 않습니다. (JPA, Flyway 등이 주입받지 않도록)
+ * 애플리케이션 종료 시 close()로 모든 풀을 닫습니다.
+ */
+public class ReplicaDataSources {
+
+    private final Map<String, HikariDataSource> dataSources;
+
+    public ReplicaDataSources(Map<String, HikariDataSource> dataSources) {
+        this.dataSources = Collections.unmodifiableMap(dataSources);
+    }
+
+    public Map<String, ? extends DataSource> asMap() {
+        return dataSources;
+    }
+
+    public List<String> keys() {
+        return List.copyOf(dataSources.keySet());
+    }
+
+    public void close() {
+        dataSources.values().forEach(HikariDataSource::close);
+    }
+}
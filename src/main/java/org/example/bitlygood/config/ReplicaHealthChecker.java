@@ -0,0 +1,57 @@
+package org.example.bitlygood.config;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.Map;
+
+import javax.sql.DataSource;
+
+import org.springframework.scheduling.annotation.Scheduled;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 복제본 헬스 체크
+ * 
+ * 주기적으로 각 복제본에 접속하여 복제 지연을 측정하고 ReplicaSelector에 반영합니다.
+ * 
+ * 복제 지연 측정:
+ * - 수신한 WAL을 모두 재생했다면 지연 0
+ * - 그렇지 않으면 마지막으로 재생한 트랜잭션 시각과 현재 시각의 차이
+ * (Primary에 쓰기가 없을 때 지연이 계속 커 보이는 문제를 피하기 위함)
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class ReplicaHealthChecker {
+
+    private static final String LAG_QUERY = "SELECT CASE "
+            + "WHEN pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0 "
+            + "ELSE COALESCE(EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()), 0) END";
+
+    private final Map<String, ? extends DataSource> replicas;
+    private final ReplicaSelector replicaSelector;
+
+    @Scheduled(fixedDelayString = "${app.datasource.replicas.health-check-interval-ms:5000}")
+    public void checkReplicas() {
+        replicas.forEach(this::checkReplica);
+    }
+
+    private void checkReplica(String key, DataSource dataSource) {
+        try (Connection connection = dataSource.getConnection();
+                Statement statement = connection.createStatement();
+                ResultSet resultSet = statement.executeQuery(LAG_QUERY)) {
+            double lagSeconds = resultSet.next() ? resultSet.getDouble(1) : 0;
+            boolean wasEligible = replicaSelector.isEligible(key);
+            replicaSelector.markHealthy(key, Duration.ofMillis((long) (lagSeconds * 1000)));
+            if (wasEligible != replicaSelector.isEligible(key)) {
+                log.info("Replica {} eligibility changed: {} (lag: {}s)", key, !wasEligible, lagSeconds);
+            }
+        } catch (Exception e) {
+            log.warn("Replica health check failed for {}: {}", key, e.getMessage());
+            replicaSelector.markUnhealthy(key);
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package org.example.bitlygood.config;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 복제본 선택기
+ * 
+ * 헬스 체크 결과(정상 여부, 복제 지연)를 보관하고, 읽기 요청마다 사용할 복제본을 고릅니다.
+ * 
+ * 선택 규칙:
+ * - 헬스 체크를 통과했고 복제 지연이 maxLag 이하인 복제본만 후보
+ * - 후보들 사이에서는 라운드 로빈으로 분산
+ * - 후보가 없으면 빈 값을 반환하여 Primary로 폴백
+ * 
+ * 첫 헬스 체크 전의 복제본은 후보에서 제외됩니다.
+ */
+public class ReplicaSelector {
+
+    private final List<String> replicaKeys;
+    private final Duration maxLag;
+    private final Map<String, ReplicaStatus> statuses = new ConcurrentHashMap<>();
+    private final AtomicInteger cursor = new AtomicInteger();
+
+    public ReplicaSelector(List<String> replicaKeys, Duration maxLag) {
+        this.replicaKeys = List.copyOf(replicaKeys);
+        this.maxLag = maxLag;
+    }
+
+    /**
+     * 읽기 요청을 보낼 복제본을 선택합니다.
+     * 
+     * @return 복제본 키 (사용 가능한 복제본이 없으면 빈 값)
+     */
+    public Optional<String> select() {
+        List<String> eligible = new ArrayList<>(replicaKeys.size());
+        for (String key : replicaKeys) {
+            if (isEligible(key)) {
+                eligible.add(key);
+            }
+        }
+        if (eligible.isEmpty()) {
+            return Optional.empty();
+        }
+        int index = Math.floorMod(cursor.getAndIncrement(), eligible.size());
+        return Optional.of(eligible.get(index));
+    }
+
+    public void markHealthy(String key, Duration lag) {
+        statuses.put(key, new ReplicaStatus(true, lag));
+    }
+
+    public void markUnhealthy(String key) {
+        statuses.put(key, new ReplicaStatus(false, null));
+    }
+
+    public boolean isEligible(String key) {
+        ReplicaStatus status = statuses.get(key);
+        return status != null && status.healthy() && status.lag().compareTo(maxLag) <= 0;
+    }
+
+    /**
+     * 마지막으로 측정된 복제 지연(초)을 반환합니다. 측정 실패 시 -1
+     */
+    public double getLagSeconds(String key) {
+        ReplicaStatus status = statuses.get(key);
+        if (status == null || !status.healthy()) {
+            return -1;
+        }
+        return status.lag().toMillis() / 1000.0;
+    }
+
+    public List<String> getReplicaKeys() {
+        return replicaKeys;
+    }
+
+    private record ReplicaStatus(boolean healthy, Duration lag) {
+    }
+}
@@ -0,0 +1,53 @@
+package org.example.bitlygood.config;
+
+import java.util.function.Supplier;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Primary/Replica 라우팅 데이터소스
+ * 
+ * 현재 트랜잭션이 읽기 전용(@Transactional(readOnly = true))이면 복제본으로,
+ * 그 외(쓰기 트랜잭션, 트랜잭션 없음)에는 Primary로 커넥션을 라우팅합니다.
+ * 
+ * 트랜잭션 시작 시점에는 readOnly 플래그가 아직 설정되지 않으므로
+ * 반드시 LazyConnectionDataSourceProxy로 감싸서 사용해야 합니다.
+ */
+public class ReplicationRoutingDataSource extends AbstractRoutingDataSource {
+
+    public static final String PRIMARY = "primary";
+
+    // Read-your-writes 구간 등 Primary 조회가 강제되는 경우를 표시
+    private static final ThreadLocal<Boolean> FORCE_PRIMARY = ThreadLocal.withInitial(() -> Boolean.FALSE);
+
+    private final ReplicaSelector replicaSelector;
+
+    public ReplicationRoutingDataSource(ReplicaSelector replicaSelector) {
+        this.replicaSelector = replicaSelector;
+    }
+
+    /**
+     * 주어진 작업을 Primary에서 실행합니다. (읽기 전용 트랜잭션이더라도)
+     * 
+     * @param action 실행할 작업
+     * @return 작업 결과
+     */
+    public static <T> T callOnPrimary(Supplier<T> action) {
+        boolean previous = FORCE_PRIMARY.get();
+        FORCE_PRIMARY.set(Boolean.TRUE);
+        try {
+            return action.get();
+        } finally {
+            FORCE_PRIMARY.set(previous);
+        }
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (FORCE_PRIMARY.get() || !TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return PRIMARY;
+        }
+        return replicaSelector.select().orElse(PRIMARY);
+    }
+}
@@ -0,0 +1,164 @@
+package org.example.bitlygood.config;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.LongSupplier;
+
+import org.example.bitlygood.util.TokenBucket;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.sdk.common.CompletableResultCode;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.opentelemetry.sdk.trace.export.SpanExporter;
+
+/**
+ * 테일 샘플링 스팬 익스포터
+ * 
+ * 헤드 샘플링(management.tracing.sampling.probability)은 요청 시작 시점에 결정하므로
+ * 느린 요청이나 오류 요청을 골라 남길 수 없습니다. 이 익스포터는 스팬을 트레이스 ID별로 모았다가
+ * 이 프로세스의 루트 스팬이 끝나면 트레이스 전체를 보고 내보낼지 결정합니다.
+ * 
+ * 결정 규칙 (위에서부터):
+ * 1. 스팬 중 하나라도 오류 상태이거나 outcome=SERVER_ERROR → 유지 (error)
+ * 2. 루트 스팬 소요 시간 >= slowThreshold → 유지 (slow)
+ * 3. 초당 tracesPerSecond개까지 유지 (sampled), 나머지는 버림 (dropped)
+ * 
+ * 루트 스팬이 오지 않은 트레이스는 pendingTimeout이 지나거나 maxPendingTraces를 넘으면 모은 스팬만으로 결정합니다.
+ * BatchSpanProcessor의 단일 워커 스레드에서 호출되므로 내부 상태는 synchronized로만 보호합니다.
+ */
+public class TailSamplingSpanExporter implements SpanExporter {
+
+    private static final AttributeKey<String> OUTCOME = AttributeKey.stringKey("outcome");
+
+    private final SpanExporter delegate;
+    private final TokenBucket sampledTraces;
+    private final long slowThresholdNanos;
+    private final int maxPendingTraces;
+    private final long pendingTimeoutNanos;
+    private final LongSupplier nanoClock;
+
+    // 트레이스 ID → 루트 스팬을 기다리는 스팬 (삽입 순서 = 오래된 순)
+    private final Map<String, PendingTrace> pending = new LinkedHashMap<>();
+
+    private final Counter errorTraces;
+    private final Counter slowTraces;
+    private final Counter sampledTraceCount;
+    private final Counter droppedTraces;
+
+    public TailSamplingSpanExporter(SpanExporter delegate, TracingSamplingProperties.Tail properties,
+            MeterRegistry meterRegistry) {
+        this(delegate, properties, meterRegistry, System::nanoTime);
+    }
+
+    TailSamplingSpanExporter(SpanExporter delegate, TracingSamplingProperties.Tail properties,
+            MeterRegistry meterRegistry, LongSupplier nanoClock) {
+        this.delegate = delegate;
+        this.sampledTraces = new TokenBucket(properties.getTracesPerSecond(),
+                Math.max(1, properties.getTracesPerSecond()));
+        this.slowThresholdNanos = properties.getSlowThreshold().toNanos();
+        this.maxPendingTraces = properties.getMaxPendingTraces();
+        this.pendingTimeoutNanos = properties.getPendingTimeout().toNanos();
+        this.nanoClock = nanoClock;
+        this.errorTraces = decisionCounter(meterRegistry, "error");
+        this.slowTraces = decisionCounter(meterRegistry, "slow");
+        this.sampledTraceCount = decisionCounter(meterRegistry, "sampled");
+        this.droppedTraces = decisionCounter(meterRegistry, "dropped");
+    }
+
+    @Override
+    public synchronized CompletableResultCode export(Collection<SpanData> spans) {
+        long now = nanoClock.getAsLong();
+        List<SpanData> kept = new ArrayList<>();
+        for (SpanData span : spans) {
+            PendingTrace trace = pending.computeIfAbsent(span.getTraceId(), traceId -> new PendingTrace(now));
+            trace.spans.add(span);
+            if (isLocalRoot(span)) {
+                pending.remove(span.getTraceId());
+                decide(trace, span, kept);
+            }
+        }
+        expire(now, kept);
+        return kept.isEmpty() ? CompletableResultCode.ofSuccess() : delegate.export(kept);
+    }
+
+    @Override
+    public CompletableResultCode flush() {
+        return delegate.flush();
+    }
+
+    @Override
+    public synchronized CompletableResultCode shutdown() {
+        List<SpanData> kept = new ArrayList<>();
+        pending.values().forEach(trace -> decide(trace, null, kept));
+        pending.clear();
+        if (!kept.isEmpty()) {
+            delegate.export(kept);
+        }
+        return delegate.shutdown();
+    }
+
+    synchronized int pendingTraceCount() {
+        return pending.size();
+    }
+
+    /**
+     * 오래 기다린 트레이스와 한도를 넘은 트레이스를 오래된 순으로 결정합니다.
+     */
+    private void expire(long now, List<SpanData> kept) {
+        Iterator<PendingTrace> it = pending.values().iterator();
+        while (it.hasNext()) {
+            PendingTrace trace = it.next();
+            if (pending.size() <= maxPendingTraces && now - trace.firstSeenNanos < pendingTimeoutNanos) {
+                break;
+            }
+            it.remove();
+            decide(trace, null, kept);
+        }
+    }
+
+    private void decide(PendingTrace trace, SpanData root, List<SpanData> kept) {
+        if (trace.spans.stream().anyMatch(TailSamplingSpanExporter::isError)) {
+            errorTraces.increment();
+        } else if (root != null && root.getEndEpochNanos() - root.getStartEpochNanos() >= slowThresholdNanos) {
+            slowTraces.increment();
+        } else if (sampledTraces.tryAcquire()) {
+            sampledTraceCount.increment();
+        } else {
+            droppedTraces.increment();
+            return;
+        }
+        kept.addAll(trace.spans);
+    }
+
+    private static boolean isLocalRoot(SpanData span) {
+        return !span.getParentSpanContext().isValid() || span.getParentSpanContext().isRemote();
+    }
+
+    private static boolean isError(SpanData span) {
+        return span.getStatus().getStatusCode() == StatusCode.ERROR
+                || "SERVER_ERROR".equals(span.getAttributes().get(OUTCOME));
+    }
+
+    private static Counter decisionCounter(MeterRegistry meterRegistry, String decision) {
+        return Counter.builder("tracing.tail.traces")
+                .description("Tail sampling decisions per trace")
+                .tag("decision", decision)
+                .register(meterRegistry);
+    }
+
+    private static final class PendingTrace {
+        final long firstSeenNanos;
+        final List<SpanData> spans = new ArrayList<>(4);
+
+        PendingTrace(long firstSeenNanos) {
+            this.firstSeenNanos = firstSeenNanos;
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package org.example.bitlygood.config;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.actuate.autoconfigure.tracing.SpanExporters;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.observation.ObservationPredicate;
+import io.opentelemetry.sdk.trace.export.SpanExporter;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 트레이스 샘플링 설정
+ * 
+ * 리다이렉션 한 건마다 HTTP 서버 관측과 캐시/카운터 관측이 각각 스팬을 만들고 Zipkin으로 내보내므로,
+ * 두 단계로 스팬 양을 줄입니다.
+ * 
+ * 1. 관측 생성 단계 (ObservationPredicate): app.tracing.observations.disabled에 있는 관측은 만들지 않고,
+ *    sample-rate가 지정된 관측은 그 비율만큼만 만듭니다. 스팬 생성 비용 자체가 사라지지만 해당 관측의 메트릭도 함께 사라집니다.
+ * 2. 내보내기 단계 (TailSamplingSpanExporter): 완료된 트레이스 중 느리거나 오류인 것은 항상,
+ *    나머지는 초당 app.tracing.tail.traces-per-second개까지만 Zipkin으로 보냅니다.
+ * 
+ * 테일 샘플링은 스팬이 기록되어야 결정할 수 있으므로 management.tracing.sampling.probability는 1.0으로 둡니다.
+ * 테일 샘플링은 app.tracing.tail.enabled=true 일 때만 적용됩니다.
+ */
+@Slf4j
+@Configuration
+@EnableConfigurationProperties(TracingSamplingProperties.class)
+public class TracingSamplingConfig {
+
+    @Bean
+    public ObservationPredicate hotPathObservationPredicate(TracingSamplingProperties properties) {
+        Set<String> disabled = Set.copyOf(properties.getObservations().getDisabled());
+        Map<String, Double> sampleRates = Map.copyOf(properties.getObservations().getSampleRate());
+        if (!disabled.isEmpty() || !sampleRates.isEmpty()) {
+            log.info("Observation sampling: disabled={}, sampleRate={}", disabled, sampleRates);
+        }
+        return (name, context) -> {
+            if (disabled.contains(name)) {
+                return false;
+            }
+            Double rate = sampleRates.get(name);
+            return rate == null || ThreadLocalRandom.current().nextDouble() < rate;
+        };
+    }
+
+    /**
+     * Spring Boot 기본 SpanExporters(모든 SpanExporter 빈)를 테일 샘플링 익스포터로 감쌉니다.
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "app.tracing.tail", name = "enabled", havingValue = "true")
+    public SpanExporters tailSamplingSpanExporters(ObjectProvider<SpanExporter> spanExporters,
+            TracingSamplingProperties properties, MeterRegistry meterRegistry) {
+        SpanExporter delegate = SpanExporter.composite(spanExporters.orderedStream().toList());
+        return SpanExporters.of(new TailSamplingSpanExporter(delegate, properties.getTail(), meterRegistry));
+    }
+}
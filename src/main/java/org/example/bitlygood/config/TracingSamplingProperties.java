@@ -0,0 +1,60 @@
+package org.example.bitlygood.config;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 트레이스 샘플링 설정
+ * 
+ * app.tracing.* 프로퍼티를 바인딩합니다.
+ * - observations.*: 관측(Observation) 자체를 끄거나 일부만 생성 (스팬 + 메트릭 모두 영향)
+ * - tail.*: 완료된 트레이스 단위로 내보낼지 결정 (느리거나 오류인 트레이스는 항상 유지)
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.tracing")
+public class TracingSamplingProperties {
+
+    private Observations observations = new Observations();
+
+    private Tail tail = new Tail();
+
+    @Getter
+    @Setter
+    public static class Observations {
+
+        // 생성하지 않을 관측 이름 (예: url.cache.getOriginalUrl)
+        private Set<String> disabled = new HashSet<>();
+
+        // 관측 이름별 생성 비율 (0.0 ~ 1.0, 지정하지 않은 관측은 항상 생성)
+        private Map<String, Double> sampleRate = new HashMap<>();
+    }
+
+    @Getter
+    @Setter
+    public static class Tail {
+
+        // 테일 샘플링 사용 여부 (false면 모든 스팬을 그대로 내보냄)
+        private boolean enabled = false;
+
+        // 느리지도 오류도 아닌 트레이스를 초당 최대 몇 개까지 내보낼지
+        private double tracesPerSecond = 20;
+
+        // 이 시간 이상 걸린 트레이스는 항상 유지
+        private Duration slowThreshold = Duration.ofMillis(200);
+
+        // 루트 스팬을 기다리는 트레이스 최대 수 (초과 시 가장 오래된 트레이스부터 결정)
+        private int maxPendingTraces = 10000;
+
+        // 루트 스팬이 이 시간 안에 끝나지 않으면 모은 스팬만으로 결정
+        private Duration pendingTimeout = Duration.ofSeconds(30);
+    }
+}
@@ -0,0 +1,77 @@
+package org.example.bitlygood.controller;
+
+import java.util.Map;
+
+import org.example.bitlygood.exception.AliasAlreadyExistsException;
+import org.example.bitlygood.exception.OverloadedException;
+import org.example.bitlygood.exception.ProfilingInProgressException;
+import org.example.bitlygood.exception.RateLimitExceededException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 전역 예외 처리기
+ * 
+ * 요청 검증 실패가 500 응답으로 노출되지 않도록 예외를 HTTP 상태 코드로 변환합니다.
+ * (리다이렉션 API는 컨트롤러에서 직접 404로 변환합니다)
+ */
+@Slf4j
+@RestControllerAdvice
+public class GlobalExceptionHandler {
+
+    /**
+     * alias 중복: 409 Conflict
+     */
+    @ExceptionHandler(AliasAlreadyExistsException.class)
+    public ResponseEntity<Map<String, Object>> handleAliasAlreadyExists(AliasAlreadyExistsException e) {
+        log.debug("Alias conflict: {}", e.getMessage());
+        return ResponseEntity.status(HttpStatus.CONFLICT)
+                .body(Map.of("status", HttpStatus.CONFLICT.value(), "message", e.getMessage()));
+    }
+
+    /**
+     * 잘못된 요청 데이터: 400 Bad Request
+     */
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<Map<String, Object>> handleIllegalArgument(IllegalArgumentException e) {
+        log.debug("Bad request: {}", e.getMessage());
+        return ResponseEntity.badRequest()
+                .body(Map.of("status", HttpStatus.BAD_REQUEST.value(), "message", e.getMessage()));
+    }
+
+    /**
+     * 다른 JFR 레코딩 진행 중: 409 Conflict
+     */
+    @ExceptionHandler(ProfilingInProgressException.class)
+    public ResponseEntity<Map<String, Object>> handleProfilingInProgress(ProfilingInProgressException e) {
+        return ResponseEntity.status(HttpStatus.CONFLICT)
+                .body(Map.of("status", HttpStatus.CONFLICT.value(), "message", e.getMessage()));
+    }
+
+    /**
+     * DB 동시 실행 한도 초과: 503 Service Unavailable + Retry-After
+     */
+    @ExceptionHandler(OverloadedException.class)
+    public ResponseEntity<Map<String, Object>> handleOverloaded(OverloadedException e) {
+        log.debug("Request shed: {}", e.getMessage());
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()))
+                .body(Map.of("status", HttpStatus.SERVICE_UNAVAILABLE.value(), "message", e.getMessage()));
+    }
+
+    /**
+     * 클라이언트별 생성 한도 초과: 429 Too Many Requests + Retry-After
+     */
+    @ExceptionHandler(RateLimitExceededException.class)
+    public ResponseEntity<Map<String, Object>> handleRateLimitExceeded(RateLimitExceededException e) {
+        log.debug("Rate limited: {}", e.getMessage());
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()))
+                .body(Map.of("status", HttpStatus.TOO_MANY_REQUESTS.value(), "message", e.getMessage()));
+    }
+}
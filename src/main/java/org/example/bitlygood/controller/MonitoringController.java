@@ -1,12 +1,26 @@
 package org.example.bitlygood.controller;
 
 import lombok.RequiredArgsConstructor;
+import org.example.bitlygood.service.LookupLatencyRecorder;
+import org.example.bitlygood.service.ProfilingService;
 import org.example.bitlygood.service.UrlCacheService;
+import org.springframework.core.io.InputStreamResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -22,6 +36,8 @@ import java.util.Map;
 public class MonitoringController {
 
     private final UrlCacheService urlCacheService;
+    private final LookupLatencyRecorder lookupLatencyRecorder;
+    private final ProfilingService profilingService;
 
     /**
      * 캐시 통계를 조회합니다.
@@ -71,4 +87,37 @@ public class MonitoringController {
             return ResponseEntity.status(503).body(health);
         }
     }
+
+    /**
+     * 원본 URL 조회 계층(local, redis, db)별 지연 시간 분포를 조회합니다.
+     * 
+     * 마지막 구간(app.latency.interval-ms)과 기동 이후 누적 값의 퍼센타일(ms)을 결과(hit, miss, error)별로 반환합니다.
+     * 
+     * @return 계층/결과별 p50, p90, p99, p99.9, max
+     */
+    @GetMapping("/latency")
+    public ResponseEntity<Map<String, Object>> getLatency() {
+        return ResponseEntity.ok(lookupLatencyRecorder.snapshot());
+    }
+
+    /**
+     * 지정한 시간 동안 JFR 레코딩을 만들고 파일로 내려받습니다.
+     * 
+     * 요청 스레드는 레코딩이 끝날 때까지 대기하며, 임시 파일은 전송 후 삭제됩니다.
+     * 예) curl -X POST -o app.jfr 'http://localhost:8080/admin/profiling/jfr?seconds=30'
+     * 
+     * @param seconds 레코딩 시간 (초, 최대 app.profiling.max-duration)
+     * @return .jfr 파일 (JDK Mission Control 또는 jfr print로 확인)
+     */
+    @PostMapping("/profiling/jfr")
+    public ResponseEntity<Resource> recordJfr(@RequestParam(defaultValue = "30") long seconds)
+            throws IOException, InterruptedException {
+        Path file = profilingService.record(Duration.ofSeconds(seconds));
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_OCTET_STREAM)
+                .contentLength(Files.size(file))
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename("bitly-" + System.currentTimeMillis() + ".jfr").build().toString())
+                .body(new InputStreamResource(Files.newInputStream(file, StandardOpenOption.DELETE_ON_CLOSE)));
+    }
 }
@@ -4,6 +4,10 @@ import org.example.bitlygood.controller.annotation.ApiCreated;
 import org.example.bitlygood.controller.annotation.ApiRedirect;
 import org.example.bitlygood.dto.CreateUrlRequest;
 import org.example.bitlygood.dto.CreateUrlResponse;
+import org.example.bitlygood.dto.ResolveUrlsRequest;
+import org.example.bitlygood.dto.ResolveUrlsResponse;
+import org.example.bitlygood.service.CreateRateLimiter;
+import org.example.bitlygood.service.TrafficBulkheads;
 import org.example.bitlygood.service.UrlService;
 import org.example.bitlygood.util.PathExclusionUtil;
 import org.springframework.http.HttpStatus;
@@ -18,6 +22,7 @@ import io.micrometer.observation.annotation.Observed;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 
 @RestController
@@ -27,15 +32,21 @@ import lombok.RequiredArgsConstructor;
 public class UrlController {
 
     private final UrlService urlService;
+    private final TrafficBulkheads trafficBulkheads;
+    private final CreateRateLimiter createRateLimiter;
 
     @Observed(name = "url.controller.createShortUrl", contextualName = "create-short-url-endpoint")
     @Operation(summary = "URL 단축 생성", description = "원본 URL을 단축 URL로 변환합니다. 사용자 지정 alias와 만료일을 설정할 수 있습니다.")
     @ApiCreated
     @PostMapping("/urls")
     public ResponseEntity<CreateUrlResponse> createShortUrl(
-            @Parameter(description = "URL 단축 요청 정보", required = true) @RequestBody CreateUrlRequest request) {
-        CreateUrlResponse response = urlService.createShortUrl(request);
-        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+            @Parameter(description = "URL 단축 요청 정보", required = true) @RequestBody CreateUrlRequest request,
+            HttpServletRequest httpRequest) {
+        createRateLimiter.acquire(httpRequest);
+        return trafficBulkheads.create(() -> {
+            CreateUrlResponse response = urlService.createShortUrl(request);
+            return ResponseEntity.status(HttpStatus.CREATED).body(response);
+        });
     }
 
     @Operation(summary = "URL 단축 생성 (간단 버전)", description = "기존 URL 단축 API (하위 호환성 유지). 새로운 createShortUrl API 사용을 권장합니다.", deprecated = true)
@@ -43,10 +54,23 @@ public class UrlController {
     @PostMapping("/urls/simple")
     @Deprecated
     public ResponseEntity<String> createShortUrlSimple(
-            @Parameter(description = "단축할 원본 URL", required = true) @RequestBody String originalUrl) {
+            @Parameter(description = "단축할 원본 URL", required = true) @RequestBody String originalUrl,
+            HttpServletRequest httpRequest) {
+        createRateLimiter.acquire(httpRequest);
         CreateUrlRequest request = new CreateUrlRequest(originalUrl, null, null);
-        CreateUrlResponse response = urlService.createShortUrl(request);
-        return ResponseEntity.status(HttpStatus.CREATED).body(response.getShortCode());
+        return trafficBulkheads.create(() -> {
+            CreateUrlResponse response = urlService.createShortUrl(request);
+            return ResponseEntity.status(HttpStatus.CREATED).body(response.getShortCode());
+        });
+    }
+
+    @Observed(name = "url.controller.resolveShortUrls", contextualName = "resolve-short-urls-endpoint")
+    @Operation(summary = "단축 URL 일괄 조회", description = "여러 단축코드의 원본 URL을 한 번에 조회합니다. 존재하지 않거나 만료된 코드는 notFound에 포함됩니다.")
+    @PostMapping("/urls/resolve")
+    public ResponseEntity<ResolveUrlsResponse> resolveShortUrls(
+            @Parameter(description = "조회할 단축코드 목록", required = true) @RequestBody ResolveUrlsRequest request) {
+        return trafficBulkheads.redirect(
+                () -> ResponseEntity.ok(urlService.resolveShortUrls(request.getShortCodes())));
     }
 
     @Observed(name = "url.controller.redirect", contextualName = "redirect-endpoint")
@@ -60,14 +84,16 @@ public class UrlController {
             return ResponseEntity.notFound().build();
         }
 
-        try {
-            String originalUrl = urlService.getOriginalUrl(shortUrl);
-            return ResponseEntity.status(HttpStatus.FOUND)
-                    .header("Location", originalUrl)
-                    .build();
-        } catch (IllegalArgumentException e) {
-            return ResponseEntity.notFound().build();
-        }
+        return trafficBulkheads.redirect(() -> {
+            try {
+                String originalUrl = urlService.getOriginalUrl(shortUrl);
+                return ResponseEntity.status(HttpStatus.FOUND)
+                        .header("Location", originalUrl)
+                        .<Void>build();
+            } catch (IllegalArgumentException e) {
+                return ResponseEntity.notFound().<Void>build();
+            }
+        });
     }
 
 }
@@ -0,0 +1,33 @@
+package org.example.bitlygood.domain;
+
+import org.example.bitlygood.util.UrlCodec;
+import org.springframework.beans.factory.annotation.Value;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+/**
+ * original_url 컬럼 압축 변환기
+ * 
+ * app.url-codec.storage.enabled=true 이면 저장 시 UrlCodec으로 압축하고,
+ * 조회 시에는 설정과 관계없이 항상 복원합니다. (압축되지 않은 기존 값은 그대로 반환)
+ * 따라서 설정을 켜고 끄더라도 이미 저장된 데이터를 읽는 데 문제가 없습니다.
+ * 
+ * Spring Boot가 Hibernate에 SpringBeanContainer를 설정하므로 @Value 주입이 동작합니다.
+ */
+@Converter
+public class OriginalUrlConverter implements AttributeConverter<String, String> {
+
+    @Value("${app.url-codec.storage.enabled:false}")
+    private boolean storageEncodingEnabled;
+
+    @Override
+    public String convertToDatabaseColumn(String originalUrl) {
+        return storageEncodingEnabled ? UrlCodec.encode(originalUrl) : originalUrl;
+    }
+
+    @Override
+    public String convertToEntityAttribute(String column) {
+        return UrlCodec.decode(column);
+    }
+}
@@ -1,6 +1,7 @@
 package org.example.bitlygood.domain;
 
 import jakarta.persistence.Column;
+import jakarta.persistence.Convert;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
@@ -13,9 +14,15 @@ import lombok.NoArgsConstructor;
 
 import java.time.LocalDateTime;
 
+/**
+ * 단축 URL 매핑
+ * 
+ * 스키마는 Flyway 마이그레이션(db/migration)으로 관리합니다.
+ * short_url / code_id 의 유일성과 리다이렉션 조회는 original_url, expiration_date 를 INCLUDE 한
+ * covering unique 인덱스(V3)가 담당하므로 별도 인덱스를 선언하지 않습니다.
+ */
 @Entity
 @Table(name = "url", indexes = {
-        @Index(name = "idx_url_short_url", columnList = "shortUrl"),
         @Index(name = "idx_url_expiration_date", columnList = "expirationDate"),
         @Index(name = "idx_url_created_at", columnList = "createdAt")
 })
@@ -28,11 +35,16 @@ public class Url {
     private Long id;
 
     @Column(nullable = false)
+    @Convert(converter = OriginalUrlConverter.class)
     private String originalUrl;
 
     @Column(nullable = false, unique = true)
     private String shortUrl;
 
+    // 카운터 기반 생성 코드의 카운터 값 (사용자 지정 alias는 null, GeneratedCode 참고)
+    @Column(unique = true)
+    private Long codeId;
+
     @Column
     private LocalDateTime expirationDate;
 
@@ -54,6 +66,10 @@ public class Url {
         this.shortUrl = shortUrl;
     }
 
+    public void setCodeId(Long codeId) {
+        this.codeId = codeId;
+    }
+
     public void setExpirationDate(LocalDateTime expirationDate) {
         this.expirationDate = expirationDate;
     }
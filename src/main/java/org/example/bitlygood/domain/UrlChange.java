@@ -0,0 +1,16 @@
+package org.example.bitlygood.domain;
+
+import java.time.LocalDateTime;
+
+/**
+ * 변경 피드로 전달되는 URL 매핑 (url 테이블의 한 행)
+ * 
+ * @param id             url.id (변경 피드 워터마크)
+ * @param shortUrl       단축코드
+ * @param originalUrl    원본 URL (복원된 값)
+ * @param expirationDate 만료일 (없으면 null)
+ * @param createdAt      생성 시각
+ */
+public record UrlChange(long id, String shortUrl, String originalUrl, LocalDateTime expirationDate,
+        LocalDateTime createdAt) {
+}
@@ -0,0 +1,18 @@
+package org.example.bitlygood.dto;
+
+import java.util.List;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Schema(description = "단축코드 일괄 조회 요청")
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ResolveUrlsRequest {
+
+    @Schema(description = "조회할 단축코드 목록", example = "[\"1A2B3C\", \"myalias\"]", required = true)
+    private List<String> shortCodes;
+}
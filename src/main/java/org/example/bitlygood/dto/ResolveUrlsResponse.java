@@ -0,0 +1,20 @@
+package org.example.bitlygood.dto;
+
+import java.util.List;
+import java.util.Map;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Schema(description = "단축코드 일괄 조회 응답")
+@Getter
+@AllArgsConstructor
+public class ResolveUrlsResponse {
+
+    @Schema(description = "단축코드 → 원본 URL", example = "{\"1A2B3C\": \"https://www.example.com/very/long/url\"}")
+    private Map<String, String> resolved;
+
+    @Schema(description = "존재하지 않거나 만료된 단축코드", example = "[\"unknown\"]")
+    private List<String> notFound;
+}
@@ -0,0 +1,14 @@
+package org.example.bitlygood.exception;
+
+/**
+ * 사용자 지정 alias가 이미 사용 중일 때 발생하는 예외
+ * 
+ * 잘못된 요청의 일종이므로 IllegalArgumentException을 상속하며,
+ * 컨트롤러에서는 409 Conflict 응답으로 변환됩니다.
+ */
+public class AliasAlreadyExistsException extends IllegalArgumentException {
+
+    public AliasAlreadyExistsException(String alias) {
+        super("Alias already exists: " + alias);
+    }
+}
@@ -0,0 +1,22 @@
+package org.example.bitlygood.exception;
+
+/**
+ * 동시 실행 제한을 넘어 요청을 바로 거부할 때 발생하는 예외
+ * 
+ * 커넥션 풀 대기열에 쌓이는 대신 즉시 실패시키기 위한 것이며,
+ * 컨트롤러에서는 503 Service Unavailable + Retry-After 응답으로 변환됩니다.
+ * 캐시 오류 처리(catch Exception)에서 삼키지 않도록 호출 경로에서 그대로 다시 던집니다.
+ */
+public class OverloadedException extends RuntimeException {
+
+    private final long retryAfterSeconds;
+
+    public OverloadedException(String resource, long retryAfterSeconds) {
+        super("Too many concurrent requests: " + resource);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
@@ -0,0 +1,13 @@
+package org.example.bitlygood.exception;
+
+/**
+ * 요청 시점에 다른 JFR 레코딩이 진행 중일 때 발생하는 예외
+ * 
+ * 컨트롤러에서는 409 Conflict 응답으로 변환됩니다.
+ */
+public class ProfilingInProgressException extends IllegalStateException {
+
+    public ProfilingInProgressException() {
+        super("A JFR recording is already in progress");
+    }
+}
@@ -0,0 +1,20 @@
+package org.example.bitlygood.exception;
+
+/**
+ * 클라이언트별 생성 요청 한도를 넘었을 때 발생하는 예외
+ * 
+ * 컨트롤러에서는 429 Too Many Requests + Retry-After 응답으로 변환됩니다.
+ */
+public class RateLimitExceededException extends RuntimeException {
+
+    private final long retryAfterSeconds;
+
+    public RateLimitExceededException(long retryAfterSeconds) {
+        super("Rate limit exceeded, retry after " + retryAfterSeconds + "s");
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
@@ -0,0 +1,436 @@
+package org.example.bitlygood.repository;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.zip.CRC32;
+
+import org.example.bitlygood.domain.Url;
+import org.example.bitlygood.domain.UrlChange;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Repository;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 내장 단일 노드 UrlStore (app.store.type=embedded)
+ *
+ * 외부 DB 없이 소규모 배포나 부하 테스트를 실행하기 위한 저장소입니다.
+ * 모든 변경은 로컬 디스크의 추가 전용 로그(urls.log)에 기록하고, 조회는 메모리 인덱스에서만 처리합니다.
+ *
+ * 로그 레코드: length(4) | crc32(4) | payload
+ * - PUT: type(1) | id(8) | code(UTF) | url(UTF) | expiresAt(8, 없으면 -1) | createdAt(8)
+ * - DELETE: type(1) | code(UTF)
+ *
+ * 기동 시 로그를 처음부터 재생해 인덱스를 만들고, 마지막 레코드가 잘려 있거나 CRC가 맞지 않으면
+ * 그 위치에서 로그를 잘라냅니다. (쓰기 도중 프로세스가 종료된 경우)
+ * 쓰기는 한 스레드씩 순서대로 append 하며, 기본값은 OS 페이지 캐시까지만 쓰므로 프로세스 장애에는 안전하지만
+ * 전원 장애까지 보장하려면 app.store.embedded.sync-on-write=true 로 매 쓰기마다 fsync 합니다.
+ *
+ * 쓰기가 실패하면(디스크 가득 참 등) 로그를 쓰기 전 길이로 되돌려, 잘린 레코드 뒤에 이후 쓰기가 이어 붙지 않게 합니다.
+ * (재시작 시 잘린 레코드에서 로그를 잘라내므로 그 뒤의 쓰기가 함께 사라짐)
+ * 되돌리기까지 실패하면 저장소를 읽기 전용으로 바꾸고 이후 쓰기를 거부합니다.
+ *
+ * 삭제되거나 덮어쓴 레코드가 로그의 compact-ratio 이상을 차지하면 살아 있는 매핑만으로 로그를 다시 씁니다.
+ */
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "app.store", name = "type", havingValue = "embedded")
+public class EmbeddedUrlStore implements UrlStore {
+
+    private static final String LOG_FILE = "urls.log";
+    private static final byte TYPE_PUT = 1;
+    private static final byte TYPE_DELETE = 2;
+    private static final int HEADER_BYTES = 8;
+    private static final long NO_EXPIRATION = -1;
+
+    private final MeterRegistry meterRegistry;
+
+    @Value("${app.store.embedded.directory:./data/store}")
+    private String directory;
+
+    @Value("${app.store.embedded.sync-on-write:false}")
+    private boolean syncOnWrite;
+
+    @Value("${app.store.embedded.compact-ratio:0.5}")
+    private double compactRatio;
+
+    @Value("${app.store.embedded.compact-min-bytes:67108864}")
+    private long compactMinBytes;
+
+    // 단축코드 → 매핑, id → 단축코드 (scan 순서용)
+    private final Map<String, Entry> byCode = new ConcurrentHashMap<>();
+    private final ConcurrentSkipListMap<Long, String> byId = new ConcurrentSkipListMap<>();
+
+    // 아래 필드는 this 잠금 안에서만 변경
+    private FileChannel channel;
+    private long lastId;
+    private long logBytes;
+    private long liveBytes;
+    private boolean readOnly;
+
+    @PostConstruct
+    public void init() throws IOException {
+        Path dir = Paths.get(directory);
+        Files.createDirectories(dir);
+        Path file = dir.resolve(LOG_FILE);
+        channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE);
+        replay();
+
+        Gauge.builder("url.store.embedded.entries", byCode, Map::size)
+                .description("Mappings held by the embedded store")
+                .register(meterRegistry);
+        Gauge.builder("url.store.embedded.log.bytes", this, store -> store.logBytes)
+                .description("Size of the embedded store append log")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        log.info("Embedded URL store opened: {} entries, {} bytes in {}", byCode.size(), logBytes, file);
+    }
+
+    @PreDestroy
+    public synchronized void close() throws IOException {
+        if (channel != null && channel.isOpen()) {
+            channel.force(true);
+            channel.close();
+        }
+    }
+
+    @Override
+    public synchronized void put(Url url) {
+        if (byCode.containsKey(url.getShortUrl())) {
+            // PostgreSQL의 unique 제약 위반과 같은 예외
+            throw new DuplicateKeyException("Short URL already exists: " + url.getShortUrl());
+        }
+        long createdAt = toMillis(url.getCreatedAt() != null ? url.getCreatedAt() : LocalDateTime.now());
+        long expiresAt = url.getExpirationDate() != null ? toMillis(url.getExpirationDate()) : NO_EXPIRATION;
+        Entry entry = new Entry(++lastId, url.getOriginalUrl(), expiresAt, createdAt, 0);
+        append(url.getShortUrl(), entry);
+    }
+
+    @Override
+    public synchronized boolean putIfAbsent(String shortUrl, String originalUrl, LocalDateTime expirationDate,
+            LocalDateTime createdAt) {
+        if (byCode.containsKey(shortUrl)) {
+            return false;
+        }
+        long expiresAt = expirationDate != null ? toMillis(expirationDate) : NO_EXPIRATION;
+        append(shortUrl, new Entry(++lastId, originalUrl, expiresAt, toMillis(createdAt), 0));
+        return true;
+    }
+
+    @Override
+    public Optional<String> get(String shortUrl) {
+        Entry entry = byCode.get(shortUrl);
+        if (entry == null || entry.isExpired(toMillis(LocalDateTime.now()))) {
+            return Optional.empty();
+        }
+        return Optional.of(entry.originalUrl());
+    }
+
+    @Override
+    public Map<String, String> getAll(Collection<String> shortUrls) {
+        long now = toMillis(LocalDateTime.now());
+        Map<String, String> result = new HashMap<>(shortUrls.size() * 2);
+        for (String shortUrl : shortUrls) {
+            Entry entry = byCode.get(shortUrl);
+            if (entry != null && !entry.isExpired(now)) {
+                result.put(shortUrl, entry.originalUrl());
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public synchronized List<String> deleteExpired(LocalDateTime now, int limit) {
+        long nowMillis = toMillis(now);
+        List<String> deleted = new ArrayList<>();
+        for (Map.Entry<String, Entry> e : byCode.entrySet()) {
+            if (deleted.size() >= limit) {
+                break;
+            }
+            if (e.getValue().isExpired(nowMillis)) {
+                deleted.add(e.getKey());
+            }
+        }
+        for (String shortUrl : deleted) {
+            writeRecord(deleteRecord(shortUrl));
+            Entry removed = byCode.remove(shortUrl);
+            byId.remove(removed.id());
+            liveBytes -= removed.recordBytes();
+        }
+        return deleted;
+    }
+
+    @Override
+    public List<UrlChange> scan(long afterId, int limit) {
+        List<UrlChange> result = new ArrayList<>(Math.min(limit, 1024));
+        for (Map.Entry<Long, String> e : byId.tailMap(afterId, false).entrySet()) {
+            if (result.size() >= limit) {
+                break;
+            }
+            Entry entry = byCode.get(e.getValue());
+            if (entry != null && entry.id() == e.getKey()) {
+                result.add(new UrlChange(entry.id(), e.getValue(), entry.originalUrl(),
+                        entry.expiresAt() == NO_EXPIRATION ? null : toLocalDateTime(entry.expiresAt()),
+                        toLocalDateTime(entry.createdAt())));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 죽은 레코드 비율이 compact-ratio를 넘으면 살아 있는 매핑만으로 로그를 다시 씁니다.
+     *
+     * 재작성 중에는 쓰기가 대기하지만 조회는 메모리 인덱스에서 계속 처리됩니다.
+     */
+    @Scheduled(fixedDelayString = "${app.store.embedded.compact-check-interval-ms:60000}")
+    public synchronized void compact() {
+        if (channel == null || logBytes < compactMinBytes || liveBytes > logBytes * (1 - compactRatio)) {
+            return;
+        }
+        compactNow();
+    }
+
+    synchronized void compactNow() {
+        Path file = Paths.get(directory).resolve(LOG_FILE);
+        Path tmp = file.resolveSibling(LOG_FILE + ".tmp");
+        long before = logBytes;
+        try (FileChannel out = FileChannel.open(tmp, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            long written = 0;
+            for (Map.Entry<Long, String> e : byId.entrySet()) {
+                Entry entry = byCode.get(e.getValue());
+                ByteBuffer record = putRecord(e.getValue(), entry);
+                while (record.hasRemaining()) {
+                    written += out.write(record);
+                }
+            }
+            out.force(true);
+            channel.close();
+            try {
+                Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (IOException e) {
+                // 기존 로그는 그대로 남아 있으므로 다시 열어 쓰기를 이어감
+                reopen(file, before);
+                Files.deleteIfExists(tmp);
+                throw e;
+            }
+            reopen(file, written);
+            logBytes = written;
+            liveBytes = written;
+            log.info("Embedded URL store compacted: {} -> {} bytes", before, written);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to compact embedded URL store", e);
+        }
+    }
+
+    private void reopen(Path file, long position) throws IOException {
+        channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        channel.position(position);
+    }
+
+    int size() {
+        return byCode.size();
+    }
+
+    /**
+     * 레코드를 로그에 쓰고 인덱스에 반영합니다. (this 잠금 안에서 호출)
+     */
+    private void append(String shortUrl, Entry entry) {
+        ByteBuffer record = putRecord(shortUrl, entry);
+        Entry withSize = entry.withRecordBytes(record.remaining());
+        writeRecord(record);
+        Entry previous = byCode.put(shortUrl, withSize);
+        if (previous != null) {
+            byId.remove(previous.id());
+            liveBytes -= previous.recordBytes();
+        }
+        byId.put(withSize.id(), shortUrl);
+        liveBytes += withSize.recordBytes();
+    }
+
+    private void writeRecord(ByteBuffer record) {
+        if (readOnly) {
+            throw new IllegalStateException("Embedded URL store is read-only after a failed write; restart to recover");
+        }
+        long start = logBytes;
+        int length = record.remaining();
+        try {
+            while (record.hasRemaining()) {
+                channel.write(record);
+            }
+            if (syncOnWrite) {
+                channel.force(false);
+            }
+            logBytes = start + length;
+        } catch (IOException e) {
+            rollback(start);
+            throw new UncheckedIOException("Failed to append to embedded URL store", e);
+        }
+    }
+
+    /**
+     * 실패한 쓰기의 일부가 로그에 남지 않도록 쓰기 전 길이로 되돌립니다.
+     */
+    private void rollback(long position) {
+        try {
+            channel.truncate(position);
+            channel.position(position);
+        } catch (IOException | RuntimeException e) {
+            readOnly = true;
+            log.error("Failed to roll back embedded URL store log to {} bytes; store is now read-only", position, e);
+        }
+    }
+
+    /**
+     * 로그를 처음부터 읽어 인덱스를 복원합니다. 손상된 꼬리는 잘라냅니다.
+     */
+    private void replay() throws IOException {
+        long size = channel.size();
+        long position = 0;
+        ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES);
+        while (position + HEADER_BYTES <= size) {
+            header.clear();
+            channel.read(header, position);
+            header.flip();
+            int length = header.getInt();
+            int crc = header.getInt();
+            if (length <= 0 || position + HEADER_BYTES + length > size) {
+                break;
+            }
+            ByteBuffer payload = ByteBuffer.allocate(length);
+            channel.read(payload, position + HEADER_BYTES);
+            if (crc(payload.array()) != crc) {
+                break;
+            }
+            apply(payload.array(), HEADER_BYTES + length);
+            position += HEADER_BYTES + length;
+        }
+        if (position < size) {
+            log.warn("Embedded URL store log truncated at {} of {} bytes (incomplete trailing record)", position, size);
+            channel.truncate(position);
+        }
+        channel.position(position);
+        logBytes = position;
+    }
+
+    private void apply(byte[] payload, int recordBytes) throws IOException {
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(payload));
+        byte type = in.readByte();
+        if (type == TYPE_PUT) {
+            long id = in.readLong();
+            String shortUrl = in.readUTF();
+            Entry entry = new Entry(id, in.readUTF(), in.readLong(), in.readLong(), recordBytes);
+            Entry previous = byCode.put(shortUrl, entry);
+            if (previous != null) {
+                byId.remove(previous.id());
+                liveBytes -= previous.recordBytes();
+            }
+            byId.put(id, shortUrl);
+            liveBytes += recordBytes;
+            lastId = Math.max(lastId, id);
+        } else if (type == TYPE_DELETE) {
+            Entry removed = byCode.remove(in.readUTF());
+            if (removed != null) {
+                byId.remove(removed.id());
+                liveBytes -= removed.recordBytes();
+            }
+        }
+    }
+
+    private static ByteBuffer putRecord(String shortUrl, Entry entry) {
+        return frame(out -> {
+            out.writeByte(TYPE_PUT);
+            out.writeLong(entry.id());
+            out.writeUTF(shortUrl);
+            out.writeUTF(entry.originalUrl());
+            out.writeLong(entry.expiresAt());
+            out.writeLong(entry.createdAt());
+        });
+    }
+
+    private static ByteBuffer deleteRecord(String shortUrl) {
+        return frame(out -> {
+            out.writeByte(TYPE_DELETE);
+            out.writeUTF(shortUrl);
+        });
+    }
+
+    private static ByteBuffer frame(PayloadWriter writer) {
+        try {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream(128);
+            writer.write(new DataOutputStream(bytes));
+            byte[] payload = bytes.toByteArray();
+            ByteBuffer record = ByteBuffer.allocate(HEADER_BYTES + payload.length);
+            record.putInt(payload.length).putInt(crc(payload)).put(payload).flip();
+            return record;
+        } catch (IOException e) {
+            // writeUTF는 65535바이트를 넘는 문자열에서 실패
+            throw new IllegalArgumentException("URL mapping too large for embedded store", e);
+        }
+    }
+
+    private static int crc(byte[] payload) {
+        CRC32 crc = new CRC32();
+        crc.update(payload);
+        return (int) crc.getValue();
+    }
+
+    private static long toMillis(LocalDateTime time) {
+        return time.toInstant(ZoneOffset.UTC).toEpochMilli();
+    }
+
+    private static LocalDateTime toLocalDateTime(long millis) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(millis), ZoneOffset.UTC);
+    }
+
+    @FunctionalInterface
+    private interface PayloadWriter {
+        void write(DataOutputStream out) throws IOException;
+    }
+
+    /**
+     * 메모리 인덱스 항목 (expiresAt/createdAt은 LocalDateTime을 UTC로 간주한 epoch millis)
+     */
+    private record Entry(long id, String originalUrl, long expiresAt, long createdAt, int recordBytes) {
+
+        boolean isExpired(long nowMillis) {
+            return expiresAt != NO_EXPIRATION && expiresAt < nowMillis;
+        }
+
+        Entry withRecordBytes(int bytes) {
+            return new Entry(id, originalUrl, expiresAt, createdAt, bytes);
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package org.example.bitlygood.repository;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.example.bitlygood.domain.Url;
+import org.example.bitlygood.domain.UrlChange;
+import org.example.bitlygood.util.GeneratedCode;
+import org.example.bitlygood.util.UrlCodec;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * PostgreSQL 기반 UrlStore (기본 구현)
+ *
+ * 기존 JPA UrlRepository와 JdbcTemplate 쿼리에 위임합니다.
+ * 읽기 메서드는 UrlRepository의 읽기 전용 트랜잭션을 그대로 사용하므로 복제본 라우팅이 유지됩니다.
+ * 생성 코드(GeneratedCode)는 short_url 대신 code_id 정수 인덱스로 조회합니다.
+ */
+@Repository
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "app.store", name = "type", havingValue = "postgres", matchIfMissing = true)
+public class PostgresUrlStore implements UrlStore {
+
+    private final UrlRepository urlRepository;
+
+    @Override
+    public void put(Url url) {
+        // 한 번 쓰고 바뀌지 않는 매핑이므로 영속성 컨텍스트 없이 INSERT 한 문장으로 저장
+        urlRepository.insert(url.getShortUrl(), url.getOriginalUrl(), url.getCodeId(),
+                url.getExpirationDate(), url.getCreatedAt());
+    }
+
+    @Override
+    public boolean putIfAbsent(String shortUrl, String originalUrl, LocalDateTime expirationDate,
+            LocalDateTime createdAt) {
+        return urlRepository.insertIfAbsent(shortUrl, originalUrl, expirationDate, createdAt);
+    }
+
+    @Override
+    public Optional<String> get(String shortUrl) {
+        // 생성 코드는 code_id(BIGINT)로 조회
+        long codeId = GeneratedCode.decode(shortUrl);
+        Optional<String> originalUrl = codeId >= 0
+                ? urlRepository.findOriginalUrlByCodeIdNotExpired(codeId)
+                : urlRepository.findOriginalUrlByShortUrlNotExpired(shortUrl);
+        // 네이티브 쿼리는 컨버터를 거치지 않으므로 직접 복원
+        return originalUrl.map(UrlCodec::decode);
+    }
+
+    @Override
+    public Map<String, String> getAll(Collection<String> shortUrls) {
+        Map<Long, String> generated = new HashMap<>();
+        List<String> others = new ArrayList<>(shortUrls.size());
+        for (String shortUrl : shortUrls) {
+            long codeId = GeneratedCode.decode(shortUrl);
+            if (codeId >= 0) {
+                generated.put(codeId, shortUrl);
+            } else {
+                others.add(shortUrl);
+            }
+        }
+        if (generated.isEmpty()) {
+            return urlRepository.findOriginalUrlsByShortUrlsNotExpired(others);
+        }
+
+        Map<String, String> result = others.isEmpty()
+                ? new HashMap<>(generated.size() * 2)
+                : urlRepository.findOriginalUrlsByShortUrlsNotExpired(others);
+        urlRepository.findOriginalUrlsByCodeIdsNotExpired(generated.keySet())
+                .forEach((codeId, originalUrl) -> result.put(generated.get(codeId), originalUrl));
+        return result;
+    }
+
+    @Override
+    @Transactional
+    public List<String> deleteExpired(LocalDateTime now, int limit) {
+        return urlRepository.deleteExpiredReturningShortUrls(now, limit);
+    }
+
+    @Override
+    public List<UrlChange> scan(long afterId, int limit) {
+        return urlRepository.findChangesAfterId(afterId, limit);
+    }
+}
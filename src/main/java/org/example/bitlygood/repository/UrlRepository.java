@@ -9,8 +9,10 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
-public interface UrlRepository extends JpaRepository<Url, Long> {
+public interface UrlRepository extends JpaRepository<Url, Long>, UrlRepositoryCustom {
+    @Transactional(readOnly = true)
     Optional<Url> findByShortUrl(String shortUrl);
 
     /**
@@ -19,6 +21,7 @@ public interface UrlRepository extends JpaRepository<Url, Long> {
      * @param shortUrl 확인할 단축코드
      * @return 존재하면 true, 존재하지 않으면 false
      */
+    @Transactional(readOnly = true)
     boolean existsByShortUrl(String shortUrl);
 
     /**
@@ -54,10 +57,32 @@ public interface UrlRepository extends JpaRepository<Url, Long> {
     /**
      * 단축코드로 원본 URL만 조회합니다. (최적화된 쿼리)
      * 만료 체크도 DB 레벨에서 수행합니다.
+     * 읽기 전용 트랜잭션으로 실행되므로 복제본 라우팅이 활성화되어 있으면 복제본에서 조회됩니다.
      * 
      * @param shortUrl 단축코드
      * @return 원본 URL (Optional)
      */
+    @Transactional(readOnly = true)
     @Query(value = "SELECT original_url FROM url WHERE short_url = :shortUrl AND (expiration_date IS NULL OR expiration_date > NOW())", nativeQuery = true)
     Optional<String> findOriginalUrlByShortUrlNotExpired(@Param("shortUrl") String shortUrl);
+
+    /**
+     * 생성 코드의 카운터 값(code_id)으로 원본 URL만 조회합니다.
+     * short_url 문자열 인덱스 대신 BIGINT unique 인덱스를 사용합니다.
+     * 
+     * @param codeId 생성 코드에서 꺼낸 카운터 값
+     * @return 원본 URL (Optional)
+     */
+    @Transactional(readOnly = true)
+    @Query(value = "SELECT original_url FROM url WHERE code_id = :codeId AND (expiration_date IS NULL OR expiration_date > NOW())", nativeQuery = true)
+    Optional<String> findOriginalUrlByCodeIdNotExpired(@Param("codeId") long codeId);
+
+    /**
+     * 가장 큰 url.id를 조회합니다. (변경 피드의 시작 워터마크)
+     * 
+     * @return 최대 id (행이 없으면 0)
+     */
+    @Transactional(readOnly = true)
+    @Query("SELECT COALESCE(MAX(u.id), 0) FROM Url u")
+    long findMaxId();
 }
@@ -0,0 +1,121 @@
+package org.example.bitlygood.repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+import org.example.bitlygood.domain.UrlChange;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * JPA 쿼리 메서드로 표현하기 어려운 URL 쿼리 (JdbcTemplate 기반)
+ */
+public interface UrlRepositoryCustom {
+
+    /**
+     * URL 매핑을 단일 INSERT 문으로 저장합니다. (JPA 엔티티를 만들지 않음)
+     * 
+     * 트랜잭션 밖에서 호출하면 문장 실행 동안만 커넥션을 사용하고 바로 반환합니다.
+     * 
+     * @param shortUrl       단축코드
+     * @param originalUrl    원본 URL
+     * @param codeId         생성 코드의 카운터 값 (alias 또는 정수 조회 모드가 아니면 null)
+     * @param expirationDate 만료일 (없으면 null)
+     * @param createdAt      생성 시각
+     */
+    void insert(String shortUrl, String originalUrl, Long codeId, LocalDateTime expirationDate,
+            LocalDateTime createdAt);
+
+    /**
+     * 단축코드가 아직 없을 때만 URL 매핑을 저장합니다.
+     * 
+     * INSERT ... ON CONFLICT (short_url) DO NOTHING 으로 중복 검사와 저장을 한 번의 왕복으로 처리합니다.
+     * 동시에 같은 단축코드로 저장을 시도해도 unique 제약 위반 예외가 발생하지 않고,
+     * 먼저 저장한 요청만 true를 받습니다.
+     * 
+     * @param shortUrl       단축코드
+     * @param originalUrl    원본 URL
+     * @param expirationDate 만료일 (없으면 null)
+     * @param createdAt      생성 시각
+     * @return 저장했으면 true, 이미 같은 단축코드가 있으면 false
+     */
+    boolean insertIfAbsent(String shortUrl, String originalUrl, LocalDateTime expirationDate,
+            LocalDateTime createdAt);
+
+    /**
+     * 여러 단축코드의 원본 URL을 한 번의 쿼리로 조회합니다. (만료되지 않은 URL만)
+     * 
+     * short_url = ANY(?) 에 배열 하나를 바인딩하므로 코드 개수와 관계없이 같은 실행 계획을 재사용합니다.
+     * 
+     * @param shortUrls 조회할 단축코드 목록
+     * @return 단축코드 → 원본 URL (존재하지 않거나 만료된 코드는 포함되지 않음)
+     */
+    @Transactional(readOnly = true)
+    Map<String, String> findOriginalUrlsByShortUrlsNotExpired(Collection<String> shortUrls);
+
+    /**
+     * 여러 생성 코드의 원본 URL을 code_id로 한 번에 조회합니다. (만료되지 않은 URL만)
+     * 
+     * @param codeIds 조회할 카운터 값 목록
+     * @return code_id → 원본 URL (존재하지 않거나 만료된 값은 포함되지 않음)
+     */
+    @Transactional(readOnly = true)
+    Map<Long, String> findOriginalUrlsByCodeIdsNotExpired(Collection<Long> codeIds);
+
+    /**
+     * id가 afterId보다 큰 행을 id 순서로 조회합니다. (변경 피드용)
+     * 
+     * @param afterId 워터마크 (이 id 초과만 조회)
+     * @param limit   최대 행 수
+     * @return id 오름차순 변경 목록
+     */
+    @Transactional(readOnly = true)
+    List<UrlChange> findChangesAfterId(long afterId, int limit);
+
+    /**
+     * 현재 트랜잭션 스냅샷의 xmax를 조회합니다. (변경 피드의 빈 번호 확인용)
+     * 
+     * 이 시점에 이미 id를 받은 트랜잭션은 모두 이 값보다 작은 xid를 가집니다.
+     * 읽기 전용 트랜잭션이 아니므로 Primary에서 실행됩니다.
+     * 
+     * @return 스냅샷 xmax (다음에 할당될 xid)
+     */
+    long findTransactionHorizon();
+
+    /**
+     * horizon보다 작은 xid의 트랜잭션이 모두 끝났고, id가 [fromId, toId] 구간인 행이 하나도 없는지 확인합니다.
+     * 
+     * 참이면 그 구간의 id는 앞으로도 채워지지 않습니다.
+     * (ON CONFLICT DO NOTHING으로 소모된 번호, 롤백된 INSERT 등)
+     * 읽기 전용 트랜잭션이 아니므로 Primary에서 실행됩니다.
+     * 
+     * @param fromId  빈 구간 시작 id (포함)
+     * @param toId    빈 구간 끝 id (포함)
+     * @param horizon 빈 번호를 발견했을 때 조회한 findTransactionHorizon 값
+     * @return 다시 채워질 수 없는 빈 구간이면 true
+     */
+    boolean isAbandonedIdRange(long fromId, long toId, long horizon);
+
+    /**
+     * 만료 시각이 (from, to] 구간에 있는 단축코드를 조회합니다. (변경 피드의 삭제 이벤트용)
+     * 
+     * @param from 이전 확인 시각 (미포함)
+     * @param to   현재 확인 시각 (포함)
+     * @return 해당 구간에 만료된 단축코드 목록
+     */
+    @Transactional(readOnly = true)
+    List<String> findShortUrlsExpiredBetween(LocalDateTime from, LocalDateTime to);
+
+    /**
+     * 만료된 URL을 최대 limit개 삭제하고 삭제된 단축코드를 반환합니다.
+     * 
+     * DELETE ... WHERE id IN (SELECT ... LIMIT ?) RETURNING short_url 한 문장으로 처리하므로
+     * 만료 URL이 많아도 한 번에 잠그는 행 수가 limit개로 제한됩니다.
+     * 
+     * @param currentTime 현재 시간
+     * @param limit       최대 삭제 개수
+     * @return 삭제된 단축코드 목록
+     */
+    List<String> deleteExpiredReturningShortUrls(LocalDateTime currentTime, int limit);
+}
@@ -0,0 +1,192 @@
+package org.example.bitlygood.repository;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.example.bitlygood.domain.UrlChange;
+import org.example.bitlygood.util.UrlCodec;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * UrlRepositoryCustom 구현체
+ * 
+ * JdbcTemplate은 JPA 트랜잭션과 같은 커넥션을 사용하므로
+ * 서비스의 @Transactional 경계 안에서 호출하면 같은 트랜잭션에 참여합니다.
+ * 
+ * JPA를 거치지 않으므로 original_url 압축/복원(OriginalUrlConverter와 동일 규칙)을 직접 적용합니다.
+ * 
+ * 생성 INSERT는 커넥션을 받은 시점부터 문장 실행이 끝날 때까지의 시간을
+ * url.create.connection.hold{type=generated|alias} 로 기록합니다.
+ */
+public class UrlRepositoryCustomImpl implements UrlRepositoryCustom {
+
+    private static final String INSERT_SQL = "INSERT INTO url (short_url, original_url, code_id, expiration_date, created_at) "
+            + "VALUES (?, ?, ?, ?, ?)";
+
+    private static final String INSERT_IF_ABSENT_SQL = "INSERT INTO url (short_url, original_url, expiration_date, created_at) "
+            + "VALUES (?, ?, ?, ?) ON CONFLICT (short_url) DO NOTHING RETURNING id";
+
+    private static final String FIND_BY_SHORT_URLS_SQL = "SELECT short_url, original_url FROM url "
+            + "WHERE short_url = ANY(?) AND (expiration_date IS NULL OR expiration_date > NOW())";
+
+    private static final String FIND_BY_CODE_IDS_SQL = "SELECT code_id, original_url FROM url "
+            + "WHERE code_id = ANY(?) AND (expiration_date IS NULL OR expiration_date > NOW())";
+
+    private static final String FIND_CHANGES_AFTER_ID_SQL = "SELECT id, short_url, original_url, expiration_date, created_at "
+            + "FROM url WHERE id > ? ORDER BY id LIMIT ?";
+
+    private static final String FIND_TRANSACTION_HORIZON_SQL = "SELECT pg_snapshot_xmax(pg_current_snapshot())::text::bigint";
+
+    private static final String IS_ABANDONED_ID_RANGE_SQL = "SELECT pg_snapshot_xmin(pg_current_snapshot())::text::bigint >= ? "
+            + "AND NOT EXISTS (SELECT 1 FROM url WHERE id BETWEEN ? AND ?)";
+
+    private static final String FIND_EXPIRED_BETWEEN_SQL = "SELECT short_url FROM url "
+            + "WHERE expiration_date > ? AND expiration_date <= ?";
+
+    private static final String DELETE_EXPIRED_SQL = "DELETE FROM url WHERE id IN ("
+            + "SELECT id FROM url WHERE expiration_date IS NOT NULL AND expiration_date < ? LIMIT ?) "
+            + "RETURNING short_url";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Timer generatedHoldTimer;
+    private final Timer aliasHoldTimer;
+
+    @Value("${app.url-codec.storage.enabled:false}")
+    private boolean storageEncodingEnabled;
+
+    public UrlRepositoryCustomImpl(JdbcTemplate jdbcTemplate, MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.generatedHoldTimer = holdTimer(meterRegistry, "generated");
+        this.aliasHoldTimer = holdTimer(meterRegistry, "alias");
+    }
+
+    @Override
+    public void insert(String shortUrl, String originalUrl, Long codeId, LocalDateTime expirationDate,
+            LocalDateTime createdAt) {
+        executeTimed(generatedHoldTimer, con -> {
+            try (PreparedStatement ps = con.prepareStatement(INSERT_SQL)) {
+                ps.setString(1, shortUrl);
+                ps.setString(2, storageEncodingEnabled ? UrlCodec.encode(originalUrl) : originalUrl);
+                ps.setObject(3, codeId, Types.BIGINT);
+                ps.setObject(4, expirationDate, Types.TIMESTAMP);
+                ps.setObject(5, createdAt, Types.TIMESTAMP);
+                ps.executeUpdate();
+            }
+            return null;
+        });
+    }
+
+    @Override
+    public boolean insertIfAbsent(String shortUrl, String originalUrl, LocalDateTime expirationDate,
+            LocalDateTime createdAt) {
+        return executeTimed(aliasHoldTimer, con -> {
+            try (PreparedStatement ps = con.prepareStatement(INSERT_IF_ABSENT_SQL)) {
+                ps.setString(1, shortUrl);
+                ps.setString(2, storageEncodingEnabled ? UrlCodec.encode(originalUrl) : originalUrl);
+                ps.setObject(3, expirationDate, Types.TIMESTAMP);
+                ps.setObject(4, createdAt, Types.TIMESTAMP);
+                // 충돌 시 RETURNING 결과가 비어 있음
+                try (ResultSet rs = ps.executeQuery()) {
+                    return rs.next();
+                }
+            }
+        });
+    }
+
+    @Override
+    public Map<String, String> findOriginalUrlsByShortUrlsNotExpired(Collection<String> shortUrls) {
+        Map<String, String> result = new HashMap<>(shortUrls.size() * 2);
+        if (shortUrls.isEmpty()) {
+            return result;
+        }
+        String[] codes = shortUrls.toArray(String[]::new);
+        jdbcTemplate.query(FIND_BY_SHORT_URLS_SQL,
+                ps -> ps.setArray(1, ps.getConnection().createArrayOf("text", codes)),
+                rs -> {
+                    result.put(rs.getString(1), UrlCodec.decode(rs.getString(2)));
+                });
+        return result;
+    }
+
+    @Override
+    public Map<Long, String> findOriginalUrlsByCodeIdsNotExpired(Collection<Long> codeIds) {
+        Map<Long, String> result = new HashMap<>(codeIds.size() * 2);
+        if (codeIds.isEmpty()) {
+            return result;
+        }
+        Long[] ids = codeIds.toArray(Long[]::new);
+        jdbcTemplate.query(FIND_BY_CODE_IDS_SQL,
+                ps -> ps.setArray(1, ps.getConnection().createArrayOf("bigint", ids)),
+                rs -> {
+                    result.put(rs.getLong(1), UrlCodec.decode(rs.getString(2)));
+                });
+        return result;
+    }
+
+    @Override
+    public List<UrlChange> findChangesAfterId(long afterId, int limit) {
+        return jdbcTemplate.query(FIND_CHANGES_AFTER_ID_SQL, (rs, rowNum) -> {
+            Timestamp expirationDate = rs.getTimestamp(4);
+            return new UrlChange(rs.getLong(1), rs.getString(2), UrlCodec.decode(rs.getString(3)),
+                    expirationDate != null ? expirationDate.toLocalDateTime() : null,
+                    rs.getTimestamp(5).toLocalDateTime());
+        }, afterId, limit);
+    }
+
+    @Override
+    public long findTransactionHorizon() {
+        return jdbcTemplate.queryForObject(FIND_TRANSACTION_HORIZON_SQL, Long.class);
+    }
+
+    @Override
+    public boolean isAbandonedIdRange(long fromId, long toId, long horizon) {
+        return Boolean.TRUE.equals(
+                jdbcTemplate.queryForObject(IS_ABANDONED_ID_RANGE_SQL, Boolean.class, horizon, fromId, toId));
+    }
+
+    @Override
+    public List<String> findShortUrlsExpiredBetween(LocalDateTime from, LocalDateTime to) {
+        return jdbcTemplate.queryForList(FIND_EXPIRED_BETWEEN_SQL, String.class, from, to);
+    }
+
+    @Override
+    public List<String> deleteExpiredReturningShortUrls(LocalDateTime currentTime, int limit) {
+        return jdbcTemplate.queryForList(DELETE_EXPIRED_SQL, String.class, currentTime, limit);
+    }
+
+    /**
+     * 커넥션을 받은 뒤 action이 끝날 때까지의 시간을 기록합니다.
+     * 트랜잭션 밖에서 호출되면 이 시간이 곧 커넥션 점유 시간입니다.
+     */
+    private <T> T executeTimed(Timer timer, ConnectionCallback<T> action) {
+        return jdbcTemplate.execute((ConnectionCallback<T>) con -> {
+            long start = System.nanoTime();
+            try {
+                return action.doInConnection(con);
+            } finally {
+                timer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            }
+        });
+    }
+
+    private static Timer holdTimer(MeterRegistry meterRegistry, String type) {
+        return Timer.builder("url.create.connection.hold")
+                .description("Time a URL create holds a DB connection")
+                .tag("type", type)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+}
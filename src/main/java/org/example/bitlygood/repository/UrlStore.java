@@ -0,0 +1,77 @@
+package org.example.bitlygood.repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.example.bitlygood.domain.Url;
+import org.example.bitlygood.domain.UrlChange;
+
+/**
+ * URL 매핑 저장소 SPI
+ *
+ * 서비스 계층은 이 인터페이스만 사용하며, 구현체는 app.store.type으로 선택합니다.
+ * - postgres (기본값): PostgresUrlStore (JPA UrlRepository 위임)
+ * - embedded: EmbeddedUrlStore (로컬 디스크의 추가 전용 로그 + 메모리 인덱스, 단일 노드용)
+ *
+ * 조회 메서드는 복원된(압축 해제된) 원본 URL을 반환하며, 만료된 매핑은 반환하지 않습니다.
+ */
+public interface UrlStore {
+
+    /**
+     * URL 매핑을 저장합니다. (카운터 기반 단축코드처럼 충돌이 없는 경우)
+     *
+     * @param url 저장할 URL (shortUrl이 설정되어 있어야 함)
+     */
+    void put(Url url);
+
+    /**
+     * 단축코드가 아직 없을 때만 URL 매핑을 저장합니다.
+     *
+     * @param shortUrl       단축코드
+     * @param originalUrl    원본 URL
+     * @param expirationDate 만료일 (없으면 null)
+     * @param createdAt      생성 시각
+     * @return 저장했으면 true, 이미 같은 단축코드가 있으면 false
+     */
+    boolean putIfAbsent(String shortUrl, String originalUrl, LocalDateTime expirationDate, LocalDateTime createdAt);
+
+    /**
+     * 단축코드로 만료되지 않은 원본 URL을 조회합니다.
+     *
+     * @param shortUrl 단축코드
+     * @return 원본 URL (없거나 만료되었으면 빈 값)
+     */
+    Optional<String> get(String shortUrl);
+
+    /**
+     * 여러 단축코드의 만료되지 않은 원본 URL을 한 번에 조회합니다.
+     *
+     * @param shortUrls 조회할 단축코드 목록
+     * @return 단축코드 → 원본 URL (존재하지 않거나 만료된 코드는 포함되지 않음)
+     */
+    Map<String, String> getAll(Collection<String> shortUrls);
+
+    /**
+     * 만료된 매핑을 최대 limit개 삭제합니다.
+     *
+     * 한 번에 모두 지우지 않고 호출자가 빈 결과가 나올 때까지 반복 호출하므로
+     * 긴 트랜잭션이나 긴 잠금이 생기지 않습니다.
+     *
+     * @param now   기준 시각 (만료일이 이 시각 이전인 매핑을 삭제)
+     * @param limit 최대 삭제 개수
+     * @return 삭제된 단축코드 목록
+     */
+    List<String> deleteExpired(LocalDateTime now, int limit);
+
+    /**
+     * id가 afterId보다 큰 매핑을 id 순서로 조회합니다. (만료 여부와 무관)
+     *
+     * @param afterId 이 id 초과만 조회
+     * @param limit   최대 개수
+     * @return id 오름차순 매핑 목록
+     */
+    List<UrlChange> scan(long afterId, int limit);
+}
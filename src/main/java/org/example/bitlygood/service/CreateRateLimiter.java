@@ -0,0 +1,256 @@
+package org.example.bitlygood.service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.example.bitlygood.exception.RateLimitExceededException;
+import org.example.bitlygood.util.TokenBucket;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 클라이언트별 URL 생성 요청 제한 (토큰 버킷)
+ *
+ * 한 클라이언트가 생성 API를 반복 호출하면 카운터(INCR)와 INSERT 처리량을 혼자 소모하므로,
+ * 등록된 API 키(app.rate-limit.api-key-header, app.rate-limit.api-keys) 또는 IP별로
+ * 초당 rate-per-second개, 최대 burst개까지만 허용합니다.
+ *
+ * 요청마다 Redis를 호출하지 않도록 두 단계로 나눕니다.
+ * - 요청 경로: 인스턴스 로컬 TokenBucket으로만 판단하고, 소비한 토큰 수를 누적
+ * - 동기화(sync-interval-ms마다, 전용 스레드): 누적분을 Redis Lua 스크립트로 클러스터 공용 버킷에서 차감하고,
+ *   공용 버킷이 비었으면 채워질 때까지 해당 클라이언트를 모든 요청에서 거부
+ *
+ * 따라서 한 인스턴스 안에서는 정확히 제한되고, 여러 인스턴스에 나뉜 요청은 최대 동기화 주기만큼 초과 허용될 수 있습니다.
+ * 초과분은 공용 버킷의 음수 잔량(최대 -burst)으로 남아 다음 허용 시점을 늦춥니다.
+ * Redis 서킷이 열려 있거나 동기화에 실패하면 로컬 제한만 적용하고 누적분은 다음 주기에 반영합니다.
+ *
+ * 메트릭:
+ * - rate.limit.rejected{scope}: 거부된 요청 수 (local: 로컬 버킷, global: 공용 버킷)
+ * - rate.limit.clients: 추적 중인 클라이언트 수
+ *
+ * app.rate-limit.enabled=true 일 때만 동작합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CreateRateLimiter {
+
+    private static final String KEY_PREFIX = "rate:create:";
+
+    // 클라이언트 수가 max-clients를 넘으면 새 클라이언트는 이 버킷 하나를 함께 사용
+    private static final String OVERFLOW_CLIENT = "overflow";
+
+    /**
+     * 공용 버킷 갱신 스크립트
+     *
+     * KEYS[1]: 버킷 키, ARGV: 초당 토큰 수, 최대 토큰 수, 소비한 토큰 수
+     * 경과 시간만큼 채운 뒤 소비량을 빼고, 남은 토큰 수 x 1000 을 정수로 반환합니다.
+     * 시간은 인스턴스 시계 차이가 없도록 Redis TIME을 사용합니다.
+     */
+    private static final RedisScript<Long> SYNC_SCRIPT = new DefaultRedisScript<>("""
+            local rate = tonumber(ARGV[1])
+            local burst = tonumber(ARGV[2])
+            local consumed = tonumber(ARGV[3])
+            local time = redis.call('TIME')
+            local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+            local state = redis.call('HMGET', KEYS[1], 'tokens', 'ts')
+            local tokens = tonumber(state[1]) or burst
+            local ts = tonumber(state[2]) or now
+            tokens = math.min(burst, tokens + math.max(0, now - ts) * rate / 1000)
+            tokens = math.max(-burst, tokens - consumed)
+            redis.call('HSET', KEYS[1], 'tokens', tostring(tokens), 'ts', now)
+            redis.call('PEXPIRE', KEYS[1], math.ceil((burst * 2 / rate) * 1000) + 1000)
+            return math.floor(tokens * 1000)
+            """, Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisCircuitBreaker redisCircuitBreaker;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${app.rate-limit.enabled:false}")
+    private boolean enabled;
+
+    @Value("${app.rate-limit.create.rate-per-second:5}")
+    private double ratePerSecond;
+
+    @Value("${app.rate-limit.create.burst:20}")
+    private double burst;
+
+    @Value("${app.rate-limit.api-key-header:X-API-Key}")
+    private String apiKeyHeader;
+
+    // 키 기준으로 제한할 API 키 목록 (쉼표 구분). 목록에 없는 키는 IP 기준으로 제한
+    @Value("${app.rate-limit.api-keys:}")
+    private Set<String> apiKeys;
+
+    @Value("${app.rate-limit.sync-interval-ms:1000}")
+    private long syncIntervalMs;
+
+    @Value("${app.rate-limit.max-clients:100000}")
+    private int maxClients;
+
+    @Value("${app.rate-limit.idle-seconds:300}")
+    private long idleSeconds;
+
+    private final Map<String, Client> clients = new ConcurrentHashMap<>();
+    private ScheduledExecutorService syncer;
+
+    @PostConstruct
+    public void init() {
+        if (!enabled) {
+            return;
+        }
+        if (ratePerSecond <= 0) {
+            throw new IllegalArgumentException("app.rate-limit.create.rate-per-second must be positive");
+        }
+        Gauge.builder("rate.limit.clients", clients, Map::size)
+                .description("Clients tracked by the create rate limiter")
+                .register(meterRegistry);
+
+        // 활성 클라이언트마다 Lua 호출이 있으므로 공용 스케줄러 스레드를 점유하지 않도록 전용 스레드에서 실행
+        syncer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "rate-limit-sync");
+            thread.setDaemon(true);
+            return thread;
+        });
+        syncer.scheduleWithFixedDelay(this::sync, syncIntervalMs, syncIntervalMs, TimeUnit.MILLISECONDS);
+        log.info("Create rate limiter enabled ({}/s, burst {}, {} API keys)", ratePerSecond, burst, apiKeys.size());
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (syncer != null) {
+            syncer.shutdownNow();
+        }
+    }
+
+    /**
+     * 요청한 클라이언트의 토큰 하나를 소비합니다. (Redis 호출 없음)
+     *
+     * @throws RateLimitExceededException 로컬 또는 공용 버킷에 토큰이 없는 경우
+     */
+    public void acquire(HttpServletRequest request) {
+        if (!enabled) {
+            return;
+        }
+        acquire(clientId(request.getHeader(apiKeyHeader), request.getRemoteAddr()));
+    }
+
+    void acquire(String clientId) {
+        Client client = client(clientId);
+        long now = System.nanoTime();
+        client.lastUsedNanos = now;
+
+        long blockedUntil = client.blockedUntilNanos;
+        if (blockedUntil - now > 0) {
+            reject("global", blockedUntil - now);
+        }
+        if (!client.bucket.tryAcquire()) {
+            reject("local", client.bucket.nanosUntilNextToken());
+        }
+        client.pending.incrementAndGet();
+    }
+
+    /**
+     * 로컬에 누적된 소비량을 Redis 공용 버킷에 반영하고, 공용 버킷이 빈 클라이언트를 차단합니다.
+     * 오래 사용하지 않은 클라이언트는 여기서 정리합니다.
+     */
+    void sync() {
+        try {
+            syncOnce();
+        } catch (Exception e) {
+            // 예외가 나가면 scheduleWithFixedDelay가 이후 실행을 멈추므로 여기서 처리
+            log.error("Error syncing rate limits", e);
+        }
+    }
+
+    private void syncOnce() {
+        long now = System.nanoTime();
+        long idleNanos = TimeUnit.SECONDS.toNanos(idleSeconds);
+        boolean redisAvailable = redisCircuitBreaker.isClosed();
+
+        for (Map.Entry<String, Client> entry : clients.entrySet()) {
+            Client client = entry.getValue();
+            if (client.pending.get() == 0) {
+                if (now - client.lastUsedNanos > idleNanos && client.blockedUntilNanos - now <= 0) {
+                    clients.remove(entry.getKey(), client);
+                }
+                continue;
+            }
+            if (!redisAvailable) {
+                continue;
+            }
+            long consumed = client.pending.getAndSet(0);
+            try {
+                Long milliTokens = redisTemplate.execute(SYNC_SCRIPT, List.of(KEY_PREFIX + entry.getKey()),
+                        String.valueOf(ratePerSecond), String.valueOf(burst), String.valueOf(consumed));
+                client.blockedUntilNanos = milliTokens != null && milliTokens < 1000
+                        ? now + (long) Math.ceil((1000 - milliTokens) / (ratePerSecond * 1000) * 1_000_000_000L)
+                        : now;
+            } catch (Exception e) {
+                log.warn("Error syncing rate limit for client {}", entry.getKey(), e);
+                client.pending.addAndGet(consumed);
+                redisAvailable = false;
+            }
+        }
+    }
+
+    /**
+     * 등록된 API 키(app.rate-limit.api-keys)면 키 기준, 아니면 IP 기준으로 클라이언트를 구분합니다.
+     * 임의의 키를 보내 새 버킷을 계속 받거나 클라이언트 목록을 채우지 못하도록 등록되지 않은 키는 무시합니다.
+     * API 키는 Redis 키에 그대로 남지 않도록 UUID(v3)로 변환합니다.
+     */
+    String clientId(String apiKey, String remoteAddr) {
+        if (apiKey != null && apiKeys.contains(apiKey)) {
+            return "key:" + UUID.nameUUIDFromBytes(apiKey.getBytes(StandardCharsets.UTF_8));
+        }
+        return "ip:" + remoteAddr;
+    }
+
+    private Client client(String clientId) {
+        Client client = clients.get(clientId);
+        if (client != null) {
+            return client;
+        }
+        if (clients.size() >= maxClients) {
+            clientId = OVERFLOW_CLIENT;
+        }
+        return clients.computeIfAbsent(clientId, id -> new Client(new TokenBucket(ratePerSecond, burst)));
+    }
+
+    private void reject(String scope, long waitNanos) {
+        meterRegistry.counter("rate.limit.rejected", "scope", scope).increment();
+        long seconds = waitNanos == Long.MAX_VALUE ? 1 : TimeUnit.NANOSECONDS.toSeconds(waitNanos + 999_999_999L);
+        throw new RateLimitExceededException(Math.max(1, seconds));
+    }
+
+    private static final class Client {
+        private final TokenBucket bucket;
+        private final AtomicLong pending = new AtomicLong();
+        private volatile long lastUsedNanos = System.nanoTime();
+        private volatile long blockedUntilNanos = System.nanoTime();
+
+        private Client(TokenBucket bucket) {
+            this.bucket = bucket;
+        }
+    }
+}
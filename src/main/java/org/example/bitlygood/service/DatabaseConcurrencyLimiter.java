@@ -0,0 +1,177 @@
+package org.example.bitlygood.service;
+
+import java.sql.SQLTransientConnectionException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import org.example.bitlygood.exception.OverloadedException;
+import org.example.bitlygood.util.AdaptiveConcurrencyLimiter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.dao.TransientDataAccessResourceException;
+import org.springframework.jdbc.CannotGetJdbcConnectionException;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * DB 적응형 동시 실행 제한 (로드 셰딩)
+ * 
+ * Redis 장애나 콜드 캐시로 캐시 미스가 몰리면 요청 스레드가 Hikari 커넥션을 기다리며
+ * connection-timeout(30초)까지 쌓이고, 결국 모든 요청이 느려집니다.
+ * 이 컴포넌트는 DB 작업을 두 갈래로 나누어 각각 AdaptiveConcurrencyLimiter로 동시 실행 수를 제한합니다.
+ * - lookup: 캐시 미스/캐시 오류 시 DB 조회 (UrlCacheService)
+ * - write: URL 생성 저장 (UrlService)
+ * 
+ * 한도는 DB 응답 시간이 늘어나거나 타임아웃/커넥션 획득 실패가 나면 줄고 회복되면 다시 늘어나며,
+ * 한도를 넘은 요청은 대기하지 않고 OverloadedException(503 + Retry-After)으로 즉시 거부됩니다.
+ * 
+ * 메트릭 (name=lookup|write):
+ * - db.limiter.limit: 현재 허용 동시 실행 수
+ * - db.limiter.inflight: 실행 중인 작업 수
+ * - db.limiter.rejected: 거부된 요청 수
+ * 
+ * app.limiter.enabled=true 일 때만 동작하며, 비활성화 시 작업을 그대로 실행합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DatabaseConcurrencyLimiter {
+
+    private final MeterRegistry meterRegistry;
+
+    @Value("${app.limiter.enabled:false}")
+    private boolean enabled;
+
+    @Value("${app.limiter.lookup.initial-limit:10}")
+    private int lookupInitialLimit;
+
+    @Value("${app.limiter.lookup.min-limit:2}")
+    private int lookupMinLimit;
+
+    @Value("${app.limiter.lookup.max-limit:35}")
+    private int lookupMaxLimit;
+
+    @Value("${app.limiter.write.initial-limit:5}")
+    private int writeInitialLimit;
+
+    @Value("${app.limiter.write.min-limit:2}")
+    private int writeMinLimit;
+
+    @Value("${app.limiter.write.max-limit:15}")
+    private int writeMaxLimit;
+
+    @Value("${app.limiter.probe-multiplier:30}")
+    private int probeMultiplier;
+
+    @Value("${app.limiter.retry-after-seconds:1}")
+    private long retryAfterSeconds;
+
+    private AdaptiveConcurrencyLimiter lookupLimiter;
+    private AdaptiveConcurrencyLimiter writeLimiter;
+    private final AtomicLong lookupRejected = new AtomicLong();
+    private final AtomicLong writeRejected = new AtomicLong();
+
+    @PostConstruct
+    public void init() {
+        if (!enabled) {
+            return;
+        }
+        lookupLimiter = new AdaptiveConcurrencyLimiter(lookupInitialLimit, lookupMinLimit, lookupMaxLimit,
+                probeMultiplier);
+        writeLimiter = new AdaptiveConcurrencyLimiter(writeInitialLimit, writeMinLimit, writeMaxLimit,
+                probeMultiplier);
+        registerMeters("lookup", lookupLimiter, lookupRejected);
+        registerMeters("write", writeLimiter, writeRejected);
+
+        log.info("DB concurrency limiter started (lookup {}..{}, write {}..{})",
+                lookupMinLimit, lookupMaxLimit, writeMinLimit, writeMaxLimit);
+    }
+
+    private void registerMeters(String name, AdaptiveConcurrencyLimiter limiter, AtomicLong rejected) {
+        Gauge.builder("db.limiter.limit", limiter, AdaptiveConcurrencyLimiter::getLimit).tag("name", name)
+                .description("Adaptive concurrency limit for DB operations")
+                .register(meterRegistry);
+        Gauge.builder("db.limiter.inflight", limiter, AdaptiveConcurrencyLimiter::getInflight).tag("name", name)
+                .description("DB operations currently holding a limiter slot")
+                .register(meterRegistry);
+        FunctionCounter.builder("db.limiter.rejected", rejected, AtomicLong::get).tag("name", name)
+                .description("DB operations rejected because the limit was reached")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 캐시 미스/캐시 오류 DB 조회를 lookup 한도 안에서 실행합니다.
+     * 
+     * @throws OverloadedException 한도에 도달한 경우 (작업은 실행되지 않음)
+     */
+    public <T> T lookup(Supplier<T> action) {
+        return execute("lookup", lookupLimiter, lookupRejected, action);
+    }
+
+    /**
+     * URL 저장을 write 한도 안에서 실행합니다.
+     * 
+     * @throws OverloadedException 한도에 도달한 경우 (작업은 실행되지 않음)
+     */
+    public <T> T write(Supplier<T> action) {
+        return execute("write", writeLimiter, writeRejected, action);
+    }
+
+    /**
+     * 반환 값이 없는 URL 저장을 write 한도 안에서 실행합니다.
+     */
+    public void write(Runnable action) {
+        write(() -> {
+            action.run();
+            return null;
+        });
+    }
+
+    private <T> T execute(String name, AdaptiveConcurrencyLimiter limiter, AtomicLong rejected,
+            Supplier<T> action) {
+        if (limiter == null) {
+            return action.get();
+        }
+        long start = limiter.tryAcquire();
+        if (start < 0) {
+            rejected.incrementAndGet();
+            throw new OverloadedException("db-" + name, retryAfterSeconds);
+        }
+        T result;
+        try {
+            result = action.get();
+        } catch (Throwable e) {
+            // 과부하 신호(타임아웃, 커넥션 획득 실패)만 drop으로 반영하여 한도를 줄이고,
+            // 제약 조건 위반 같은 다른 오류는 한도를 바꾸지 않고 슬롯만 반환
+            if (isOverload(e)) {
+                limiter.onDropped();
+            } else {
+                limiter.onIgnored();
+            }
+            throw e;
+        }
+        limiter.onSuccess(start);
+        return result;
+    }
+
+    /**
+     * DB 과부하로 인한 실패인지 확인합니다. (쿼리 타임아웃, 커넥션 획득 실패)
+     */
+    private static boolean isOverload(Throwable error) {
+        for (Throwable cause = error; cause != null; cause = cause.getCause()) {
+            if (cause instanceof QueryTimeoutException
+                    || cause instanceof TransientDataAccessResourceException
+                    || cause instanceof CannotGetJdbcConnectionException
+                    || cause instanceof SQLTransientConnectionException) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,172 @@
+package org.example.bitlygood.service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 해시 버킷 방식의 URL 캐시 저장 구조
+ * 
+ * 기본 구조(url:&lt;code&gt; 문자열 키)는 링크마다 Redis 키가 하나씩 생겨
+ * 키 자체의 오버헤드(dictEntry, redisObject, 키 SDS, 만료 dict 항목 등)가 링크당 수십 바이트씩 추가됩니다.
+ * 
+ * 이 구조는 단축코드를 해시값으로 버킷에 나누어 작은 Redis 해시(urlh:&lt;bucket&gt;)의 필드로 저장합니다.
+ * 해시가 작으면 Redis는 listpack 인코딩으로 필드를 연속 메모리에 저장하므로 링크당 오버헤드가 크게 줄어듭니다.
+ * 
+ * 만료 처리:
+ * - 버킷 키 전체에 EXPIRE를 걸면 같은 버킷의 다른 링크까지 함께 사라지므로,
+ *   필드마다 HPEXPIRE (Redis 7.4+)로 개별 TTL을 설정합니다.
+ * 
+ * Redis 설정 요구사항:
+ * - Redis 7.4 이상 (필드 단위 만료)
+ * - hash-max-listpack-entries >= 버킷당 평균 필드 수 (기본 128)
+ * - hash-max-listpack-value >= 최대 URL 길이 (기본 64바이트이므로 URL 캐시에는 보통 512~2048로 상향 필요)
+ *   이 값을 넘는 필드가 하나라도 들어가면 해당 버킷은 일반 hashtable 인코딩으로 바뀝니다.
+ * 
+ * 버킷 수는 "캐시될 링크 수 / 버킷당 목표 필드 수(예: 100)"로 정합니다.
+ * app.cache.layout=hash 일 때만 사용됩니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class HashBucketUrlCache {
+
+    // 버킷 키 접두사
+    private static final String BUCKET_PREFIX = "urlh:";
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisBulkOperations redisBulkOperations;
+
+    @Value("${app.cache.layout:string}")
+    private String layout;
+
+    @Value("${app.cache.hash.buckets:65536}")
+    private int buckets;
+
+    public boolean isEnabled() {
+        return "hash".equalsIgnoreCase(layout);
+    }
+
+    /**
+     * 단축코드가 저장될 버킷 키를 반환합니다.
+     * String.hashCode는 JVM에 관계없이 동일하므로 모든 인스턴스가 같은 버킷을 사용합니다.
+     */
+    String bucketKey(String shortCode) {
+        return BUCKET_PREFIX + Math.floorMod(shortCode.hashCode(), buckets);
+    }
+
+    /**
+     * 단축코드의 원본 URL을 조회합니다. (HGET)
+     */
+    public String get(String shortCode) {
+        return redisTemplate.<String, String>opsForHash().get(bucketKey(shortCode), shortCode);
+    }
+
+    /**
+     * 여러 단축코드를 한 번에 조회합니다.
+     * 버킷별로 HMGET 한 번씩 보내며, 단일 노드에서는 모든 HMGET을 파이프라인으로 전송합니다.
+     * 
+     * @return 단축코드 순서와 같은 순서의 원본 URL 목록 (없으면 null)
+     */
+    public List<String> multiGet(List<String> shortCodes) {
+        Map<String, List<Integer>> indexesByBucket = new LinkedHashMap<>();
+        for (int i = 0; i < shortCodes.size(); i++) {
+            indexesByBucket.computeIfAbsent(bucketKey(shortCodes.get(i)), key -> new ArrayList<>()).add(i);
+        }
+        List<String> bucketKeys = new ArrayList<>(indexesByBucket.keySet());
+
+        List<Object> bucketResults = execute((connection, results) -> {
+            for (String bucketKey : bucketKeys) {
+                List<Integer> indexes = indexesByBucket.get(bucketKey);
+                byte[][] fields = new byte[indexes.size()][];
+                for (int j = 0; j < indexes.size(); j++) {
+                    fields[j] = serialize(shortCodes.get(indexes.get(j)));
+                }
+                results.add(connection.hashCommands().hMGet(serialize(bucketKey), fields));
+            }
+        });
+
+        String[] values = new String[shortCodes.size()];
+        for (int b = 0; b < bucketKeys.size(); b++) {
+            List<Integer> indexes = indexesByBucket.get(bucketKeys.get(b));
+            List<?> bucketValues = (List<?>) bucketResults.get(b);
+            for (int j = 0; j < indexes.size(); j++) {
+                Object value = bucketValues != null ? bucketValues.get(j) : null;
+                if (value != null) {
+                    values[indexes.get(j)] = value instanceof byte[] bytes
+                            ? new String(bytes, StandardCharsets.UTF_8)
+                            : value.toString();
+                }
+            }
+        }
+        return Arrays.asList(values);
+    }
+
+    /**
+     * 원본 URL을 저장하고 필드 TTL을 설정합니다. (HSET + HPEXPIRE)
+     */
+    public void set(String shortCode, String originalUrl, Duration ttl) {
+        setAll(Map.of(shortCode, originalUrl), ttl);
+    }
+
+    /**
+     * 여러 원본 URL을 저장하고 필드마다 TTL을 설정합니다.
+     * 단일 노드에서는 모든 명령을 파이프라인으로 전송합니다.
+     */
+    public void setAll(Map<String, String> urls, Duration ttl) {
+        if (urls.isEmpty()) {
+            return;
+        }
+        long ttlMillis = ttl.toMillis();
+        execute((connection, results) -> urls.forEach((shortCode, originalUrl) -> {
+            byte[] bucketKey = serialize(bucketKey(shortCode));
+            byte[] field = serialize(shortCode);
+            connection.hashCommands().hSet(bucketKey, field, serialize(originalUrl));
+            connection.hashCommands().hpExpire(bucketKey, ttlMillis, field);
+        }));
+    }
+
+    /**
+     * 단축코드를 캐시에서 제거합니다. (HDEL)
+     */
+    public void delete(String shortCode) {
+        redisTemplate.opsForHash().delete(bucketKey(shortCode), shortCode);
+    }
+
+    /**
+     * 명령들을 실행하고 명령별 결과를 순서대로 반환합니다.
+     * 단일 노드에서는 파이프라인으로 한 번에 전송하고,
+     * 클러스터에서는 버킷 키마다 슬롯이 다르므로 커넥션에서 순서대로 실행합니다.
+     */
+    private List<Object> execute(BiConsumer<RedisConnection, List<Object>> commands) {
+        if (!redisBulkOperations.isClusterMode()) {
+            return redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                commands.accept(connection, new ArrayList<>());
+                return null;
+            });
+        }
+        return redisTemplate.execute((RedisCallback<List<Object>>) connection -> {
+            List<Object> results = new ArrayList<>();
+            commands.accept(connection, results);
+            return results;
+        });
+    }
+
+    private static byte[] serialize(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
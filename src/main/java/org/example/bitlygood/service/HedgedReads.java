@@ -0,0 +1,260 @@
+package org.example.bitlygood.service;
+
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import org.example.bitlygood.service.LookupLatencyRecorder.Tier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 캐시 조회 헤징 (꼬리 지연 단축)
+ * 
+ * GC, fork(BGSAVE), 네트워크 순간 지연으로 일부 Redis GET이 느려지면 그 요청들이 p99를 결정합니다.
+ * Redis GET이 지연 기준(최근 구간 Redis 응답 시간의 percentile, 기본 p95) 안에 끝나지 않으면
+ * DB 조회(복제본 라우팅 포함)를 동시에 시작하고 먼저 나온 답을 사용합니다.
+ * - Redis 히트가 먼저 오면 Redis 값, DB가 먼저 오거나 Redis가 미스/오류면 DB 값
+ * - 헤지 요청은 예산(조회 budget-percent%만큼 적립, 최대 max-budget개) 안에서만 보내므로
+ *   Redis 전체가 느려져도 DB 추가 부하는 조회 수의 budget-percent% 이내
+ * 
+ * 지연 기준은 LookupLatencyRecorder의 구간(app.latency.interval-ms)마다 갱신되며 [min-delay-ms, max-delay-ms]로 제한됩니다.
+ * Redis GET은 자동 파이프라이닝이 켜져 있으면 그 Future를, 아니면 가상 스레드에서 실행합니다.
+ * 
+ * 메트릭:
+ * - url.hedge.requests: 헤징 대상 조회 수
+ * - url.hedge.issued: 보낸 헤지 요청 수 (헤지 비율 = issued / requests)
+ * - url.hedge.skipped: 예산 부족으로 보내지 않은 수
+ * - url.hedge.wins{winner}: 사용된 답 (primary: Redis, hedge: DB)
+ * - url.hedge.delay: 현재 지연 기준 (ms)
+ * 
+ * app.hedge.enabled=true 일 때만 동작합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class HedgedReads {
+
+    private static final long TOKEN = 1000;
+
+    private final LookupLatencyRecorder lookupLatency;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${app.hedge.enabled:false}")
+    private boolean enabled;
+
+    @Value("${app.hedge.percentile:95}")
+    private double percentile;
+
+    @Value("${app.hedge.min-delay-ms:2}")
+    private long minDelayMs;
+
+    @Value("${app.hedge.max-delay-ms:50}")
+    private long maxDelayMs;
+
+    @Value("${app.hedge.budget-percent:5}")
+    private double budgetPercent;
+
+    @Value("${app.hedge.max-budget:50}")
+    private long maxBudget;
+
+    private ExecutorService executor;
+    private volatile long delayNanos;
+
+    // 헤지 예산 (1/1000개 단위)
+    private final AtomicLong budget = new AtomicLong();
+
+    private Counter requests;
+    private Counter issued;
+    private Counter skipped;
+    private Counter primaryWins;
+    private Counter hedgeWins;
+
+    /**
+     * 헤징 조회 결과
+     * 
+     * @param cachedUrl   Redis 히트 값 (히트가 아니면 null)
+     * @param databaseUrl 헤지(DB) 결과 (DB 답을 사용하지 않았으면 null)
+     */
+    public record Result(String cachedUrl, Optional<String> databaseUrl) {
+    }
+
+    @PostConstruct
+    public void init() {
+        if (!enabled) {
+            return;
+        }
+        executor = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("hedged-read-", 0).factory());
+        delayNanos = TimeUnit.MILLISECONDS.toNanos(maxDelayMs);
+
+        requests = meterRegistry.counter("url.hedge.requests");
+        issued = meterRegistry.counter("url.hedge.issued");
+        skipped = meterRegistry.counter("url.hedge.skipped");
+        primaryWins = meterRegistry.counter("url.hedge.wins", "winner", "primary");
+        hedgeWins = meterRegistry.counter("url.hedge.wins", "winner", "hedge");
+        Gauge.builder("url.hedge.delay", this, hedge -> hedge.delayNanos / 1_000_000.0)
+                .description("Current hedge delay threshold in milliseconds")
+                .register(meterRegistry);
+        log.info("Hedged reads started (p{}, delay {}..{}ms, budget {}%)",
+                percentile, minDelayMs, maxDelayMs, budgetPercent);
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+    }
+
+    public boolean isEnabled() {
+        return executor != null;
+    }
+
+    /**
+     * 작업을 헤징용 가상 스레드에서 실행합니다.
+     */
+    public <T> CompletableFuture<T> supplyAsync(Supplier<T> task) {
+        return CompletableFuture.supplyAsync(task, executor);
+    }
+
+    /**
+     * 최근 구간의 Redis 응답 시간으로 지연 기준을 갱신합니다.
+     */
+    @Scheduled(fixedDelayString = "${app.latency.interval-ms:10000}")
+    public void refreshDelay() {
+        if (!isEnabled()) {
+            return;
+        }
+        long observed = lookupLatency.intervalPercentileNanos(Tier.REDIS, percentile);
+        if (observed > 0) {
+            delayNanos = Math.max(TimeUnit.MILLISECONDS.toNanos(minDelayMs),
+                    Math.min(TimeUnit.MILLISECONDS.toNanos(maxDelayMs), observed));
+        }
+    }
+
+    /**
+     * Redis 조회를 시작하고, 지연 기준 안에 끝나지 않으면 DB 조회를 함께 실행합니다.
+     * 
+     * @param primary Redis 조회 (값이 없으면 null로 완료)
+     * @param hedge   DB 조회
+     * @return 사용된 답 (Redis 미스이고 헤지를 보내지 않았으면 둘 다 null)
+     * @throws RuntimeException 사용할 답이 없을 때 Redis 조회의 예외
+     */
+    public Result read(Supplier<CompletableFuture<String>> primary, Supplier<Optional<String>> hedge) {
+        requests.increment();
+        budget.getAndUpdate(b -> Math.min(maxBudget * TOKEN, b + (long) (budgetPercent * TOKEN / 100)));
+
+        CompletableFuture<String> first = primary.get();
+        try {
+            return new Result(first.get(delayNanos, TimeUnit.NANOSECONDS), null);
+        } catch (TimeoutException e) {
+            // 지연 기준 초과 → 헤지 여부 판단
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for cache lookup", e);
+        } catch (ExecutionException e) {
+            throw unwrap(e);
+        }
+
+        if (!withdrawBudget()) {
+            skipped.increment();
+            return new Result(await(first), null);
+        }
+        issued.increment();
+        CompletableFuture<Optional<String>> second = supplyAsync(hedge);
+
+        awaitAny(first, second);
+        if (isHit(first)) {
+            primaryWins.increment();
+            return new Result(first.join(), null);
+        }
+        if (isPresent(second)) {
+            hedgeWins.increment();
+            return new Result(null, second.join());
+        }
+
+        // DB가 빈 답으로 먼저 끝난 경우: 헤지는 복제본으로 가므로 아직 복제되지 않은 새 링크일 수 있어 Redis 답을 기다림
+        awaitQuietly(first);
+        if (isHit(first)) {
+            primaryWins.increment();
+            return new Result(first.join(), null);
+        }
+        // Redis 미스/오류: DB 답 사용
+        awaitQuietly(second);
+        if (!second.isCompletedExceptionally()) {
+            hedgeWins.increment();
+            return new Result(null, second.join());
+        }
+        // 헤지 실패: Redis 답 사용
+        String cachedUrl = await(first);
+        primaryWins.increment();
+        return new Result(cachedUrl, null);
+    }
+
+    private boolean withdrawBudget() {
+        while (true) {
+            long current = budget.get();
+            if (current < TOKEN) {
+                return false;
+            }
+            if (budget.compareAndSet(current, current - TOKEN)) {
+                return true;
+            }
+        }
+    }
+
+    private static boolean isHit(CompletableFuture<String> future) {
+        return future.isDone() && !future.isCompletedExceptionally() && future.join() != null;
+    }
+
+    private static boolean isPresent(CompletableFuture<Optional<String>> future) {
+        return future.isDone() && !future.isCompletedExceptionally() && future.join().isPresent();
+    }
+
+    private static void awaitQuietly(CompletableFuture<?> future) {
+        awaitAny(future, future);
+    }
+
+    private static void awaitAny(CompletableFuture<?> first, CompletableFuture<?> second) {
+        try {
+            CompletableFuture.anyOf(first, second).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for hedged lookup", e);
+        } catch (ExecutionException e) {
+            // 먼저 끝난 쪽이 실패 → 호출자가 각 Future 상태로 판단
+        }
+    }
+
+    private static <T> T await(CompletableFuture<T> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for hedged lookup", e);
+        } catch (ExecutionException e) {
+            throw unwrap(e);
+        }
+    }
+
+    private static RuntimeException unwrap(ExecutionException e) {
+        return e.getCause() instanceof RuntimeException cause
+                ? cause
+                : new IllegalStateException("Hedged lookup failed", e.getCause());
+    }
+}
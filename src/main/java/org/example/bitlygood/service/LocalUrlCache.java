@@ -0,0 +1,339 @@
+package org.example.bitlygood.service;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Spliterator;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.example.bitlygood.domain.UrlChange;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 프로세스 내 URL 캐시 (L1)
+ * 
+ * Redis 앞단에서 인기 링크를 힙에 보관합니다. 크기 제한을 넘으면 무작위로 몇 개를 골라
+ * 접근 빈도가 가장 낮은 항목을 제거하는 근사 LFU 방식이며, 빈도는 주기적으로 절반으로 줄여
+ * 예전에 인기 있던 항목이 계속 남지 않게 합니다.
+ * 
+ * 재시작 시 캐시가 비어 Redis에 요청이 몰리지 않도록, 항목(키, 값, 남은 TTL, 접근 빈도)을
+ * 주기적으로 그리고 종료 시 로컬 디스크의 바이너리 파일에 저장하고 기동 시 남은 TTL로 복원합니다.
+ * TTL은 중단된 동안 흐르지 않으므로 재시작이 TTL보다 오래 걸려도 항목이 유지되며,
+ * 저장 시점에 이미 TTL이 지난 항목은 저장하지 않습니다.
+ * 
+ * 다른 노드에서 만료된 링크는 UrlChangeConsumer로 전달받아 제거하며,
+ * 그 외 변경은 짧은 TTL(app.local-cache.ttl-seconds)로 반영됩니다.
+ * app.local-cache.enabled=true 일 때만 동작합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LocalUrlCache implements UrlChangeConsumer {
+
+    // 파일 형식: magic(4) | version(4) | count(4) | [code(UTF) | url(UTF) | remainingTtlMillis(8) | frequency(4)]*
+    private static final int FILE_MAGIC = 0x42474C43; // "BGLC"
+    private static final int FILE_VERSION = 2;
+
+    // 제거 대상을 고를 때 확인하는 표본 수
+    private static final int EVICTION_SAMPLES = 8;
+
+    // 표본을 모을 임의 구간 수 (키 해시가 몰려 빈 구간이 많을 수 있음)
+    private static final int EVICTION_REGIONS = 8;
+
+    private final MeterRegistry meterRegistry;
+
+    @Value("${app.local-cache.enabled:false}")
+    private boolean enabled;
+
+    @Value("${app.local-cache.max-size:100000}")
+    private int maxSize;
+
+    @Value("${app.local-cache.ttl-seconds:60}")
+    private long ttlSeconds;
+
+    // TTL이 지난 뒤에도 보관하는 시간 (Redis 서킷이 열렸을 때 getStale로만 조회)
+    @Value("${app.local-cache.stale-seconds:300}")
+    private long staleSeconds;
+
+    @Value("${app.local-cache.persist-file:./data/local-cache.bin}")
+    private String persistFile;
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+
+    @PostConstruct
+    public void init() {
+        if (!enabled) {
+            return;
+        }
+        restore();
+        Gauge.builder("url.local-cache.size", entries, Map::size)
+                .description("Entries in the in-process URL cache")
+                .register(meterRegistry);
+        FunctionCounter.builder("url.local-cache.requests", hits, AtomicLong::get).tag("result", "hit")
+                .register(meterRegistry);
+        FunctionCounter.builder("url.local-cache.requests", misses, AtomicLong::get).tag("result", "miss")
+                .register(meterRegistry);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * @return 원본 URL (없거나 만료되었으면 null)
+     */
+    public String get(String shortCode) {
+        if (!enabled) {
+            return null;
+        }
+        Entry entry = entries.get(shortCode);
+        if (entry == null) {
+            misses.incrementAndGet();
+            return null;
+        }
+        long now = System.currentTimeMillis();
+        if (entry.expiresAt <= now) {
+            if (entry.expiresAt + staleSeconds * 1000 <= now) {
+                entries.remove(shortCode, entry);
+            }
+            misses.incrementAndGet();
+            return null;
+        }
+        entry.touch();
+        hits.incrementAndGet();
+        return entry.url;
+    }
+
+    /**
+     * TTL이 지났더라도 stale-seconds 이내인 항목을 반환합니다. (Redis 장애 시 degraded 모드 전용)
+     * 삭제된 링크는 UrlChangeConsumer로 제거되지만, 그 외 변경은 최대 ttl + stale 시간만큼 늦게 반영될 수 있습니다.
+     * 
+     * @return 원본 URL (없거나 stale 구간도 지났으면 null)
+     */
+    public String getStale(String shortCode) {
+        if (!enabled) {
+            return null;
+        }
+        Entry entry = entries.get(shortCode);
+        if (entry == null || entry.expiresAt + staleSeconds * 1000 <= System.currentTimeMillis()) {
+            return null;
+        }
+        entry.touch();
+        return entry.url;
+    }
+
+    public void put(String shortCode, String originalUrl) {
+        if (!enabled) {
+            return;
+        }
+        put(shortCode, new Entry(originalUrl, System.currentTimeMillis() + ttlSeconds * 1000, 1));
+    }
+
+    private void put(String shortCode, Entry entry) {
+        if (entries.put(shortCode, entry) == null && entries.size() > maxSize) {
+            evictOne();
+        }
+    }
+
+    public void invalidate(String shortCode) {
+        entries.remove(shortCode);
+    }
+
+    @Override
+    public void onCreated(List<UrlChange> changes) {
+        // 만료 후 같은 별칭으로 다시 생성된 경우 이전 값 제거
+        changes.forEach(change -> invalidate(change.shortUrl()));
+    }
+
+    @Override
+    public void onRemoved(List<String> shortUrls) {
+        shortUrls.forEach(this::invalidate);
+    }
+
+    /**
+     * 임의 구간의 표본 중 접근 빈도가 가장 낮은 항목을 제거합니다. (근사 LFU)
+     * 
+     * 항상 순회 시작 부분에서 표본을 고르면 테이블 앞쪽 버킷의 인기 항목만 반복해서 제거되므로,
+     * ConcurrentHashMap의 spliterator를 무작위로 반씩 나눠(O(log n)) 표본 수 정도가 남는 구간을 고르고,
+     * 표본이 모자라면 다른 구간에서 더 모읍니다.
+     */
+    private void evictOne() {
+        List<Map.Entry<String, Entry>> samples = new ArrayList<>(EVICTION_SAMPLES);
+        for (int i = 0; i < EVICTION_REGIONS && samples.size() < EVICTION_SAMPLES; i++) {
+            Spliterator<Map.Entry<String, Entry>> region = randomRegion();
+            while (samples.size() < EVICTION_SAMPLES && region.tryAdvance(samples::add)) {
+                // 구간 안에서 표본 수만큼 수집
+            }
+        }
+        if (samples.isEmpty()) {
+            // 고른 구간이 모두 비어 있으면 처음부터 표본을 고름
+            Iterator<Map.Entry<String, Entry>> iterator = entries.entrySet().iterator();
+            while (samples.size() < EVICTION_SAMPLES && iterator.hasNext()) {
+                samples.add(iterator.next());
+            }
+        }
+        samples.stream()
+                .min(Comparator.comparingInt(e -> e.getValue().frequency))
+                .ifPresent(victim -> entries.remove(victim.getKey()));
+    }
+
+    private Spliterator<Map.Entry<String, Entry>> randomRegion() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        Spliterator<Map.Entry<String, Entry>> region = entries.entrySet().spliterator();
+        while (region.estimateSize() > EVICTION_SAMPLES) {
+            Spliterator<Map.Entry<String, Entry>> upper = region.trySplit();
+            if (upper == null) {
+                break;
+            }
+            if (random.nextBoolean()) {
+                region = upper;
+            }
+        }
+        return region;
+    }
+
+    /**
+     * 접근 빈도를 절반으로 줄이고 stale 구간까지 지난 항목을 제거합니다.
+     */
+    @Scheduled(fixedDelayString = "${app.local-cache.decay-interval-ms:60000}")
+    public void decay() {
+        if (!enabled) {
+            return;
+        }
+        long staleBefore = System.currentTimeMillis() - staleSeconds * 1000;
+        entries.entrySet().removeIf(e -> e.getValue().expiresAt <= staleBefore);
+        entries.values().forEach(Entry::halve);
+    }
+
+    /**
+     * 캐시 내용을 파일로 저장합니다. 임시 파일에 쓴 뒤 교체하므로 중간에 종료되어도 이전 파일이 유지됩니다.
+     * 빈도가 높은 항목부터 저장합니다.
+     */
+    @Scheduled(fixedDelayString = "${app.local-cache.persist-interval-ms:60000}",
+            initialDelayString = "${app.local-cache.persist-interval-ms:60000}")
+    public void persist() {
+        if (!enabled) {
+            return;
+        }
+        Path target = Paths.get(persistFile);
+        Path tmp = target.resolveSibling(target.getFileName() + ".tmp");
+        long now = System.currentTimeMillis();
+        List<Map.Entry<String, Entry>> snapshot = new ArrayList<>(entries.entrySet());
+        snapshot.removeIf(e -> e.getValue().expiresAt <= now);
+        snapshot.sort(Comparator.comparingInt((Map.Entry<String, Entry> e) -> e.getValue().frequency).reversed());
+        try {
+            if (target.getParent() != null) {
+                Files.createDirectories(target.getParent());
+            }
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tmp), 1 << 16))) {
+                out.writeInt(FILE_MAGIC);
+                out.writeInt(FILE_VERSION);
+                out.writeInt(snapshot.size());
+                for (Map.Entry<String, Entry> e : snapshot) {
+                    out.writeUTF(e.getKey());
+                    out.writeUTF(e.getValue().url);
+                    out.writeLong(e.getValue().expiresAt - now);
+                    out.writeInt(e.getValue().frequency);
+                }
+            }
+            Files.move(tmp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            log.debug("Local URL cache persisted: {} entries", snapshot.size());
+        } catch (IOException e) {
+            log.error("Failed to persist local URL cache to {}", target, e);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        persist();
+    }
+
+    /**
+     * 저장된 파일의 항목을 저장 당시 남은 TTL로 복원합니다. (최대 max-size개)
+     */
+    void restore() {
+        restore(System.currentTimeMillis());
+    }
+
+    void restore(long now) {
+        Path source = Paths.get(persistFile);
+        if (!Files.exists(source)) {
+            return;
+        }
+        int restored = 0;
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(source), 1 << 16))) {
+            if (in.readInt() != FILE_MAGIC || in.readInt() != FILE_VERSION) {
+                log.warn("Ignoring local URL cache file with unknown format: {}", source);
+                return;
+            }
+            int count = in.readInt();
+            for (int i = 0; i < count && restored < maxSize; i++) {
+                String code = in.readUTF();
+                String url = in.readUTF();
+                long remainingTtlMillis = in.readLong();
+                int frequency = in.readInt();
+                if (remainingTtlMillis > 0) {
+                    entries.put(code, new Entry(url, now + remainingTtlMillis, frequency));
+                    restored++;
+                }
+            }
+            log.info("Local URL cache restored: {} entries from {}", restored, source);
+        } catch (IOException e) {
+            log.warn("Failed to restore local URL cache from {} ({} entries restored)", source, restored, e);
+        }
+    }
+
+    int size() {
+        return entries.size();
+    }
+
+    /**
+     * 캐시 항목 (빈도는 경합 시 일부 증가가 누락될 수 있는 근사값)
+     */
+    private static final class Entry {
+        final String url;
+        final long expiresAt;
+        volatile int frequency;
+
+        Entry(String url, long expiresAt, int frequency) {
+            this.url = url;
+            this.expiresAt = expiresAt;
+            this.frequency = frequency;
+        }
+
+        void touch() {
+            if (frequency < Integer.MAX_VALUE) {
+                frequency++;
+            }
+        }
+
+        void halve() {
+            frequency >>= 1;
+        }
+    }
+}
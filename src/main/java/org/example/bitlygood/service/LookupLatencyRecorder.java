@@ -0,0 +1,171 @@
+package org.example.bitlygood.service;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * 조회 계층별 지연 시간 기록기
+ * 
+ * UrlCacheService.getOriginalUrl의 계층(local, redis, db)마다 결과(hit, miss, error, rejected)별로
+ * 소요 시간을 기록합니다. 기록은 두 곳에 남습니다.
+ * - Micrometer 타이머 url.lookup.tier{tier, outcome}: 퍼센타일 히스토그램 버킷으로 Prometheus에 노출
+ * - HdrHistogram Recorder: 주기(app.latency.interval-ms)마다 구간 히스토그램으로 넘기고 /admin/latency에서 조회
+ * 
+ * Recorder는 기록 스레드끼리 잠금 없이 값을 쌓고, 구간을 넘길 때만 읽기 쪽이 잠깐 전환을 기다립니다.
+ * 기록 비용은 System.nanoTime 두 번과 배열 증가 연산 수준입니다.
+ */
+@Component
+public class LookupLatencyRecorder {
+
+    public enum Tier {
+        LOCAL, REDIS, DB
+    }
+
+    public enum Outcome {
+        HIT, MISS, ERROR, REJECTED
+    }
+
+    // 기록 가능한 최대 값 (이보다 큰 값은 최대 값으로 기록)
+    private static final long HIGHEST_TRACKABLE_NANOS = TimeUnit.SECONDS.toNanos(60);
+
+    // 유효 자릿수 (2 → 오차 1% 이내)
+    private static final int SIGNIFICANT_DIGITS = 2;
+
+    private static final double[] PERCENTILES = { 50, 90, 99, 99.9 };
+
+    private final Series[][] series = new Series[Tier.values().length][Outcome.values().length];
+
+    @Value("${app.latency.interval-ms:10000}")
+    private long intervalMs;
+
+    // 마지막 구간이 끝난 시각 (epoch millis)
+    private long lastRotatedAt = System.currentTimeMillis();
+
+    public LookupLatencyRecorder(MeterRegistry meterRegistry) {
+        for (Tier tier : Tier.values()) {
+            for (Outcome outcome : Outcome.values()) {
+                Timer timer = Timer.builder("url.lookup.tier")
+                        .description("Original URL lookup latency per tier and outcome")
+                        .tag("tier", name(tier))
+                        .tag("outcome", name(outcome))
+                        .publishPercentileHistogram()
+                        .minimumExpectedValue(Duration.ofNanos(1000))
+                        .maximumExpectedValue(Duration.ofSeconds(5))
+                        .register(meterRegistry);
+                series[tier.ordinal()][outcome.ordinal()] = new Series(timer);
+            }
+        }
+    }
+
+    /**
+     * startNanos(System.nanoTime)부터 현재까지의 시간을 기록합니다.
+     */
+    public void record(Tier tier, Outcome outcome, long startNanos) {
+        long elapsed = System.nanoTime() - startNanos;
+        Series target = series[tier.ordinal()][outcome.ordinal()];
+        target.timer.record(elapsed, TimeUnit.NANOSECONDS);
+        target.recorder.recordValue(Math.min(Math.max(elapsed, 1), HIGHEST_TRACKABLE_NANOS));
+    }
+
+    /**
+     * 현재 구간을 마감하고 누적 히스토그램에 더합니다.
+     */
+    @Scheduled(fixedDelayString = "${app.latency.interval-ms:10000}")
+    public synchronized void rotate() {
+        for (Series[] byOutcome : series) {
+            for (Series target : byOutcome) {
+                target.interval = target.recorder.getIntervalHistogram(target.interval);
+                target.total.add(target.interval);
+            }
+        }
+        lastRotatedAt = System.currentTimeMillis();
+    }
+
+    /**
+     * 마지막 구간에서 해당 계층의 응답(hit, miss) 지연 시간 퍼센타일을 반환합니다. (HedgedReads 지연 기준)
+     * 
+     * @return 나노초 (마지막 구간에 기록이 없으면 0)
+     */
+    public synchronized long intervalPercentileNanos(Tier tier, double percentile) {
+        Histogram merged = new Histogram(HIGHEST_TRACKABLE_NANOS, SIGNIFICANT_DIGITS);
+        merged.add(series[tier.ordinal()][Outcome.HIT.ordinal()].interval);
+        merged.add(series[tier.ordinal()][Outcome.MISS.ordinal()].interval);
+        return merged.getTotalCount() == 0 ? 0 : merged.getValueAtPercentile(percentile);
+    }
+
+    /**
+     * 계층/결과별 마지막 구간과 누적 퍼센타일을 반환합니다. (단위: ms, 기록이 없는 항목은 제외)
+     */
+    public synchronized Map<String, Object> snapshot() {
+        Map<String, Object> tiers = new LinkedHashMap<>();
+        for (Tier tier : Tier.values()) {
+            Map<String, Object> outcomes = new LinkedHashMap<>();
+            for (Outcome outcome : Outcome.values()) {
+                Series target = series[tier.ordinal()][outcome.ordinal()];
+                if (target.total.getTotalCount() == 0) {
+                    continue;
+                }
+                outcomes.put(name(outcome), Map.of(
+                        "interval", summarize(target.interval),
+                        "total", summarize(target.total)));
+            }
+            if (!outcomes.isEmpty()) {
+                tiers.put(name(tier), outcomes);
+            }
+        }
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("intervalMs", intervalMs);
+        result.put("intervalEndedAt", lastRotatedAt);
+        result.put("tiers", tiers);
+        return result;
+    }
+
+    private static Map<String, Object> summarize(Histogram histogram) {
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("count", histogram.getTotalCount());
+        for (double percentile : PERCENTILES) {
+            summary.put("p" + format(percentile), toMillis(histogram.getValueAtPercentile(percentile)));
+        }
+        summary.put("max", toMillis(histogram.getMaxValue()));
+        return summary;
+    }
+
+    private static double toMillis(long nanos) {
+        return Math.round(nanos / 1_000.0) / 1_000.0;
+    }
+
+    private static String format(double percentile) {
+        return percentile == Math.rint(percentile)
+                ? String.valueOf((long) percentile)
+                : String.valueOf(percentile).replace(".", "");
+    }
+
+    private static String name(Enum<?> value) {
+        return value.name().toLowerCase(Locale.ROOT);
+    }
+
+    private static final class Series {
+        final Timer timer;
+        final Recorder recorder = new Recorder(HIGHEST_TRACKABLE_NANOS, SIGNIFICANT_DIGITS);
+        final Histogram total = new Histogram(HIGHEST_TRACKABLE_NANOS, SIGNIFICANT_DIGITS);
+        Histogram interval;
+
+        Series(Timer timer) {
+            this.timer = timer;
+            this.interval = recorder.getIntervalHistogram();
+        }
+    }
+}
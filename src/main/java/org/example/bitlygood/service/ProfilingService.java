@@ -0,0 +1,92 @@
+package org.example.bitlygood.service;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.example.bitlygood.exception.ProfilingInProgressException;
+import org.example.bitlygood.util.JfrEvents;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import jdk.jfr.Configuration;
+import jdk.jfr.Event;
+import jdk.jfr.Recording;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 요청 시 JFR 레코딩 서비스
+ * 
+ * 외부 도구 없이 운영 중인 프로세스에서 지정한 시간 동안 JFR 레코딩을 만들고 파일로 돌려줍니다.
+ * JDK 기본 설정(app.profiling.settings, 기본 profile: 메서드 샘플링, 락, GC, I/O)에
+ * 애플리케이션 이벤트(JfrEvents)를 임계값 없이 모두 켜서 기록합니다.
+ * 
+ * 레코딩은 프로세스당 하나만 허용하며, 레코딩 시간은 app.profiling.max-duration으로 제한합니다.
+ */
+@Slf4j
+@Service
+public class ProfilingService {
+
+    private static final List<Class<? extends Event>> APPLICATION_EVENTS = List.of(
+            JfrEvents.CacheLookup.class,
+            JfrEvents.DbFallback.class,
+            JfrEvents.CounterAllocation.class,
+            JfrEvents.CleanupChunk.class);
+
+    private final AtomicBoolean recording = new AtomicBoolean();
+
+    @Value("${app.profiling.max-duration:300s}")
+    private Duration maxDuration;
+
+    @Value("${app.profiling.settings:profile}")
+    private String settings;
+
+    /**
+     * duration 동안 레코딩한 뒤 임시 파일로 저장합니다. (호출한 스레드는 레코딩이 끝날 때까지 대기)
+     * 
+     * @param duration 레코딩 시간 (0보다 크고 max-duration 이하)
+     * @return .jfr 임시 파일 (호출자가 삭제)
+     * @throws ProfilingInProgressException 다른 레코딩이 진행 중인 경우
+     */
+    public Path record(Duration duration) throws IOException, InterruptedException {
+        if (duration.isNegative() || duration.isZero() || duration.compareTo(maxDuration) > 0) {
+            throw new IllegalArgumentException("Recording duration must be positive and at most " + maxDuration);
+        }
+        if (!recording.compareAndSet(false, true)) {
+            throw new ProfilingInProgressException();
+        }
+        try (Recording jfr = new Recording(loadConfiguration())) {
+            jfr.setName("bitly-on-demand");
+            APPLICATION_EVENTS.forEach(event -> jfr.enable(event).withoutThreshold());
+            log.info("Starting JFR recording for {}", duration);
+            jfr.start();
+            Thread.sleep(duration.toMillis());
+            jfr.stop();
+
+            Path file = Files.createTempFile("bitly-", ".jfr");
+            try {
+                jfr.dump(file);
+            } catch (IOException | RuntimeException e) {
+                // 덤프에 실패한 빈 임시 파일이 남지 않도록 삭제
+                Files.deleteIfExists(file);
+                throw e;
+            }
+            log.info("JFR recording finished: {} ({} bytes)", file, Files.size(file));
+            return file;
+        } finally {
+            recording.set(false);
+        }
+    }
+
+    private Configuration loadConfiguration() throws IOException {
+        try {
+            return Configuration.getConfiguration(settings);
+        } catch (ParseException e) {
+            throw new IOException("Invalid JFR settings: " + settings, e);
+        }
+    }
+}
@@ -0,0 +1,174 @@
+package org.example.bitlygood.service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.ClusterSlotHashUtil;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.stereotype.Component;
+
+import io.lettuce.core.KeyValue;
+import io.lettuce.core.LettuceFutures;
+import io.lettuce.core.RedisFuture;
+import io.lettuce.core.api.async.RedisStringAsyncCommands;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Redis 다중 키 연산 (단일 노드 / 클러스터 공용)
+ * 
+ * 단일 노드에서는 MGET 한 번과 파이프라인 한 번으로 처리합니다.
+ * 
+ * 클러스터 모드에서는 키마다 해시 슬롯이 달라 MGET 한 번으로 처리할 수 없으므로
+ * (CROSSSLOT 오류), 키를 슬롯별로 묶어 슬롯당 MGET 한 번씩 보냅니다.
+ * 모든 슬롯의 MGET/SET은 Lettuce의 비동기 클러스터 커넥션으로 동시에 전송되며,
+ * Lettuce가 슬롯 → 노드 라우팅을 처리하므로 노드마다 명령이 파이프라인처럼 연속 전송됩니다.
+ * 
+ * 클러스터 여부는 LettuceConnectionFactory 설정(spring.data.redis.cluster.nodes)으로 판단합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RedisBulkOperations {
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    @Value("${spring.data.redis.timeout:5s}")
+    private Duration commandTimeout;
+
+    private boolean clusterMode;
+
+    @PostConstruct
+    public void init() {
+        clusterMode = redisTemplate.getConnectionFactory() instanceof LettuceConnectionFactory factory
+                && factory.isClusterAware();
+        if (clusterMode) {
+            log.info("Redis cluster mode detected: multi-key operations are split by hash slot");
+        }
+    }
+
+    public boolean isClusterMode() {
+        return clusterMode;
+    }
+
+    /**
+     * 여러 키를 한 번에 조회합니다.
+     * 
+     * @param keys 조회할 키 목록
+     * @return 키 순서와 같은 순서의 값 목록 (없는 키는 null)
+     */
+    public List<String> multiGet(List<String> keys) {
+        if (keys.isEmpty()) {
+            return List.of();
+        }
+        if (!clusterMode) {
+            return redisTemplate.opsForValue().multiGet(keys);
+        }
+        return redisTemplate.execute((RedisCallback<List<String>>) connection -> clusterMultiGet(connection, keys));
+    }
+
+    /**
+     * 여러 키를 같은 TTL로 한 번에 저장합니다.
+     * 
+     * @param values 키 → 값
+     * @param ttl    만료 시간
+     */
+    public void setAll(Map<String, String> values, Duration ttl) {
+        if (values.isEmpty()) {
+            return;
+        }
+        if (!clusterMode) {
+            redisTemplate.executePipelined(new SessionCallback<Object>() {
+                @Override
+                @SuppressWarnings("unchecked")
+                public <K, V> Object execute(RedisOperations<K, V> operations) {
+                    RedisOperations<String, String> ops = (RedisOperations<String, String>) operations;
+                    values.forEach((key, value) -> ops.opsForValue().set(key, value, ttl));
+                    return null;
+                }
+            });
+            return;
+        }
+        redisTemplate.execute((RedisCallback<Void>) connection -> {
+            clusterSetAll(connection, values, ttl);
+            return null;
+        });
+    }
+
+    /**
+     * 키 목록을 해시 슬롯별로 묶습니다. (키 인덱스 목록)
+     */
+    static Map<Integer, List<Integer>> groupBySlot(List<String> keys) {
+        Map<Integer, List<Integer>> indexesBySlot = new LinkedHashMap<>();
+        for (int i = 0; i < keys.size(); i++) {
+            int slot = ClusterSlotHashUtil.calculateSlot(keys.get(i));
+            indexesBySlot.computeIfAbsent(slot, s -> new ArrayList<>()).add(i);
+        }
+        return indexesBySlot;
+    }
+
+    private List<String> clusterMultiGet(RedisConnection connection, List<String> keys) {
+        RedisStringAsyncCommands<byte[], byte[]> commands = asyncCommands(connection);
+        List<List<Integer>> groups = new ArrayList<>(groupBySlot(keys).values());
+
+        // 슬롯별 MGET을 모두 보낸 뒤 한꺼번에 대기
+        List<RedisFuture<List<KeyValue<byte[], byte[]>>>> futures = new ArrayList<>(groups.size());
+        for (List<Integer> group : groups) {
+            byte[][] slotKeys = new byte[group.size()][];
+            for (int j = 0; j < group.size(); j++) {
+                slotKeys[j] = serialize(keys.get(group.get(j)));
+            }
+            futures.add(commands.mget(slotKeys));
+        }
+        await(futures);
+
+        String[] values = new String[keys.size()];
+        for (int g = 0; g < groups.size(); g++) {
+            List<Integer> group = groups.get(g);
+            List<KeyValue<byte[], byte[]>> keyValues = futures.get(g).toCompletableFuture().join();
+            for (int j = 0; j < group.size(); j++) {
+                KeyValue<byte[], byte[]> keyValue = keyValues.get(j);
+                if (keyValue.hasValue()) {
+                    values[group.get(j)] = new String(keyValue.getValue(), StandardCharsets.UTF_8);
+                }
+            }
+        }
+        return Arrays.asList(values);
+    }
+
+    private void clusterSetAll(RedisConnection connection, Map<String, String> values, Duration ttl) {
+        RedisStringAsyncCommands<byte[], byte[]> commands = asyncCommands(connection);
+        List<RedisFuture<String>> futures = new ArrayList<>(values.size());
+        values.forEach((key, value) -> futures.add(
+                commands.psetex(serialize(key), ttl.toMillis(), serialize(value))));
+        await(futures);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static RedisStringAsyncCommands<byte[], byte[]> asyncCommands(RedisConnection connection) {
+        // LettuceClusterConnection의 네이티브 커넥션은 슬롯 라우팅을 수행하는 RedisAdvancedClusterAsyncCommands
+        return (RedisStringAsyncCommands<byte[], byte[]>) connection.getNativeConnection();
+    }
+
+    private void await(List<? extends RedisFuture<?>> futures) {
+        if (!LettuceFutures.awaitAll(commandTimeout, futures.toArray(new RedisFuture[0]))) {
+            throw new IllegalStateException("Redis cluster bulk operation timed out after " + commandTimeout);
+        }
+    }
+
+    private static byte[] serialize(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
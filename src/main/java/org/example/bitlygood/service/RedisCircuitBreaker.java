@@ -0,0 +1,204 @@
+package org.example.bitlygood.service;
+
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.example.bitlygood.util.CircuitBreaker;
+import org.example.bitlygood.util.CircuitBreaker.State;
+import org.example.bitlygood.util.TokenBucket;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Redis 서킷 브레이커와 장애(degraded) 모드 지원
+ * 
+ * Redis가 멈추면 조회마다 spring.data.redis.timeout(5초)을 기다린 뒤 DB로 넘어가므로,
+ * 대기 중인 요청과 DB 부하가 함께 급증합니다. UrlCacheService는 Redis 호출 전후에 이 컴포넌트를 거쳐
+ * 오류율 또는 느린 호출 비율이 높아지면 Redis 호출을 건너뜁니다.
+ * 
+ * 서킷이 열린 동안(degraded 모드):
+ * - 로컬 캐시(LocalUrlCache)의 TTL 지난 항목도 stale-seconds 이내면 그대로 응답하고(stale),
+ *   백그라운드에서 DB로 다시 확인(revalidate)합니다.
+ * - 로컬에 없는 코드는 초당 db-permits-per-second개까지만 DB에서 조회하고, 초과분은 503으로 거부합니다.
+ *   (revalidate도 같은 허용량을 사용)
+ * - HALF_OPEN 상태에서는 일부 요청만 Redis로 보내 회복 여부를 확인합니다.
+ * 
+ * 메트릭:
+ * - redis.circuit.state: 0(closed), 1(open), 2(half_open)
+ * - redis.circuit.transitions{from, to}: 상태 전환 횟수
+ * - redis.circuit.degraded{result}: degraded 모드 처리 결과 (stale, db, rejected)
+ * 
+ * app.redis.circuit-breaker.enabled=true 일 때만 동작하며, 비활성화 시 항상 Redis를 호출합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RedisCircuitBreaker {
+
+    private final MeterRegistry meterRegistry;
+
+    @Value("${app.redis.circuit-breaker.enabled:false}")
+    private boolean enabled;
+
+    @Value("${app.redis.circuit-breaker.window-ms:10000}")
+    private long windowMs;
+
+    @Value("${app.redis.circuit-breaker.minimum-calls:20}")
+    private int minimumCalls;
+
+    @Value("${app.redis.circuit-breaker.failure-rate-threshold:0.5}")
+    private double failureRateThreshold;
+
+    @Value("${app.redis.circuit-breaker.slow-call-ms:250}")
+    private long slowCallMs;
+
+    @Value("${app.redis.circuit-breaker.open-ms:5000}")
+    private long openMs;
+
+    @Value("${app.redis.circuit-breaker.half-open-probes:5}")
+    private int halfOpenProbes;
+
+    @Value("${app.redis.circuit-breaker.degraded.db-permits-per-second:200}")
+    private double dbPermitsPerSecond;
+
+    @Value("${app.redis.circuit-breaker.degraded.revalidate-queue-size:1000}")
+    private int revalidateQueueSize;
+
+    private CircuitBreaker breaker;
+    private TokenBucket dbPermits;
+    private ThreadPoolExecutor revalidator;
+    private final Set<String> revalidating = ConcurrentHashMap.newKeySet();
+
+    @PostConstruct
+    public void init() {
+        if (!enabled) {
+            return;
+        }
+        breaker = new CircuitBreaker(TimeUnit.MILLISECONDS.toNanos(windowMs), minimumCalls, failureRateThreshold,
+                TimeUnit.MILLISECONDS.toNanos(slowCallMs), TimeUnit.MILLISECONDS.toNanos(openMs), halfOpenProbes,
+                this::onTransition);
+        dbPermits = new TokenBucket(dbPermitsPerSecond, dbPermitsPerSecond);
+        revalidator = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(revalidateQueueSize), runnable -> {
+                    Thread thread = new Thread(runnable, "redis-degraded-revalidator");
+                    thread.setDaemon(true);
+                    return thread;
+                }, new ThreadPoolExecutor.AbortPolicy());
+
+        Gauge.builder("redis.circuit.state", breaker, b -> b.getState().ordinal())
+                .description("Redis circuit breaker state (0=closed, 1=open, 2=half_open)")
+                .register(meterRegistry);
+        log.info("Redis circuit breaker started (failureRate>={}, slowCall>={}ms, open={}ms)",
+                failureRateThreshold, slowCallMs, openMs);
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (revalidator != null) {
+            revalidator.shutdownNow();
+        }
+    }
+
+    /**
+     * Redis 호출 가능 여부 (OPEN이면 false, HALF_OPEN이면 시험 호출만 true)
+     * true를 받은 호출은 onResult로 결과를 기록해야 합니다.
+     */
+    public boolean tryAcquire() {
+        return breaker == null || breaker.tryAcquire();
+    }
+
+    /**
+     * tryAcquire로 허용된 Redis 호출의 결과를 기록합니다.
+     * 
+     * @param startNanos System.nanoTime() 기준 호출 시작 시각
+     * @param error      예외 발생 여부
+     */
+    public void onResult(long startNanos, boolean error) {
+        if (breaker != null) {
+            breaker.onResult(System.nanoTime() - startNanos, error);
+        }
+    }
+
+    /**
+     * CLOSED 상태인지 확인합니다. (캐시 저장처럼 결과를 기록하지 않는 호출의 실행 여부 판단용)
+     */
+    public boolean isClosed() {
+        return breaker == null || breaker.getState() == State.CLOSED;
+    }
+
+    /**
+     * degraded 모드에서 DB 조회 허용량을 하나 사용합니다.
+     */
+    public boolean tryAcquireDbFallback() {
+        if (dbPermits == null || dbPermits.tryAcquire()) {
+            return true;
+        }
+        recordDegraded("rejected");
+        return false;
+    }
+
+    /**
+     * degraded 모드 DB 조회가 다시 허용될 때까지의 시간 (Retry-After, 최소 1초)
+     */
+    public long retryAfterSeconds() {
+        long nanos = dbPermits != null ? dbPermits.nanosUntilNextToken() : 0;
+        return Math.max(1, (long) Math.ceil(nanos / 1e9));
+    }
+
+    /**
+     * stale 응답한 코드를 백그라운드에서 다시 확인합니다.
+     * 같은 코드의 확인이 진행 중이거나, DB 허용량 또는 대기열이 부족하면 건너뜁니다.
+     */
+    public void revalidate(String shortCode, Runnable refresh) {
+        if (revalidator == null || !revalidating.add(shortCode)) {
+            return;
+        }
+        if (!dbPermits.tryAcquire()) {
+            revalidating.remove(shortCode);
+            return;
+        }
+        try {
+            revalidator.execute(() -> {
+                try {
+                    refresh.run();
+                } catch (Exception e) {
+                    log.debug("Revalidation failed for short code: {} ({})", shortCode, e.getMessage());
+                } finally {
+                    revalidating.remove(shortCode);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            revalidating.remove(shortCode);
+        }
+    }
+
+    /**
+     * degraded 모드 처리 결과를 기록합니다. (stale, db, rejected)
+     */
+    public void recordDegraded(String result) {
+        meterRegistry.counter("redis.circuit.degraded", "result", result).increment();
+    }
+
+    private void onTransition(State from, State to) {
+        if (to == State.OPEN) {
+            log.warn("Redis circuit breaker {} -> {}: serving in degraded mode", from, to);
+        } else {
+            log.info("Redis circuit breaker {} -> {}", from, to);
+        }
+        meterRegistry.counter("redis.circuit.transitions",
+                "from", from.name().toLowerCase(Locale.ROOT), "to", to.name().toLowerCase(Locale.ROOT))
+                .increment();
+    }
+}
@@ -1,7 +1,15 @@
 package org.example.bitlygood.service;
 
 import io.micrometer.observation.annotation.Observed;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.example.bitlygood.util.JfrEvents;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Service;
 
@@ -11,7 +19,21 @@ import org.springframework.stereotype.Service;
  * 이 서비스는 URL 단축 서비스의 핵심 컴포넌트로, Redis의 INCR 명령의 원자성을 활용하여
  * 다중 서버 환경에서도 안전하게 고유한 카운터 값을 제공합니다.
  * 
+ * 스트라이핑 (app.redis.counter.stripes > 1):
+ * Redis 클러스터에서 모든 생성 요청이 "url_counter" 키 하나(한 슬롯, 한 노드)에 몰리지 않도록
+ * 카운터를 여러 키로 나눕니다. i번째 스트라이프 키의 INCR 결과가 n이면 n * stripes + i 를 발급하므로
+ * 스트라이프끼리 값이 겹치지 않습니다. 스트라이프 키는 이름이 달라 서로 다른 슬롯에 분산됩니다.
+ * 
+ * 스트라이프 키(url_counter:s{stripes}:{i})는 "url_counter"와 별도의 키이며, 최초 사용 시
+ * 지금까지 발급된 값 + stripe-headroom 위에서 시작하도록 초기화(SETNX)합니다.
+ * 롤링 배포 중 아직 stripes=1인 노드가 "url_counter"를 계속 증가시켜도 headroom 안에서는 겹치지 않습니다.
+ * 
+ * 사용 중인 스트라이프 수는 "url_counter:stripes" 키에 기록하며, 설정이 다른 노드는 기동하지 않습니다.
+ * (스트라이프 수를 바꾸거나 1로 되돌리면 이미 발급된 값과 겹칠 수 있으므로)
+ * 스트라이프 수를 바꾸려면 모든 노드를 멈추고 "url_counter"를 현재 최댓값(getCurrentCounter)으로 설정한 뒤
+ * "url_counter:stripes" 키를 삭제하고 새 설정으로 기동합니다.
  */
+@Slf4j
 @Service
 @RequiredArgsConstructor
 @Observed(name = "redis.counter", contextualName = "redis-counter-service")
@@ -23,6 +45,42 @@ public class RedisCounterService {
     // Redis에 저장될 카운터 키 이름 (전역적으로 고유해야 함)
     private static final String COUNTER_KEY = "url_counter";
 
+    // 카운터 스트라이프 수 (1이면 단일 키)
+    @Value("${app.redis.counter.stripes:1}")
+    private int stripes;
+
+    // 사용 중인 스트라이프 수를 기록하는 키
+    private static final String STRIPES_KEY = COUNTER_KEY + ":stripes";
+
+    // 스트라이프 키 시작값과 기존 발급 값 사이의 여유분 (롤링 배포 중 기존 노드가 발급할 수 있는 개수)
+    @Value("${app.redis.counter.stripe-headroom:10000000}")
+    private long stripeHeadroom;
+
+    // 스트라이프 키 초기화 여부
+    private volatile boolean stripesSeeded;
+
+    /**
+     * 기동 시 Redis에 기록된 스트라이프 수와 설정이 같은지 확인합니다.
+     * 
+     * 다르면 이미 발급된 값과 겹칠 수 있으므로 기동을 중단합니다.
+     * Redis에 연결할 수 없으면 첫 카운터 발급 시 다시 확인합니다. (stripes=1은 기동 시에만 확인)
+     */
+    @PostConstruct
+    public void verifyStripes() {
+        try {
+            if (stripes <= 1) {
+                String recorded = redisTemplate.opsForValue().get(STRIPES_KEY);
+                if (recorded != null && !"1".equals(recorded)) {
+                    throw stripeMismatch(recorded);
+                }
+                return;
+            }
+            seedStripes();
+        } catch (DataAccessException e) {
+            log.warn("Could not verify counter stripes at startup: {}", e.getMessage());
+        }
+    }
+
     /**
      * Redis의 INCR 명령을 사용하여 원자적으로 카운터 값을 증가시키고 반환합니다.
      * 
@@ -45,13 +103,79 @@ public class RedisCounterService {
      */
     @Observed(name = "redis.counter.getNextCounter", contextualName = "redis-incr-counter")
     public long getNextCounter() {
-        Long next = redisTemplate.opsForValue().increment(COUNTER_KEY);
+        JfrEvents.CounterAllocation event = new JfrEvents.CounterAllocation();
+        event.begin();
+        if (stripes <= 1) {
+            long counter = increment(COUNTER_KEY);
+            event.commit(counter, 0);
+            return counter;
+        }
+        seedStripes();
+        int stripe = ThreadLocalRandom.current().nextInt(stripes);
+        long counter = increment(stripeKey(stripe)) * stripes + stripe;
+        event.commit(counter, stripe);
+        return counter;
+    }
+
+    private long increment(String key) {
+        Long next = redisTemplate.opsForValue().increment(key);
         if (next == null) {
-            throw new IllegalStateException("Redis INCR returned null for key: " + COUNTER_KEY);
+            throw new IllegalStateException("Redis INCR returned null for key: " + key);
         }
         return next;
     }
 
+    /**
+     * 스트라이프 키를 지금까지 발급된 값 + headroom 위로 초기화하고 스트라이프 수를 기록합니다.
+     * (이미 있으면 유지, 기록된 스트라이프 수가 다르면 IllegalStateException)
+     * 
+     * 스트라이프 키를 모두 초기화한 뒤에 스트라이프 수를 기록하므로,
+     * 기록을 본 다른 노드는 항상 초기화된 스트라이프 키를 사용합니다.
+     */
+    private void seedStripes() {
+        if (stripesSeeded) {
+            return;
+        }
+        synchronized (this) {
+            if (stripesSeeded) {
+                return;
+            }
+            String recorded = redisTemplate.opsForValue().get(STRIPES_KEY);
+            if (recorded == null) {
+                String seed = String.valueOf((issuedBeforeStripes() + stripeHeadroom) / stripes + 1);
+                for (int stripe = 0; stripe < stripes; stripe++) {
+                    redisTemplate.opsForValue().setIfAbsent(stripeKey(stripe), seed);
+                }
+                redisTemplate.opsForValue().setIfAbsent(STRIPES_KEY, String.valueOf(stripes));
+                recorded = redisTemplate.opsForValue().get(STRIPES_KEY);
+            }
+            if (!String.valueOf(stripes).equals(recorded)) {
+                throw stripeMismatch(recorded);
+            }
+            stripesSeeded = true;
+        }
+    }
+
+    /**
+     * 스트라이프 키 초기화 전까지 "url_counter"로 발급되었을 수 있는 최댓값 (넉넉하게 추정)
+     */
+    private long issuedBeforeStripes() {
+        return readCounter(COUNTER_KEY) * stripes + stripes;
+    }
+
+    private IllegalStateException stripeMismatch(String recorded) {
+        return new IllegalStateException("Counter stripes mismatch: Redis " + STRIPES_KEY + "=" + recorded
+                + " but app.redis.counter.stripes=" + stripes
+                + ". Changing the stripe count can reissue existing codes; see RedisCounterService for the migration steps");
+    }
+
+    /**
+     * 스트라이프 키 이름 (스트라이프 수마다 별도 키)
+     */
+    private String stripeKey(int stripe) {
+        return COUNTER_KEY + ":s" + stripes + ":" + stripe;
+    }
+
     /**
      * 현재 카운터 값을 조회합니다.
      * 
@@ -65,7 +189,22 @@ public class RedisCounterService {
      * @return 현재 카운터 값 (카운터가 설정되지 않은 경우 0)
      */
     public long getCurrentCounter() {
-        String value = redisTemplate.opsForValue().get(COUNTER_KEY);
+        if (stripes <= 1) {
+            return readCounter(COUNTER_KEY);
+        }
+        // 스트라이프 중 가장 최근에 발급된 값
+        long max = 0;
+        for (int stripe = 0; stripe < stripes; stripe++) {
+            long value = readCounter(stripeKey(stripe));
+            if (value > 0) {
+                max = Math.max(max, value * stripes + stripe);
+            }
+        }
+        return max;
+    }
+
+    private long readCounter(String key) {
+        String value = redisTemplate.opsForValue().get(key);
         if (value == null)
             return 0;
         try {
@@ -90,7 +229,13 @@ public class RedisCounterService {
      * @param initialValue 카운터를 설정할 초기값 (일반적으로 0 또는 1)
      */
     public void resetCounter(long initialValue) {
-        // Redis SET 명령으로 카운터를 지정된 값으로 초기화
-        redisTemplate.opsForValue().set(COUNTER_KEY, String.valueOf(initialValue));
+        // Redis SET 명령으로 카운터를 지정된 값으로 초기화 (스트라이프 사용 시 모든 스트라이프 키)
+        if (stripes <= 1) {
+            redisTemplate.opsForValue().set(COUNTER_KEY, String.valueOf(initialValue));
+            return;
+        }
+        for (int stripe = 0; stripe < stripes; stripe++) {
+            redisTemplate.opsForValue().set(stripeKey(stripe), String.valueOf(initialValue));
+        }
     }
 }
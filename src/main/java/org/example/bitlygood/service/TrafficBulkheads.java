@@ -0,0 +1,117 @@
+package org.example.bitlygood.service;
+
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import org.example.bitlygood.exception.OverloadedException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 트래픽 종류별 벌크헤드 (동시 처리 수 분리)
+ *
+ * 리다이렉션(GET /{shortUrl}, POST /urls/resolve)과 생성(POST /urls, /urls/simple)이 같은 Tomcat 스레드 풀을 쓰면
+ * 느린 생성 요청이 몰릴 때 스레드가 모두 생성 요청에 묶여 리다이렉션(트래픽의 95%)까지 느려집니다.
+ * 종류별 세마포어로 동시에 처리 중인 요청 수를 제한하여, 생성 요청이 Tomcat 스레드를 create.max-concurrent개보다
+ * 많이 잡지 못하게 합니다.
+ *
+ * - 컨트롤러는 동기 방식 그대로이며 요청은 Tomcat 스레드에서 처리 (비동기 디스패치 없음)
+ * - 허용 수를 넘는 요청은 기다리지 않고 OverloadedException(503 + Retry-After)으로 즉시 거부
+ *
+ * DB 커넥션은 DatabaseConcurrencyLimiter의 lookup/write 한도로 나뉘며(app.limiter.*),
+ * Redis는 Lettuce가 하나의 네이티브 커넥션을 다중화하여 공유하므로 별도로 나누지 않습니다.
+ *
+ * 메트릭 (name=redirect|create):
+ * - bulkhead.active: 처리 중인 요청 수
+ * - bulkhead.rejected: 허용 수 초과로 거부된 요청 수
+ *
+ * app.bulkhead.enabled=false 이면 제한 없이 바로 실행합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TrafficBulkheads {
+
+    private final MeterRegistry meterRegistry;
+
+    @Value("${app.bulkhead.enabled:false}")
+    private boolean enabled;
+
+    @Value("${app.bulkhead.redirect.max-concurrent:400}")
+    private int redirectMaxConcurrent;
+
+    @Value("${app.bulkhead.create.max-concurrent:20}")
+    private int createMaxConcurrent;
+
+    @Value("${app.bulkhead.retry-after-seconds:1}")
+    private long retryAfterSeconds;
+
+    private Semaphore redirectPermits;
+    private Semaphore createPermits;
+    private final AtomicLong redirectRejected = new AtomicLong();
+    private final AtomicLong createRejected = new AtomicLong();
+
+    @PostConstruct
+    public void init() {
+        if (!enabled) {
+            return;
+        }
+        redirectPermits = newBulkhead("redirect", redirectMaxConcurrent, redirectRejected);
+        createPermits = newBulkhead("create", createMaxConcurrent, createRejected);
+
+        log.info("Traffic bulkheads enabled (redirect {}, create {} concurrent requests)",
+                redirectMaxConcurrent, createMaxConcurrent);
+    }
+
+    private Semaphore newBulkhead(String name, int maxConcurrent, AtomicLong rejected) {
+        Semaphore permits = new Semaphore(maxConcurrent);
+        Gauge.builder("bulkhead.active", permits, p -> maxConcurrent - p.availablePermits()).tag("name", name)
+                .description("Requests currently running in the bulkhead")
+                .register(meterRegistry);
+        FunctionCounter.builder("bulkhead.rejected", rejected, AtomicLong::get).tag("name", name)
+                .description("Requests rejected because the bulkhead was full")
+                .register(meterRegistry);
+        return permits;
+    }
+
+    /**
+     * 리다이렉션(조회) 작업을 redirect 허용 수 안에서 실행합니다.
+     *
+     * @throws OverloadedException redirect 허용 수를 넘은 경우
+     */
+    public <T> T redirect(Supplier<T> task) {
+        return execute("redirect", redirectPermits, redirectRejected, task);
+    }
+
+    /**
+     * 생성 작업을 create 허용 수 안에서 실행합니다.
+     *
+     * @throws OverloadedException create 허용 수를 넘은 경우
+     */
+    public <T> T create(Supplier<T> task) {
+        return execute("create", createPermits, createRejected, task);
+    }
+
+    private <T> T execute(String name, Semaphore permits, AtomicLong rejected, Supplier<T> task) {
+        if (!enabled) {
+            return task.get();
+        }
+        if (!permits.tryAcquire()) {
+            rejected.incrementAndGet();
+            throw new OverloadedException("bulkhead-" + name, retryAfterSeconds);
+        }
+        try {
+            return task.get();
+        } finally {
+            permits.release();
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package org.example.bitlygood.service;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.example.bitlygood.repository.UrlStore;
+import org.example.bitlygood.util.MicroBatcher;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 캐시 미스 DB 조회 배칭 로더
+ * 
+ * 콜드 캐시 상황에서는 수많은 요청 스레드가 각자 단건 쿼리를 실행하며 Hikari 커넥션을 하나씩 점유합니다.
+ * 이 로더는 짧은 시간(기본 1ms) 동안 동시에 발생한 캐시 미스를 모아
+ * short_url = ANY(?) 쿼리 한 번으로 조회하고 각 요청자에게 결과를 돌려줍니다.
+ * 
+ * 효과:
+ * - 캐시 미스 조회에 사용되는 DB 커넥션 수가 max-concurrent-batches 이하로 제한됨
+ * - 초당 쿼리 수가 배치 크기만큼 감소
+ * 
+ * app.db.batch-loader.enabled=true 일 때만 동작하며, 비활성화 시 UrlCacheService가 단건 쿼리를 직접 실행합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UrlBatchLoader {
+
+    private final UrlStore urlStore;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${app.db.batch-loader.enabled:false}")
+    private boolean enabled;
+
+    @Value("${app.db.batch-loader.max-batch-size:128}")
+    private int maxBatchSize;
+
+    @Value("${app.db.batch-loader.max-wait-micros:1000}")
+    private long maxWaitMicros;
+
+    @Value("${app.db.batch-loader.max-concurrent-batches:4}")
+    private int maxConcurrentBatches;
+
+    @Value("${app.db.batch-loader.max-queue-size:10000}")
+    private int maxQueueSize;
+
+    @Value("${app.db.batch-loader.timeout-ms:5000}")
+    private long timeoutMs;
+
+    private MicroBatcher<String, String> batcher;
+
+    @PostConstruct
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        batcher = new MicroBatcher<>("url-db-loader", maxBatchSize, Duration.ofNanos(maxWaitMicros * 1000),
+                maxConcurrentBatches, maxQueueSize, urlStore::getAll);
+
+        FunctionCounter.builder("url.db.batch.queries", batcher, MicroBatcher::getBatchCount)
+                .description("Batched cache-miss queries executed")
+                .register(meterRegistry);
+        FunctionCounter.builder("url.db.batch.keys", batcher, MicroBatcher::getKeyCount)
+                .description("Distinct short codes looked up by batched queries")
+                .register(meterRegistry);
+        Gauge.builder("url.db.batch.queue.size", batcher, MicroBatcher::getQueueSize)
+                .description("Cache misses waiting for the next batch")
+                .register(meterRegistry);
+
+        log.info("URL batch loader started (maxBatchSize={}, maxWait={}us, maxConcurrentBatches={})",
+                maxBatchSize, maxWaitMicros, maxConcurrentBatches);
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (batcher != null) {
+            batcher.close();
+        }
+    }
+
+    public boolean isEnabled() {
+        return batcher != null;
+    }
+
+    /**
+     * 배치 조회를 통해 원본 URL을 조회합니다. (결과가 나올 때까지 대기)
+     * 
+     * @param shortCode 조회할 단축코드
+     * @return 원본 URL (존재하지 않거나 만료되었으면 빈 값)
+     * @throws IllegalStateException 배치 조회 실패, 시간 초과 또는 대기 큐 초과
+     */
+    public Optional<String> load(String shortCode) {
+        try {
+            return Optional.ofNullable(batcher.submit(shortCode).get(timeoutMs, TimeUnit.MILLISECONDS));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for batched URL lookup", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Batched URL lookup failed", e.getCause());
+        } catch (TimeoutException e) {
+            throw new IllegalStateException("Batched URL lookup timed out after " + timeoutMs + "ms", e);
+        }
+    }
+}
@@ -1,11 +1,27 @@
 package org.example.bitlygood.service;
 
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.LongAdder;
 
-import org.example.bitlygood.repository.UrlRepository;
+import org.example.bitlygood.config.ReadYourWritesWindow;
+import org.example.bitlygood.config.ReplicationRoutingDataSource;
+import org.example.bitlygood.exception.OverloadedException;
+import org.example.bitlygood.repository.UrlStore;
+import org.example.bitlygood.service.LookupLatencyRecorder.Outcome;
+import org.example.bitlygood.service.LookupLatencyRecorder.Tier;
+import org.example.bitlygood.util.JfrEvents;
+import org.example.bitlygood.util.UrlCodec;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
 import io.micrometer.observation.annotation.Observed;
@@ -23,6 +39,10 @@ import lombok.extern.slf4j.Slf4j;
  * - 캐시 만료 관리: TTL 기반 자동 만료
  * - 캐시 무효화: URL 변경 시 캐시 삭제
  * - 통계 수집: 캐시 히트율 및 성능 지표 수집
+ * 
+ * 저장 구조 (app.cache.layout):
+ * - string (기본): 링크마다 url:&lt;code&gt; 문자열 키
+ * - hash: 버킷 해시의 필드로 저장하여 키 오버헤드 절감 (HashBucketUrlCache 참고)
  */
 @Slf4j
 @Service
@@ -31,23 +51,52 @@ import lombok.extern.slf4j.Slf4j;
 public class UrlCacheService {
 
     private final RedisTemplate<String, String> redisTemplate;
-    private final UrlRepository urlRepository;
+    private final UrlStore urlStore;
+    private final ReadYourWritesWindow readYourWritesWindow;
+    private final UrlBatchLoader urlBatchLoader;
+    private final RedisAutoPipeline redisAutoPipeline;
+    private final RedisBulkOperations redisBulkOperations;
+    private final HashBucketUrlCache hashBucketUrlCache;
+    private final UrlSnapshotService urlSnapshotService;
+    private final LocalUrlCache localUrlCache;
+    private final LookupLatencyRecorder lookupLatency;
+    private final DatabaseConcurrencyLimiter databaseConcurrencyLimiter;
+    private final RedisCircuitBreaker redisCircuitBreaker;
+    private final HedgedReads hedgedReads;
 
     // 캐시 키 접두사
     private static final String URL_CACHE_PREFIX = "url:";
 
+    // 캐시 통계 키
+    private static final String CACHE_HITS_KEY = "cache_stats:hits";
+    private static final String CACHE_MISSES_KEY = "cache_stats:misses";
+
+    // Redis에 아직 반영되지 않은 캐시 통계 (flushCacheStats에서 주기적으로 반영)
+    private final LongAdder pendingHits = new LongAdder();
+    private final LongAdder pendingMisses = new LongAdder();
+
     // 캐시 TTL 설정 (application.properties에서 주입)
     @Value("${app.cache.url.ttl:3600}") // 기본 1시간
     private long urlCacheTtlSeconds;
 
+    // 캐시 값 압축 여부 (UrlCodec 사전 치환)
+    @Value("${app.url-codec.cache.enabled:false}")
+    private boolean compressCacheValues;
+
     /**
      * 단축코드로 원본 URL을 조회합니다. (캐시 우선)
      * 
      * Cache-Aside 패턴:
+     * 0. 로컬 스냅샷과 프로세스 내 캐시가 활성화되어 있으면 먼저 확인 (UrlSnapshotService, LocalUrlCache)
      * 1. 캐시에서 조회 시도
      * 2. 캐시 미스 시 데이터베이스에서 조회
      * 3. 데이터베이스 결과를 캐시에 저장
      * 
+     * Redis 서킷(RedisCircuitBreaker)이 열려 있으면 1~3단계 대신 degraded 모드로 조회합니다. (degradedLookup)
+     * 헤징(HedgedReads)이 켜져 있으면 1단계의 Redis 조회가 느릴 때 2단계 DB 조회를 미리 시작하고 먼저 온 답을 사용합니다.
+     * 
+     * 계층(local, redis, db)별 소요 시간은 결과(hit, miss, error)와 함께 LookupLatencyRecorder에 기록됩니다.
+     * 
      * @param shortCode 조회할 단축코드
      * @return 원본 URL (Optional)
      */
@@ -55,13 +104,47 @@ public class UrlCacheService {
     public Optional<String> getOriginalUrl(String shortCode) {
         String cacheKey = URL_CACHE_PREFIX + shortCode;
 
+        // 0단계: 로컬 스냅샷(만료 없는 링크)과 프로세스 내 캐시에서 조회
+        long localStart = System.nanoTime();
+        JfrEvents.CacheLookup localEvent = new JfrEvents.CacheLookup();
+        localEvent.begin();
+        String snapshotUrl = urlSnapshotService.get(shortCode);
+        if (snapshotUrl != null) {
+            log.debug("Snapshot hit for short code: {}", shortCode);
+            lookupLatency.record(Tier.LOCAL, Outcome.HIT, localStart);
+            localEvent.commit(shortCode, "snapshot", "hit");
+            return Optional.of(snapshotUrl);
+        }
+        String localUrl = localUrlCache.get(shortCode);
+        Outcome localOutcome = localUrl != null ? Outcome.HIT : Outcome.MISS;
+        lookupLatency.record(Tier.LOCAL, localOutcome, localStart);
+        localEvent.commit(shortCode, "local", name(localOutcome));
+        if (localUrl != null) {
+            return Optional.of(localUrl);
+        }
+
+        // Redis 서킷이 열려 있으면 Redis를 건너뛰고 degraded 모드로 응답
+        if (!redisCircuitBreaker.tryAcquire()) {
+            return degradedLookup(shortCode);
+        }
+
         try {
-            // 1단계: 캐시에서 조회
+            // 1단계: 캐시에서 조회 (헤징 시 Redis가 느리면 DB 조회와 경쟁)
             log.debug("Checking cache for short code: {}", shortCode);
-            String cachedUrl = redisTemplate.opsForValue().get(cacheKey);
+            String cachedUrl;
+            Optional<String> hedgedUrl = null;
+            if (hedgedReads.isEnabled()) {
+                HedgedReads.Result hedged = hedgedReads.read(() -> timedReadCacheAsync(shortCode, cacheKey),
+                        () -> timedFindInDatabase(shortCode, "hedge"));
+                cachedUrl = hedged.cachedUrl();
+                hedgedUrl = hedged.databaseUrl();
+            } else {
+                cachedUrl = timedReadCache(shortCode, cacheKey);
+            }
             if (cachedUrl != null) {
                 log.debug("Cache hit for short code: {}", shortCode);
                 incrementCacheHitCount();
+                localUrlCache.put(shortCode, cachedUrl);
                 return Optional.of(cachedUrl);
             }
 
@@ -69,22 +152,353 @@ public class UrlCacheService {
             log.debug("Cache miss for short code: {}", shortCode);
             incrementCacheMissCount();
 
-            Optional<String> originalUrlOpt = urlRepository.findOriginalUrlByShortUrlNotExpired(shortCode);
+            Optional<String> originalUrlOpt = hedgedUrl != null ? hedgedUrl : timedFindInDatabase(shortCode, "miss");
             if (originalUrlOpt.isPresent()) {
                 String originalUrl = originalUrlOpt.get();
 
                 // 3단계: 캐시에 저장
                 cacheUrl(shortCode, originalUrl);
+                localUrlCache.put(shortCode, originalUrl);
 
                 return Optional.of(originalUrl);
             }
 
             return Optional.empty();
 
+        } catch (OverloadedException e) {
+            // DB 동시 실행 한도 초과는 캐시 오류가 아니므로 DB 재조회 없이 그대로 거부
+            throw e;
         } catch (Exception e) {
             log.error("Error retrieving URL from cache for short code: {}", shortCode, e);
             // 캐시 오류 시 데이터베이스에서 직접 조회
-            return urlRepository.findOriginalUrlByShortUrlNotExpired(shortCode);
+            return timedFindInDatabase(shortCode, "cache-error");
+        }
+    }
+
+    /**
+     * readCache에 걸린 시간을 redis 계층으로 기록합니다. (지연 시간 히스토그램 + JFR 이벤트)
+     */
+    private String timedReadCache(String shortCode, String cacheKey) {
+        long start = System.nanoTime();
+        JfrEvents.CacheLookup event = new JfrEvents.CacheLookup();
+        event.begin();
+        Outcome outcome = Outcome.ERROR;
+        try {
+            String value = readCache(shortCode, cacheKey);
+            outcome = value != null ? Outcome.HIT : Outcome.MISS;
+            return value;
+        } finally {
+            lookupLatency.record(Tier.REDIS, outcome, start);
+            event.commit(shortCode, "redis", name(outcome));
+            redisCircuitBreaker.onResult(start, outcome == Outcome.ERROR);
+        }
+    }
+
+    /**
+     * timedReadCache의 비동기 버전 (HedgedReads용)
+     * 자동 파이프라이닝이 켜져 있으면 파이프라인 Future를 그대로 사용하고, 아니면 헤징용 가상 스레드에서 조회합니다.
+     */
+    private CompletableFuture<String> timedReadCacheAsync(String shortCode, String cacheKey) {
+        long start = System.nanoTime();
+        JfrEvents.CacheLookup event = new JfrEvents.CacheLookup();
+        event.begin();
+        CompletableFuture<String> lookup = !hashBucketUrlCache.isEnabled() && redisAutoPipeline.isEnabled()
+                ? redisAutoPipeline.getAsync(cacheKey).thenApply(UrlCodec::decode)
+                : hedgedReads.supplyAsync(() -> readCache(shortCode, cacheKey));
+        return lookup.whenComplete((value, e) -> {
+            Outcome outcome = e != null ? Outcome.ERROR : value != null ? Outcome.HIT : Outcome.MISS;
+            lookupLatency.record(Tier.REDIS, outcome, start);
+            event.commit(shortCode, "redis", name(outcome));
+            redisCircuitBreaker.onResult(start, e != null);
+        });
+    }
+
+    /**
+     * Redis 서킷이 열렸을 때의 조회 (Redis 호출 없음)
+     * 
+     * 1. 로컬 캐시의 TTL 지난 항목(stale)이 있으면 바로 응답하고 백그라운드에서 DB로 다시 확인
+     * 2. 없으면 degraded 모드 허용량 안에서만 DB 조회, 초과 시 OverloadedException(503)
+     */
+    private Optional<String> degradedLookup(String shortCode) {
+        String staleUrl = serveStale(shortCode);
+        if (staleUrl != null) {
+            return Optional.of(staleUrl);
+        }
+        acquireDbFallback();
+        Optional<String> originalUrl = timedFindInDatabase(shortCode, "circuit-open");
+        originalUrl.ifPresent(url -> localUrlCache.put(shortCode, url));
+        return originalUrl;
+    }
+
+    /**
+     * 일괄 조회의 degraded 모드 (Redis 호출 없음, degradedLookup과 같은 정책)
+     * 
+     * 1. 로컬 캐시에 stale 항목이 있는 코드는 바로 응답하고 백그라운드에서 다시 확인
+     * 2. 나머지 코드는 DB 허용량 하나로 한 번에 조회, 허용량이 없으면 OverloadedException(503)
+     */
+    private void degradedLookupAll(List<String> codes, Map<String, String> resolved) {
+        List<String> remaining = new ArrayList<>();
+        for (String code : codes) {
+            String staleUrl = serveStale(code);
+            if (staleUrl != null) {
+                resolved.put(code, staleUrl);
+            } else {
+                remaining.add(code);
+            }
+        }
+        if (remaining.isEmpty()) {
+            return;
+        }
+        acquireDbFallback();
+        Map<String, String> loaded = findAllInDatabase(remaining);
+        loaded.forEach(localUrlCache::put);
+        resolved.putAll(loaded);
+    }
+
+    /**
+     * 로컬 캐시의 TTL 지난 항목을 반환하고 백그라운드 재확인을 요청합니다. (없으면 null)
+     */
+    private String serveStale(String shortCode) {
+        String staleUrl = localUrlCache.getStale(shortCode);
+        if (staleUrl == null) {
+            return null;
+        }
+        redisCircuitBreaker.recordDegraded("stale");
+        redisCircuitBreaker.revalidate(shortCode, () -> timedFindInDatabase(shortCode, "revalidate")
+                .ifPresentOrElse(url -> localUrlCache.put(shortCode, url),
+                        () -> localUrlCache.invalidate(shortCode)));
+        return staleUrl;
+    }
+
+    /**
+     * degraded 모드 DB 조회 허용량을 하나 사용합니다.
+     * 
+     * @throws OverloadedException 허용량이 없는 경우
+     */
+    private void acquireDbFallback() {
+        if (!redisCircuitBreaker.tryAcquireDbFallback()) {
+            throw new OverloadedException("redis-circuit-open", redisCircuitBreaker.retryAfterSeconds());
+        }
+        redisCircuitBreaker.recordDegraded("db");
+    }
+
+    /**
+     * findInDatabase에 걸린 시간을 db 계층으로 기록합니다. (지연 시간 히스토그램 + JFR 이벤트)
+     * 
+     * @param reason DB 조회 사유 (miss: 캐시 미스, cache-error: 캐시 오류, hedge: 헤징,
+     *               circuit-open/revalidate: degraded 모드)
+     */
+    private Optional<String> timedFindInDatabase(String shortCode, String reason) {
+        long start = System.nanoTime();
+        JfrEvents.DbFallback event = new JfrEvents.DbFallback();
+        event.begin();
+        Outcome outcome = Outcome.ERROR;
+        try {
+            Optional<String> value = databaseConcurrencyLimiter.lookup(() -> findInDatabase(shortCode));
+            outcome = value.isPresent() ? Outcome.HIT : Outcome.MISS;
+            return value;
+        } catch (OverloadedException e) {
+            outcome = Outcome.REJECTED;
+            throw e;
+        } finally {
+            lookupLatency.record(Tier.DB, outcome, start);
+            event.commit(shortCode, reason, name(outcome));
+        }
+    }
+
+    private static String name(Outcome outcome) {
+        return outcome.name().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * 캐시에서 값을 조회합니다.
+     * 해시 버킷 구조를 사용하면 버킷 해시에서 조회하고,
+     * 자동 파이프라이닝이 활성화되어 있으면 다른 요청의 GET과 합쳐 MGET으로 조회합니다.
+     */
+    private String readCache(String shortCode, String cacheKey) {
+        String value;
+        if (hashBucketUrlCache.isEnabled()) {
+            value = hashBucketUrlCache.get(shortCode);
+        } else if (redisAutoPipeline.isEnabled()) {
+            value = redisAutoPipeline.get(cacheKey);
+        } else {
+            value = redisTemplate.opsForValue().get(cacheKey);
+        }
+        return UrlCodec.decode(value);
+    }
+
+    /**
+     * 캐시에 값을 저장합니다.
+     * 해시 버킷 구조를 사용하면 버킷 해시의 필드로 저장하고,
+     * 자동 파이프라이닝이 활성화되어 있으면 다른 요청의 SET과 합쳐 파이프라인으로 전송하고 완료를 기다리지 않습니다.
+     */
+    private void writeCache(String shortCode, String cacheKey, String originalUrl, Duration ttl) {
+        String value = encodeForCache(originalUrl);
+        if (hashBucketUrlCache.isEnabled()) {
+            hashBucketUrlCache.set(shortCode, value, ttl);
+            return;
+        }
+        if (redisAutoPipeline.isEnabled()) {
+            redisAutoPipeline.set(cacheKey, value, ttl).whenComplete((result, e) -> {
+                if (e != null) {
+                    log.error("Error caching URL in pipeline: {} ({})", cacheKey, e.getMessage());
+                }
+            });
+            return;
+        }
+        redisTemplate.opsForValue().set(cacheKey, value, ttl);
+    }
+
+    /**
+     * 캐시에 저장할 값으로 변환합니다. (app.url-codec.cache.enabled=true 이면 압축)
+     * 조회 시에는 설정과 관계없이 항상 복원하므로 설정을 바꿔도 기존 캐시 값을 읽을 수 있습니다.
+     */
+    private String encodeForCache(String originalUrl) {
+        return compressCacheValues ? UrlCodec.encode(originalUrl) : originalUrl;
+    }
+
+    /**
+     * 데이터베이스에서 원본 URL을 조회합니다.
+     * 
+     * 생성 직후(read-your-writes 구간)의 단축코드는 복제 지연으로 인해 복제본에 아직 없을 수 있으므로
+     * Primary에서 조회하고, 그 외에는 읽기 전용 트랜잭션으로 복제본에서 조회합니다.
+     * 배치 로더가 활성화되어 있으면 동시에 발생한 캐시 미스와 합쳐 한 번의 쿼리로 조회합니다.
+     */
+    private Optional<String> findInDatabase(String shortCode) {
+        if (readYourWritesWindow.isWithinWindow(shortCode)) {
+            return ReplicationRoutingDataSource
+                    .callOnPrimary(() -> urlStore.get(shortCode));
+        }
+        if (urlBatchLoader.isEnabled()) {
+            return urlBatchLoader.load(shortCode);
+        }
+        return urlStore.get(shortCode);
+    }
+
+    /**
+     * 데이터베이스에서 여러 단축코드의 원본 URL을 한 번에 조회합니다.
+     * read-your-writes 구간의 코드가 하나라도 포함되어 있으면 전체를 Primary에서 조회합니다.
+     * 조회 한 번이 DB 동시 실행 슬롯 하나를 사용합니다.
+     */
+    private Map<String, String> findAllInDatabase(Collection<String> shortCodes) {
+        return databaseConcurrencyLimiter.lookup(() -> queryAllInDatabase(shortCodes));
+    }
+
+    private Map<String, String> queryAllInDatabase(Collection<String> shortCodes) {
+        if (shortCodes.stream().anyMatch(readYourWritesWindow::isWithinWindow)) {
+            return ReplicationRoutingDataSource
+                    .callOnPrimary(() -> urlStore.getAll(shortCodes));
+        }
+        return urlStore.getAll(shortCodes);
+    }
+
+    /**
+     * 설정된 캐시 TTL을 반환합니다. (잘못된 값이면 기본값 1시간)
+     */
+    private Duration getCacheTtl() {
+        long ttlSeconds = urlCacheTtlSeconds;
+        if (ttlSeconds <= 0) {
+            log.warn("Invalid TTL value for cache: {} seconds. Using default value: 3600 seconds", ttlSeconds);
+            ttlSeconds = 3600;
+        }
+        return Duration.ofSeconds(ttlSeconds);
+    }
+
+    /**
+     * 여러 단축코드의 원본 URL을 한 번에 조회합니다. (캐시 우선)
+     * 
+     * 단건 조회를 반복하는 대신 몇 번의 왕복으로 처리합니다:
+     * 1. Redis MGET 한 번으로 전체 캐시 조회 (클러스터 모드에서는 슬롯별 MGET)
+     * 2. 캐시 미스 코드만 모아 DB에서 short_url = ANY(?) 쿼리 한 번으로 조회
+     * 3. DB 결과를 파이프라인으로 한 번에 캐시에 저장
+     * 
+     * @param shortCodes 조회할 단축코드 목록 (중복 허용)
+     * @return 단축코드 → 원본 URL (존재하지 않거나 만료된 코드는 포함되지 않음)
+     */
+    @Observed(name = "url.cache.getOriginalUrls", contextualName = "cache-get-urls")
+    public Map<String, String> getOriginalUrls(Collection<String> shortCodes) {
+        Map<String, String> resolved = new HashMap<>(shortCodes.size() * 2);
+        List<String> codes = new ArrayList<>();
+        for (String code : shortCodes.stream().distinct().toList()) {
+            // 로컬 스냅샷에 있는 코드는 Redis 조회 대상에서 제외
+            String snapshotUrl = urlSnapshotService.get(code);
+            if (snapshotUrl != null) {
+                resolved.put(code, snapshotUrl);
+            } else {
+                codes.add(code);
+            }
+        }
+        if (codes.isEmpty()) {
+            return resolved;
+        }
+
+        // Redis 서킷이 열려 있으면 MGET 없이 degraded 모드로 응답 (캐시 저장도 생략)
+        if (!redisCircuitBreaker.tryAcquire()) {
+            degradedLookupAll(codes, resolved);
+            return resolved;
+        }
+
+        List<String> misses = new ArrayList<>();
+        long mgetStart = System.nanoTime();
+        try {
+            // 1단계: MGET으로 캐시 일괄 조회
+            List<String> cachedUrls = hashBucketUrlCache.isEnabled()
+                    ? hashBucketUrlCache.multiGet(codes)
+                    : redisBulkOperations.multiGet(codes.stream().map(code -> URL_CACHE_PREFIX + code).toList());
+            for (int i = 0; i < codes.size(); i++) {
+                String cachedUrl = cachedUrls != null ? UrlCodec.decode(cachedUrls.get(i)) : null;
+                if (cachedUrl != null) {
+                    resolved.put(codes.get(i), cachedUrl);
+                } else {
+                    misses.add(codes.get(i));
+                }
+            }
+            redisCircuitBreaker.onResult(mgetStart, false);
+        } catch (Exception e) {
+            redisCircuitBreaker.onResult(mgetStart, true);
+            log.error("Error retrieving URLs from cache for {} short codes", codes.size(), e);
+            // 캐시 오류 시 degraded 모드로 응답 (캐시 저장도 생략)
+            degradedLookupAll(codes, resolved);
+            return resolved;
+        }
+
+        int cacheHits = codes.size() - misses.size();
+        log.debug("Batch lookup: {} cache hits, {} cache misses", cacheHits, misses.size());
+        addCacheStats(cacheHits, misses.size());
+        if (misses.isEmpty()) {
+            return resolved;
+        }
+
+        // 2단계: 캐시 미스 코드를 DB에서 한 번에 조회
+        Map<String, String> loaded = findAllInDatabase(misses);
+        resolved.putAll(loaded);
+
+        // 3단계: 파이프라인으로 캐시 일괄 저장
+        cacheUrls(loaded);
+        return resolved;
+    }
+
+    /**
+     * 여러 URL을 파이프라인으로 한 번에 캐시에 저장합니다.
+     * 
+     * @param urls 단축코드 → 원본 URL
+     */
+    public void cacheUrls(Map<String, String> urls) {
+        if (urls.isEmpty() || !redisCircuitBreaker.isClosed()) {
+            return;
+        }
+        try {
+            if (hashBucketUrlCache.isEnabled()) {
+                Map<String, String> values = new HashMap<>(urls.size() * 2);
+                urls.forEach((code, url) -> values.put(code, encodeForCache(url)));
+                hashBucketUrlCache.setAll(values, getCacheTtl());
+                return;
+            }
+            Map<String, String> entries = new HashMap<>(urls.size() * 2);
+            urls.forEach((code, url) -> entries.put(URL_CACHE_PREFIX + code, encodeForCache(url)));
+            redisBulkOperations.setAll(entries, getCacheTtl());
+        } catch (Exception e) {
+            log.error("Error caching {} URLs in pipeline", urls.size(), e);
         }
     }
 
@@ -97,17 +511,14 @@ public class UrlCacheService {
     @Observed(name = "url.cache.cacheUrl", contextualName = "cache-set-url")
     public void cacheUrl(String shortCode, String originalUrl) {
         log.debug("cacheUrl() called for shortCode: {}", shortCode);
-        String cacheKey = URL_CACHE_PREFIX + shortCode;
-
-        // TTL 값 검증
-        long ttlSeconds = urlCacheTtlSeconds;
-        if (ttlSeconds <= 0) {
-            log.warn("Invalid TTL value for cache: {} seconds. Using default value: 3600 seconds", ttlSeconds);
-            ttlSeconds = 3600;
+        if (!redisCircuitBreaker.isClosed()) {
+            // 서킷이 닫힐 때까지 캐시 저장 생략 (타임아웃 대기 방지)
+            return;
         }
+        String cacheKey = URL_CACHE_PREFIX + shortCode;
 
         try {
-            redisTemplate.opsForValue().set(cacheKey, originalUrl, Duration.ofSeconds(ttlSeconds));
+            writeCache(shortCode, cacheKey, originalUrl, getCacheTtl());
         } catch (Exception e) {
             log.error("Error caching URL: {} (Exception type: {}, Message: {})",
                     shortCode, e.getClass().getSimpleName(), e.getMessage(), e);
@@ -121,9 +532,14 @@ public class UrlCacheService {
      */
     public void evictUrl(String shortCode) {
         String cacheKey = URL_CACHE_PREFIX + shortCode;
+        localUrlCache.invalidate(shortCode);
 
         try {
-            redisTemplate.delete(cacheKey);
+            if (hashBucketUrlCache.isEnabled()) {
+                hashBucketUrlCache.delete(shortCode);
+            } else {
+                redisTemplate.delete(cacheKey);
+            }
             log.debug("URL evicted from cache: {}", shortCode);
         } catch (Exception e) {
             log.error("Error evicting URL from cache: {}", shortCode, e);
@@ -137,14 +553,12 @@ public class UrlCacheService {
      */
     public double getCacheHitRate() {
         try {
-            String hitCountKey = "cache_stats:hits";
-            String missCountKey = "cache_stats:misses";
-
-            String hitsStr = redisTemplate.opsForValue().get(hitCountKey);
-            String missesStr = redisTemplate.opsForValue().get(missCountKey);
+            String hitsStr = redisTemplate.opsForValue().get(CACHE_HITS_KEY);
+            String missesStr = redisTemplate.opsForValue().get(CACHE_MISSES_KEY);
 
-            long hits = hitsStr != null ? Long.parseLong(hitsStr) : 0;
-            long misses = missesStr != null ? Long.parseLong(missesStr) : 0;
+            // 아직 Redis에 반영되지 않은 로컬 통계 포함
+            long hits = (hitsStr != null ? Long.parseLong(hitsStr) : 0) + pendingHits.sum();
+            long misses = (missesStr != null ? Long.parseLong(missesStr) : 0) + pendingMisses.sum();
 
             long total = hits + misses;
             return total > 0 ? (double) hits / total : 0.0;
@@ -159,8 +573,10 @@ public class UrlCacheService {
      */
     public void resetCacheStats() {
         try {
-            redisTemplate.delete("cache_stats:hits");
-            redisTemplate.delete("cache_stats:misses");
+            pendingHits.reset();
+            pendingMisses.reset();
+            redisTemplate.delete(CACHE_HITS_KEY);
+            redisTemplate.delete(CACHE_MISSES_KEY);
             log.info("Cache statistics reset");
         } catch (Exception e) {
             log.error("Error resetting cache statistics", e);
@@ -168,24 +584,53 @@ public class UrlCacheService {
     }
 
     /**
-     * 캐시 히트 카운트를 증가시킵니다.
+     * 로컬에 누적된 캐시 통계를 Redis에 반영합니다.
+     * 
+     * 요청마다 같은 통계 키에 INCR을 보내면 (클러스터에서는 한 슬롯에) 쓰기가 몰리므로,
+     * 통계는 인스턴스 로컬에 누적했다가 주기적으로 INCRBY 한 번씩만 보냅니다.
+     * 반영에 실패하거나 Redis 서킷이 열려 있으면 다음 주기에 다시 시도합니다.
      */
-    private void incrementCacheHitCount() {
+    @Scheduled(fixedDelayString = "${app.cache.stats.flush-interval-ms:1000}")
+    public void flushCacheStats() {
+        if (!redisCircuitBreaker.isClosed()) {
+            return;
+        }
+        long hits = pendingHits.sumThenReset();
+        long misses = pendingMisses.sumThenReset();
         try {
-            redisTemplate.opsForValue().increment("cache_stats:hits");
+            if (hits > 0) {
+                redisTemplate.opsForValue().increment(CACHE_HITS_KEY, hits);
+                hits = 0;
+            }
+            if (misses > 0) {
+                redisTemplate.opsForValue().increment(CACHE_MISSES_KEY, misses);
+            }
         } catch (Exception e) {
-            log.error("Error incrementing cache hit count", e);
+            log.error("Error flushing cache statistics", e);
+            pendingHits.add(hits);
+            pendingMisses.add(misses);
         }
     }
 
+    /**
+     * 일괄 조회 결과를 캐시 통계에 반영합니다.
+     */
+    private void addCacheStats(long hits, long misses) {
+        pendingHits.add(hits);
+        pendingMisses.add(misses);
+    }
+
+    /**
+     * 캐시 히트 카운트를 증가시킵니다.
+     */
+    private void incrementCacheHitCount() {
+        pendingHits.increment();
+    }
+
     /**
      * 캐시 미스 카운트를 증가시킵니다.
      */
     private void incrementCacheMissCount() {
-        try {
-            redisTemplate.opsForValue().increment("cache_stats:misses");
-        } catch (Exception e) {
-            log.error("Error incrementing cache miss count", e);
-        }
+        pendingMisses.increment();
     }
 }
@@ -0,0 +1,31 @@
+package org.example.bitlygood.service;
+
+import java.util.List;
+
+import org.example.bitlygood.domain.UrlChange;
+
+/**
+ * URL 변경 피드 소비자
+ * 
+ * 노드 로컬 저장소(로컬 캐시, 필터, 스냅샷 등)가 구현하여 Bean으로 등록하면
+ * UrlChangeFeed가 새로 생성된 링크와 만료된 링크를 배치 단위로 전달합니다.
+ * 
+ * 전달은 피드 스레드에서 순서대로 호출되므로 구현은 빠르게 반환해야 합니다.
+ * 한 소비자의 예외는 다른 소비자와 워터마크 진행에 영향을 주지 않습니다. (최대 한 번 전달)
+ */
+public interface UrlChangeConsumer {
+
+    /**
+     * 새로 생성된 링크를 전달받습니다.
+     * 
+     * @param changes id 오름차순 변경 목록
+     */
+    void onCreated(List<UrlChange> changes);
+
+    /**
+     * 만료되어 더 이상 조회되면 안 되는 링크를 전달받습니다.
+     * 
+     * @param shortUrls 단축코드 목록
+     */
+    void onRemoved(List<String> shortUrls);
+}
@@ -0,0 +1,247 @@
+package org.example.bitlygood.service;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.TreeSet;
+import java.util.function.Consumer;
+
+import org.example.bitlygood.config.ReplicationRoutingDataSource;
+import org.example.bitlygood.domain.UrlChange;
+import org.example.bitlygood.repository.UrlRepository;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * url 테이블 변경 피드
+ * 
+ * 노드 로컬 저장소가 전체 테이블을 다시 읽지 않고 최신 상태를 유지할 수 있도록,
+ * 주기적으로 url 테이블을 폴링하여 변경분을 등록된 UrlChangeConsumer에 배치로 전달합니다.
+ * 
+ * - 생성: id 워터마크 이후의 행 (id > watermark ORDER BY id LIMIT batch-size)
+ * - 삭제: 마지막 확인 이후 만료 시각이 지난 행 (idx_url_expiration_date 사용)
+ *   이 서비스에서 행이 삭제되는 경우는 만료뿐이므로 만료 시점을 삭제 이벤트로 전달합니다.
+ *   UrlCleanupService는 만료 후 expiry-grace-seconds가 지난 행만 삭제하므로, 피드가 확인하기 전에
+ *   행이 먼저 삭제되어 삭제 이벤트가 빠지는 일은 피드가 그보다 오래 멈춘 경우뿐입니다.
+ * 
+ * 늦게 커밋되는 트랜잭션 처리:
+ * IDENTITY id는 커밋 순서와 다르게 보일 수 있으므로, 전달한 id 사이에 빈 번호가 있으면
+ * 워터마크를 빈 번호 앞에서 멈추고 다음 폴링에서 다시 확인합니다.
+ * alias 중복(INSERT ... ON CONFLICT DO NOTHING)은 행 없이 번호만 소모하므로 빈 번호가 자주 생깁니다.
+ * 빈 번호가 gap-min-age-ms 이상 유지되면 그때의 트랜잭션 경계(스냅샷 xmax)를 기록해 두고, 그 이전 트랜잭션이
+ * 모두 끝났는데도 Primary에 해당 id의 행이 없으면 다시 채워질 수 없는 번호로 보고 바로 건너뜁니다.
+ * (INSERT는 nextval로 id를 받은 뒤에 xid를 할당받으므로, 발견 직후의 경계에는 아직 xid가 없는
+ * 트랜잭션이 빠질 수 있습니다. 빈 번호의 id는 발견 전에 발급되었으므로 경계를 늦게 읽어 이를 포함합니다.)
+ * 오래 실행되는 트랜잭션 등으로 확인되지 않더라도 gap-timeout이 지나면 건너뜁니다.
+ * 
+ * 시작 워터마크는 기동 시점의 MAX(id)입니다. 소비자는 기존 데이터를 각자 적재해야 합니다.
+ * PostgreSQL 논리 복제(wal2json/pgoutput) 기반 구독은 구현하지 않았으며, 필요하면 같은 소비자 인터페이스로 대체할 수 있습니다.
+ * app.change-feed.enabled=true 일 때만 동작합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class UrlChangeFeed {
+
+    private final UrlRepository urlRepository;
+    private final ObjectProvider<UrlChangeConsumer> consumers;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${app.change-feed.enabled:false}")
+    private boolean enabled;
+
+    @Value("${app.change-feed.batch-size:1000}")
+    private int batchSize;
+
+    @Value("${app.change-feed.max-batches-per-poll:20}")
+    private int maxBatchesPerPoll;
+
+    @Value("${app.change-feed.gap-timeout-ms:10000}")
+    private long gapTimeoutMs;
+
+    @Value("${app.change-feed.gap-min-age-ms:1000}")
+    private long gapMinAgeMs;
+
+    // 모든 id <= watermark 행은 전달 완료
+    private volatile long watermark = -1;
+
+    // 워터마크 이후 이미 전달한 id (빈 번호 뒤에 전달된 행의 중복 전달 방지)
+    private final TreeSet<Long> deliveredAhead = new TreeSet<>();
+
+    // 워터마크 바로 다음 빈 번호를 처음 발견한 시각 (0이면 없음)
+    private long gapDetectedAt;
+
+    // 빈 번호가 gap-min-age-ms 이상 유지된 뒤의 트랜잭션 경계 (이보다 작은 xid의 트랜잭션이 모두 끝나면 빈 번호 확정, 0이면 아직 읽지 않음)
+    private long gapHorizon;
+
+    // 삭제 이벤트 확인 구간 시작
+    private LocalDateTime lastExpiryCheck;
+
+    // 마지막으로 변경분을 모두 따라잡은 시각 (지연 시간 계산용)
+    private volatile long lastCaughtUpAt = System.currentTimeMillis();
+
+    private Counter createdCounter;
+    private Counter removedCounter;
+
+    @PostConstruct
+    public void init() {
+        createdCounter = Counter.builder("url.change-feed.events").tag("type", "created")
+                .description("Changes delivered to consumers").register(meterRegistry);
+        removedCounter = Counter.builder("url.change-feed.events").tag("type", "removed")
+                .description("Changes delivered to consumers").register(meterRegistry);
+        Gauge.builder("url.change-feed.lag.seconds", this, UrlChangeFeed::getLagSeconds)
+                .description("Seconds since the change feed was last fully caught up")
+                .register(meterRegistry);
+        Gauge.builder("url.change-feed.watermark", this, feed -> feed.watermark)
+                .description("Highest url.id delivered without gaps")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 변경분을 폴링하여 소비자에게 전달합니다.
+     */
+    @Scheduled(fixedDelayString = "${app.change-feed.poll-interval-ms:1000}")
+    public synchronized void poll() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            if (watermark < 0) {
+                watermark = urlRepository.findMaxId();
+                lastExpiryCheck = LocalDateTime.now();
+                log.info("URL change feed started at id {}", watermark);
+                return;
+            }
+            boolean caughtUp = pollCreated();
+            pollRemoved();
+            if (caughtUp) {
+                lastCaughtUpAt = System.currentTimeMillis();
+            }
+        } catch (Exception e) {
+            log.error("Error polling URL change feed at watermark {}", watermark, e);
+        }
+    }
+
+    /**
+     * 워터마크 이후의 행을 배치로 읽어 아직 전달하지 않은 행만 전달합니다.
+     * 
+     * @return 따라잡았으면 true (마지막 배치가 batch-size보다 작음)
+     */
+    private boolean pollCreated() {
+        for (int batch = 0; batch < maxBatchesPerPoll; batch++) {
+            List<UrlChange> rows = urlRepository.findChangesAfterId(watermark, batchSize);
+            List<UrlChange> fresh = rows.stream().filter(row -> !deliveredAhead.contains(row.id())).toList();
+            if (!fresh.isEmpty()) {
+                fresh.forEach(row -> deliveredAhead.add(row.id()));
+                deliver(consumer -> consumer.onCreated(fresh));
+                createdCounter.increment(fresh.size());
+            }
+            advanceWatermark();
+            if (rows.size() < batchSize) {
+                return true;
+            }
+            if (fresh.isEmpty()) {
+                // 빈 번호 뒤의 행이 한 배치를 넘어 대기 중 (gap-timeout 후 진행)
+                return false;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 워터마크를 연속으로 전달된 id까지 올립니다.
+     * 빈 번호가 gap-min-age-ms 이후 다시 채워질 수 없음이 확인되거나 gap-timeout보다 오래되면 건너뜁니다.
+     */
+    private void advanceWatermark() {
+        long now = System.currentTimeMillis();
+        while (!deliveredAhead.isEmpty()) {
+            long next = watermark + 1;
+            if (deliveredAhead.first() == next) {
+                deliveredAhead.pollFirst();
+                watermark = next;
+                gapDetectedAt = 0;
+                continue;
+            }
+            long gapEnd = deliveredAhead.first() - 1;
+            if (gapDetectedAt == 0) {
+                gapDetectedAt = now;
+                gapHorizon = 0;
+            }
+            long gapAge = now - gapDetectedAt;
+            if (gapAge < gapTimeoutMs) {
+                if (gapAge < gapMinAgeMs) {
+                    return;
+                }
+                if (gapHorizon == 0) {
+                    gapHorizon = findTransactionHorizon();
+                }
+                if (!isAbandonedGap(next, gapEnd)) {
+                    return;
+                }
+            }
+            // 채워지지 않은 빈 번호는 다음 전달된 id 직전까지 건너뜀
+            log.debug("Skipping url.id gap {}..{}", next, gapEnd);
+            watermark = gapEnd;
+            gapDetectedAt = 0;
+        }
+    }
+
+    private long findTransactionHorizon() {
+        try {
+            return ReplicationRoutingDataSource.callOnPrimary(urlRepository::findTransactionHorizon);
+        } catch (Exception e) {
+            // 확인할 수 없으면 gap-timeout까지 기다림
+            log.warn("Failed to read transaction horizon for url.id gap", e);
+            return Long.MAX_VALUE;
+        }
+    }
+
+    private boolean isAbandonedGap(long fromId, long toId) {
+        if (gapHorizon == Long.MAX_VALUE) {
+            return false;
+        }
+        try {
+            return ReplicationRoutingDataSource
+                    .callOnPrimary(() -> urlRepository.isAbandonedIdRange(fromId, toId, gapHorizon));
+        } catch (Exception e) {
+            log.warn("Failed to check url.id gap {}..{}", fromId, toId, e);
+            return false;
+        }
+    }
+
+    private void pollRemoved() {
+        LocalDateTime now = LocalDateTime.now();
+        List<String> expired = urlRepository.findShortUrlsExpiredBetween(lastExpiryCheck, now);
+        lastExpiryCheck = now;
+        if (!expired.isEmpty()) {
+            deliver(consumer -> consumer.onRemoved(expired));
+            removedCounter.increment(expired.size());
+        }
+    }
+
+    private void deliver(Consumer<UrlChangeConsumer> action) {
+        consumers.orderedStream().forEach(consumer -> {
+            try {
+                action.accept(consumer);
+            } catch (Exception e) {
+                log.error("URL change consumer {} failed", consumer.getClass().getSimpleName(), e);
+            }
+        });
+    }
+
+    public long getWatermark() {
+        return watermark;
+    }
+
+    public double getLagSeconds() {
+        return (System.currentTimeMillis() - lastCaughtUpAt) / 1000.0;
+    }
+}
@@ -1,12 +1,14 @@
 package org.example.bitlygood.service;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
-import org.example.bitlygood.repository.UrlRepository;
+import org.example.bitlygood.repository.UrlStore;
+import org.example.bitlygood.util.JfrEvents;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.redis.RedisConnectionFailureException;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -28,38 +30,44 @@ import lombok.extern.slf4j.Slf4j;
 @RequiredArgsConstructor
 public class UrlCleanupService {
 
-    private final UrlRepository urlRepository;
+    private final UrlStore urlStore;
     private final UrlCacheService urlCacheService;
 
+    @Value("${app.cleanup.batch-size:1000}")
+    private int batchSize;
+
+    @Value("${app.cleanup.expiry-grace-seconds:3600}")
+    private long expiryGraceSeconds;
+
     /**
      * 만료된 URL을 정리합니다.
      * 
      * 매일 새벽 2시에 실행됩니다.
-     * 만료된 URL을 데이터베이스에서 삭제하고 캐시에서도 제거합니다.
+     * 만료된 URL을 저장소에서 batch-size개씩 나누어 삭제하고 캐시에서도 제거합니다.
+     * 청크마다 별도 트랜잭션으로 처리하므로 만료 URL이 많아도 긴 잠금이 생기지 않습니다.
+     * 만료 후 expiry-grace-seconds가 지난 URL만 삭제하여, 만료 시각을 기준으로 삭제 이벤트를 만드는
+     * UrlChangeFeed가 행을 확인하기 전에 삭제되지 않도록 합니다. (만료된 URL은 조회 쿼리에서 이미 제외됨)
      */
     @Scheduled(cron = "0 0 2 * * ?") // 매일 새벽 2시
-    @Transactional
     public void cleanupExpiredUrls() {
         log.info("Starting expired URL cleanup task");
 
         try {
-            LocalDateTime currentTime = LocalDateTime.now();
-
-            // 만료된 URL 조회
-            var expiredUrls = urlRepository.findExpiredUrls(currentTime);
-            log.info("Found {} expired URLs", expiredUrls.size());
-
-            if (!expiredUrls.isEmpty()) {
+            LocalDateTime cutoff = LocalDateTime.now().minusSeconds(expiryGraceSeconds);
+            int deletedCount = 0;
+
+            List<String> deleted;
+            do {
+                JfrEvents.CleanupChunk event = new JfrEvents.CleanupChunk();
+                event.begin();
+                deleted = urlStore.deleteExpired(cutoff, batchSize);
                 // 캐시에서 만료된 URL 제거
-                for (var url : expiredUrls) {
-                    urlCacheService.evictUrl(url.getShortUrl());
-                }
-
-                // 데이터베이스에서 만료된 URL 삭제
-                int deletedCount = urlRepository.deleteExpiredUrls(currentTime);
-                log.info("Successfully deleted {} expired URLs", deletedCount);
-            }
+                deleted.forEach(urlCacheService::evictUrl);
+                deletedCount += deleted.size();
+                event.commit(deleted.size(), batchSize);
+            } while (deleted.size() >= batchSize);
 
+            log.info("Successfully deleted {} expired URLs", deletedCount);
             log.info("Expired URL cleanup task completed successfully");
 
         } catch (Exception e) {
@@ -3,14 +3,20 @@ package org.example.bitlygood.service;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
+import java.util.List;
+import java.util.Map;
 
+import org.example.bitlygood.config.ReadYourWritesWindow;
 import org.example.bitlygood.domain.Url;
 import org.example.bitlygood.dto.CreateUrlRequest;
 import org.example.bitlygood.dto.CreateUrlResponse;
-import org.example.bitlygood.repository.UrlRepository;
+import org.example.bitlygood.dto.ResolveUrlsResponse;
+import org.example.bitlygood.exception.AliasAlreadyExistsException;
+import org.example.bitlygood.exception.OverloadedException;
+import org.example.bitlygood.repository.UrlStore;
+import org.example.bitlygood.util.GeneratedCode;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 import io.micrometer.observation.annotation.Observed;
 import lombok.RequiredArgsConstructor;
@@ -29,13 +35,15 @@ import lombok.extern.slf4j.Slf4j;
  * 아키텍처 특징:
  * - Redis 전역 카운터: 분산 환경에서도 고유한 ID 보장
  * - Base62 인코딩: URL-safe한 짧은 코드 생성
- * - 트랜잭션 관리: 데이터 일관성 보장
+ * - UrlStore 저장소: Postgres(PostgresUrlStore) 또는 임베디드 로그(EmbeddedUrlStore) 구현을 설정으로 선택
+ * - 단일 문장 저장: 서비스 트랜잭션 없이 databaseConcurrencyLimiter.write 안에서 urlStore.put 한 번으로 저장
+ *   (alias는 urlStore.putIfAbsent, INSERT 한 문장이 원자적이므로 커넥션을 저장 동안만 점유)
  * 
  * 동작 프로세스 (URL 단축):
  * 1. 신규 URL 등록 요청 수신
  * 2. Redis에서 INCR url_counter 명령 실행하여 고유한 카운터 값 획득
  * 3. 카운터 값을 Base62로 변환하여 단축 코드 생성
- * 4. 단축 코드 ↔ 원본 URL 매핑 정보를 데이터베이스에 저장
+ * 4. 단축 코드 ↔ 원본 URL 매핑 정보를 UrlStore에 저장
  * 5. 단축 URL 응답 반환
  * 
  * 동작 프로세스 (URL 조회):
@@ -48,8 +56,8 @@ import lombok.extern.slf4j.Slf4j;
 @Observed(name = "url.service", contextualName = "url-service")
 public class UrlService {
 
-    // URL 데이터 저장소 (JPA Repository)
-    private final UrlRepository urlRepository;
+    // URL 매핑 저장소 (app.store.type에 따라 Postgres 또는 임베디드 로그)
+    private final UrlStore urlStore;
 
     // Base62 인코딩/디코딩 서비스
     private final Base62 base62;
@@ -60,10 +68,24 @@ public class UrlService {
     // URL 캐시 서비스
     private final UrlCacheService urlCacheService;
 
+    // 생성 직후 조회를 Primary로 보내기 위한 read-your-writes 구간
+    private final ReadYourWritesWindow readYourWritesWindow;
+
+    // 저장 동시 실행 제한 (한도 초과 시 OverloadedException)
+    private final DatabaseConcurrencyLimiter databaseConcurrencyLimiter;
+
     // 애플리케이션 도메인 (application.properties에서 주입)
     @Value("${app.domain:http://localhost:8080}")
     private String domain;
 
+    // 일괄 조회 요청당 최대 단축코드 개수
+    @Value("${app.resolve.max-batch-size:1000}")
+    private int maxResolveBatchSize;
+
+    // 생성 코드에 GeneratedCode.MARKER를 붙이고 카운터 값을 code_id로 저장 (정수 인덱스 조회)
+    @Value("${app.code.numeric-lookup.enabled:false}")
+    private boolean numericLookupEnabled;
+
     // 날짜 형식 파서
     private static final DateTimeFormatter DATE_TIME_FORMATTER = DateTimeFormatter.ISO_LOCAL_DATE_TIME;
 
@@ -76,10 +98,12 @@ public class UrlService {
      * 2. 코드 변환: 카운터 값을 Base62로 인코딩하여 짧고 읽기 쉬운 문자열 생성
      * 3. 데이터 저장: 단축 코드와 원본 URL의 매핑 정보를 데이터베이스에 저장
      * 
-     * 트랜잭션 보장:
-     * - @Transactional 어노테이션으로 데이터 일관성 보장
+     * 트랜잭션과 커넥션:
+     * - 검증과 Redis 카운터 발급은 트랜잭션 밖에서 수행하므로 Redis를 기다리는 동안 DB 커넥션을 잡지 않음
+     * - 저장은 단일 INSERT 문 하나(자동 커밋)이며 JPA 영속성 컨텍스트를 거치지 않음
+     * - 저장은 DB 동시 실행 한도(write) 안에서 실행되며, 한도 초과 시 대기하지 않고 거부됨
      * - Redis 카운터 증가와 DB 저장이 원자적으로 처리되지는 않지만,
-     * Redis INCR의 원자성으로 카운터 중복을 방지
+     * Redis INCR의 원자성으로 카운터 중복을 방지 (저장 실패 시 해당 카운터 값은 사용되지 않고 건너뜀)
      * 
      * 성능 특징:
      * - Redis INCR: O(1) 시간 복잡도로 매우 빠른 고유 ID 생성
@@ -90,7 +114,6 @@ public class UrlService {
      * @return 생성된 단축 코드 (예: "1A2B3C")
      */
     @Observed(name = "url.service.createShortUrl", contextualName = "create-short-url")
-    @Transactional
     public String createShortUrl(String originalUrl) {
         if (originalUrl == null || originalUrl.isBlank()) {
             throw new IllegalArgumentException("Invalid original url");
@@ -105,14 +128,18 @@ public class UrlService {
 
         // 2단계: 카운터 값을 Base62로 인코딩하여 단축 코드 생성
         // 숫자를 짧고 URL-safe한 문자열로 변환 (예: 12345678 -> "1A2B3C")
-        String shortCode = base62.encode(counter);
+        String shortCode = generateShortCode(counter);
         log.debug("Generated short code");
 
         // 3단계: URL 엔티티 생성 및 데이터베이스에 저장
         // 단축 코드와 원본 URL의 매핑 정보를 영구 저장
         Url url = new Url(originalUrl);
         url.setShortUrl(shortCode);
-        urlRepository.save(url);
+        if (numericLookupEnabled) {
+            url.setCodeId(counter);
+        }
+        databaseConcurrencyLimiter.write(() -> urlStore.put(url));
+        readYourWritesWindow.markWritten(shortCode);
 
         log.info("Short URL created");
         return shortCode;
@@ -123,10 +150,11 @@ public class UrlService {
      * 
      * @param request URL 단축 요청 (원본 URL, 선택적 alias, 선택적 만료일)
      * @return 생성된 단축 URL 정보
-     * @throws IllegalArgumentException 잘못된 요청 데이터인 경우
+     * @throws IllegalArgumentException    잘못된 요청 데이터인 경우
+     * @throws AliasAlreadyExistsException 사용자 지정 alias가 이미 사용 중인 경우
+     * @throws OverloadedException         DB 저장 동시 실행 한도를 넘은 경우
      */
     @Observed(name = "url.service.createShortUrl", contextualName = "create-short-url-with-alias")
-    @Transactional
     public CreateUrlResponse createShortUrl(CreateUrlRequest request) {
         // 입력값 검증
         validateCreateUrlRequest(request);
@@ -144,25 +172,32 @@ public class UrlService {
 
         if (alias != null && !alias.isBlank()) {
             // 사용자 지정 alias 사용
-            alias = alias.trim();
-            validateAlias(alias);
-
-            // alias 중복 검사
-            if (urlRepository.existsByShortUrl(alias)) {
-                throw new IllegalArgumentException("Alias already exists: " + alias);
+            String code = alias.trim();
+            validateAlias(code);
+
+            // 중복 검사와 저장을 한 번의 INSERT ... ON CONFLICT DO NOTHING 으로 처리
+            // (SELECT 후 INSERT 사이의 경쟁 조건으로 인한 unique 제약 위반 예외가 발생하지 않음)
+            boolean saved = databaseConcurrencyLimiter.write(
+                    () -> urlStore.putIfAbsent(code, originalUrl, expirationDate, LocalDateTime.now()));
+            if (!saved) {
+                throw new AliasAlreadyExistsException(code);
             }
 
-            shortCode = alias;
+            shortCode = code;
         } else {
             // 자동 생성된 단축코드 사용
             long counter = redisCounterService.getNextCounter();
-            shortCode = base62.encode(counter);
-        }
+            shortCode = generateShortCode(counter);
 
-        // URL 엔티티 생성 및 저장
-        Url url = new Url(originalUrl, expirationDate);
-        url.setShortUrl(shortCode);
-        urlRepository.save(url);
+            // URL 엔티티 생성 및 저장
+            Url url = new Url(originalUrl, expirationDate);
+            url.setShortUrl(shortCode);
+            if (numericLookupEnabled) {
+                url.setCodeId(counter);
+            }
+            databaseConcurrencyLimiter.write(() -> urlStore.put(url));
+        }
+        readYourWritesWindow.markWritten(shortCode);
 
         String shortUrl = domain + "/" + shortCode;
 
@@ -222,6 +257,49 @@ public class UrlService {
         // });
     }
 
+    /**
+     * 여러 단축코드의 원본 URL을 한 번에 조회합니다. (캐시 우선)
+     * 
+     * 링크 언퍼러, 분석 작업 등 대량 조회 클라이언트가 단건 리다이렉션을 반복 호출하지 않도록
+     * Redis MGET과 DB 일괄 쿼리로 처리합니다.
+     * 
+     * @param shortCodes 조회할 단축코드 목록
+     * @return 조회된 매핑과 찾지 못한 단축코드 목록
+     * @throws IllegalArgumentException 목록이 비어 있거나 최대 개수를 초과한 경우
+     */
+    @Observed(name = "url.service.resolveShortUrls", contextualName = "resolve-short-urls")
+    public ResolveUrlsResponse resolveShortUrls(List<String> shortCodes) {
+        if (shortCodes == null || shortCodes.isEmpty()) {
+            throw new IllegalArgumentException("Short codes cannot be null or empty");
+        }
+        if (shortCodes.size() > maxResolveBatchSize) {
+            throw new IllegalArgumentException("Too many short codes: at most " + maxResolveBatchSize + " allowed");
+        }
+
+        List<String> codes = shortCodes.stream()
+                .filter(code -> code != null && !code.isBlank())
+                .map(String::trim)
+                .distinct()
+                .toList();
+        log.debug("Resolving {} short codes", codes.size());
+
+        Map<String, String> resolved = urlCacheService.getOriginalUrls(codes);
+        List<String> notFound = codes.stream()
+                .filter(code -> !resolved.containsKey(code))
+                .toList();
+
+        return new ResolveUrlsResponse(resolved, notFound);
+    }
+
+    /**
+     * 카운터 값으로 단축코드를 만듭니다.
+     * 정수 조회 모드에서는 alias와 구분되도록 GeneratedCode.MARKER를 앞에 붙입니다.
+     */
+    private String generateShortCode(long counter) {
+        String encoded = base62.encode(counter);
+        return numericLookupEnabled ? GeneratedCode.MARKER + encoded : encoded;
+    }
+
     /**
      * CreateUrlRequest 유효성 검사
      */
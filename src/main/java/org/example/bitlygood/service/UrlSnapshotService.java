@@ -0,0 +1,338 @@
+package org.example.bitlygood.service;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+import org.example.bitlygood.util.MappedUrlIndex;
+import org.example.bitlygood.util.UrlCodec;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.scheduling.support.CronTrigger;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 메모리 매핑 스냅샷 서비스
+ * 
+ * 만료일이 없는 링크 전체를 노드 로컬의 읽기 전용 스냅샷 파일(MappedUrlIndex)로 유지하고,
+ * 리다이렉션 조회 시 Redis보다 먼저 확인합니다.
+ * 
+ * 파일 구성 (app.snapshot.directory):
+ * - base-&lt;maxId&gt;.snap: 전체 스냅샷 (매일 재작성, app.snapshot.rebuild-cron)
+ * - delta-&lt;maxId&gt;.snap: 마지막 스냅샷 이후 생성된 링크 (app.snapshot.delta-interval-ms 주기)
+ * 
+ * 조회는 최신 델타부터 베이스 순으로 확인합니다. 델타가 max-deltas개를 넘으면 베이스를 재작성합니다.
+ * 재시작 시에는 디렉터리의 파일을 다시 매핑하기만 하므로 즉시 사용할 수 있습니다.
+ * 
+ * id 워터마크 방식이므로 늦게 커밋된 행은 스냅샷에서 빠질 수 있습니다.
+ * 스냅샷에 없는 코드는 기존 경로(Redis → DB)로 조회되므로 정확성에는 영향이 없습니다.
+ * 
+ * 재작성과 델타 작성은 url 테이블을 스트리밍하므로 오래 걸릴 수 있어, 공용 @Scheduled 스레드
+ * (복제본 헬스 체크, 캐시 통계 반영 등과 공유) 대신 전용 url-snapshot 스레드에서 실행합니다.
+ * app.snapshot.enabled=true 일 때만 동작합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class UrlSnapshotService {
+
+    private static final long MIN_HEADROOM = 10_000;
+    private static final int MAX_WRITE_ATTEMPTS = 3;
+
+    private static final String COUNT_SQL = "SELECT COUNT(*) FROM url WHERE expiration_date IS NULL AND id > ?";
+    private static final String SCAN_SQL = "SELECT id, short_url, original_url FROM url "
+            + "WHERE expiration_date IS NULL AND id > ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PlatformTransactionManager transactionManager;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${app.snapshot.enabled:false}")
+    private boolean enabled;
+
+    @Value("${app.snapshot.directory:./data/snapshot}")
+    private String directory;
+
+    @Value("${app.snapshot.max-deltas:48}")
+    private int maxDeltas;
+
+    @Value("${app.snapshot.fetch-size:10000}")
+    private int fetchSize;
+
+    @Value("${app.snapshot.rebuild-cron:0 30 3 * * *}")
+    private String rebuildCron;
+
+    @Value("${app.snapshot.delta-interval-ms:60000}")
+    private long deltaIntervalMs;
+
+    private ThreadPoolTaskScheduler scheduler;
+
+    // 현재 스냅샷 (베이스 + 델타, 교체 시 통째로 바꿈)
+    private volatile Snapshot snapshot = Snapshot.EMPTY;
+
+    private final AtomicLong hits = new AtomicLong();
+
+    @PostConstruct
+    public void init() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            Files.createDirectories(Paths.get(directory));
+            snapshot = loadFromDirectory();
+        } catch (IOException e) {
+            log.error("Failed to load URL snapshot from {}", directory, e);
+        }
+        Gauge.builder("url.snapshot.entries", this, service -> service.snapshot.size())
+                .description("Links held in the memory-mapped snapshot")
+                .register(meterRegistry);
+        Gauge.builder("url.snapshot.deltas", this, service -> service.snapshot.deltas().size())
+                .description("Delta files on top of the base snapshot")
+                .register(meterRegistry);
+        FunctionCounter.builder("url.snapshot.hits", hits, AtomicLong::get)
+                .description("Redirect lookups served from the snapshot")
+                .register(meterRegistry);
+        log.info("URL snapshot loaded: {} entries, {} deltas", snapshot.size(), snapshot.deltas().size());
+
+        scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(1);
+        scheduler.setThreadNamePrefix("url-snapshot-");
+        scheduler.setDaemon(true);
+        scheduler.initialize();
+        if (snapshot.base() == null) {
+            // 베이스가 없으면 시작을 막지 않도록 백그라운드에서 작성
+            scheduler.execute(this::rebuild);
+        }
+        scheduler.schedule(this::rebuild, new CronTrigger(rebuildCron));
+        scheduler.scheduleWithFixedDelay(this::buildDelta, Instant.now().plusMillis(deltaIntervalMs),
+                Duration.ofMillis(deltaIntervalMs));
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (scheduler != null) {
+            scheduler.shutdown();
+        }
+    }
+
+    /**
+     * 스냅샷에서 원본 URL을 조회합니다.
+     * 
+     * @return 원본 URL (스냅샷에 없거나 비활성화 상태면 null)
+     */
+    public String get(String shortCode) {
+        Snapshot current = snapshot;
+        List<MappedUrlIndex> deltas = current.deltas();
+        for (int i = deltas.size() - 1; i >= 0; i--) {
+            String url = deltas.get(i).get(shortCode);
+            if (url != null) {
+                hits.incrementAndGet();
+                return UrlCodec.decode(url);
+            }
+        }
+        if (current.base() != null) {
+            String url = current.base().get(shortCode);
+            if (url != null) {
+                hits.incrementAndGet();
+                return UrlCodec.decode(url);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 베이스 스냅샷을 새로 작성하고 델타를 정리합니다.
+     */
+    public synchronized void rebuild() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            long start = System.currentTimeMillis();
+            Path target = Paths.get(directory).resolve("base-" + System.currentTimeMillis() + ".snap.tmp");
+            MappedUrlIndex base = write(target, 0, "base-");
+            Snapshot previous = snapshot;
+            snapshot = new Snapshot(base, List.of());
+
+            // 이전 파일 삭제 (이미 매핑된 영역은 GC 전까지 유효, 같은 이름으로 교체된 경우 유지)
+            if (previous.base() != null && !previous.base().getPath().equals(base.getPath())) {
+                deleteFile(previous.base());
+            }
+            previous.deltas().forEach(this::deleteFile);
+            log.info("URL snapshot rebuilt: {} entries in {}ms", base.size(), System.currentTimeMillis() - start);
+        } catch (Exception e) {
+            log.error("Failed to rebuild URL snapshot", e);
+        }
+    }
+
+    /**
+     * 마지막 스냅샷 이후 생성된 링크로 델타 파일을 작성합니다.
+     */
+    public synchronized void buildDelta() {
+        if (!enabled || snapshot.base() == null) {
+            return;
+        }
+        if (snapshot.deltas().size() >= maxDeltas) {
+            rebuild();
+            return;
+        }
+        try {
+            long fromId = snapshot.maxId();
+            Path target = Paths.get(directory).resolve("delta-" + System.currentTimeMillis() + ".snap.tmp");
+            MappedUrlIndex delta = write(target, fromId, "delta-");
+            if (delta.size() == 0) {
+                deleteFile(delta);
+                return;
+            }
+            List<MappedUrlIndex> deltas = new ArrayList<>(snapshot.deltas());
+            deltas.add(delta);
+            snapshot = new Snapshot(snapshot.base(), List.copyOf(deltas));
+            log.debug("URL snapshot delta written: {} entries after id {}", delta.size(), fromId);
+        } catch (Exception e) {
+            log.error("Failed to build URL snapshot delta", e);
+        }
+    }
+
+    /**
+     * id > fromId 인 만료 없는 링크를 스트리밍으로 읽어 파일을 작성하고 매핑합니다.
+     * 읽기 전용 트랜잭션 안에서 fetch size를 지정해야 PostgreSQL이 커서로 나누어 전송합니다.
+     */
+    private MappedUrlIndex write(Path tmp, long fromId, String prefix) throws IOException {
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        tx.setReadOnly(true);
+        Long expected = tx.execute(status -> jdbcTemplate.queryForObject(COUNT_SQL, Long.class, fromId));
+        long rows = expected != null ? expected : 0;
+        // COUNT 이후 추가되는 행을 위한 여유분 (예상 행 수의 25%, 최소 MIN_HEADROOM)
+        long capacity = rows + Math.max(MIN_HEADROOM, rows / 4);
+        for (int attempt = 1;; attempt++) {
+            try {
+                return write(tx, tmp, fromId, prefix, capacity);
+            } catch (IllegalStateException e) {
+                // 스캔 중 추가된 행이 여유분을 넘어 인덱스가 가득 참: 두 배 크기로 다시 작성
+                if (attempt >= MAX_WRITE_ATTEMPTS) {
+                    throw e;
+                }
+                log.warn("URL snapshot index full at capacity {}, retrying with {}", capacity, capacity * 2);
+                capacity *= 2;
+            }
+        }
+    }
+
+    private MappedUrlIndex write(TransactionTemplate tx, Path tmp, long fromId, String prefix, long capacity)
+            throws IOException {
+        Long maxId = tx.execute(status -> {
+            try (MappedUrlIndex.Writer writer = new MappedUrlIndex.Writer(tmp, capacity)) {
+                JdbcTemplate streaming = new JdbcTemplate(jdbcTemplate.getDataSource());
+                streaming.setFetchSize(fetchSize);
+                long[] max = { fromId };
+                streaming.query(SCAN_SQL, rs -> {
+                    try {
+                        long id = rs.getLong(1);
+                        writer.add(id, rs.getString(2), rs.getString(3));
+                        max[0] = Math.max(max[0], id);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                }, fromId);
+                writer.finish(fromId);
+                return max[0];
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        Path target = tmp.resolveSibling(prefix + maxId + ".snap");
+        Files.move(tmp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        return MappedUrlIndex.open(target);
+    }
+
+    /**
+     * 디렉터리에서 가장 최근 베이스와 그 이후의 델타를 매핑합니다.
+     */
+    private Snapshot loadFromDirectory() throws IOException {
+        List<Path> bases = list("base-");
+        if (bases.isEmpty()) {
+            return Snapshot.EMPTY;
+        }
+        MappedUrlIndex base = MappedUrlIndex.open(bases.get(bases.size() - 1));
+        List<MappedUrlIndex> deltas = new ArrayList<>();
+        for (Path path : list("delta-")) {
+            if (fileMaxId(path) > base.getMaxId()) {
+                deltas.add(MappedUrlIndex.open(path));
+            }
+        }
+        return new Snapshot(base, List.copyOf(deltas));
+    }
+
+    /**
+     * 접두사로 시작하는 스냅샷 파일을 maxId 오름차순으로 반환합니다.
+     */
+    private List<Path> list(String prefix) throws IOException {
+        try (Stream<Path> files = Files.list(Paths.get(directory))) {
+            return files.filter(path -> path.getFileName().toString().startsWith(prefix))
+                    .filter(path -> path.getFileName().toString().endsWith(".snap"))
+                    .sorted(Comparator.comparingLong(UrlSnapshotService::fileMaxId))
+                    .toList();
+        }
+    }
+
+    private static long fileMaxId(Path path) {
+        String name = path.getFileName().toString();
+        return Long.parseLong(name.substring(name.indexOf('-') + 1, name.length() - ".snap".length()));
+    }
+
+    private void deleteFile(MappedUrlIndex index) {
+        if (index == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(index.getPath());
+        } catch (IOException e) {
+            log.warn("Failed to delete snapshot file {}", index.getPath(), e);
+        }
+    }
+
+    /**
+     * 베이스 스냅샷과 그 이후의 델타 목록
+     */
+    private record Snapshot(MappedUrlIndex base, List<MappedUrlIndex> deltas) {
+
+        static final Snapshot EMPTY = new Snapshot(null, List.of());
+
+        long maxId() {
+            long maxId = base != null ? base.getMaxId() : 0;
+            for (MappedUrlIndex delta : deltas) {
+                maxId = Math.max(maxId, delta.getMaxId());
+            }
+            return maxId;
+        }
+
+        long size() {
+            long size = base != null ? base.size() : 0;
+            for (MappedUrlIndex delta : deltas) {
+                size += delta.size();
+            }
+            return size;
+        }
+    }
+}
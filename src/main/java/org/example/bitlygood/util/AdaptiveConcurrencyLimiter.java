@@ -0,0 +1,156 @@
+package org.example.bitlygood.util;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongSupplier;
+
+/**
+ * 적응형 동시 실행 제한기 (TCP Vegas 방식)
+ * 
+ * 고정된 동시 실행 수 대신, 작업 응답 시간(RTT)을 보고 허용 동시 실행 수(limit)를 조절합니다.
+ * - minRtt: 지금까지 관측한 가장 짧은 RTT (대기 없이 처리된 시간으로 간주)
+ * - 대기열 추정치 queue = limit × (1 - minRtt / rtt)
+ * - queue가 작으면(≤ log10(limit)) limit을 크게, alpha(3·log10) 미만이면 조금 늘리고,
+ *   beta(6·log10) 초과이면 줄이며, 실패(drop) 시에는 항상 줄입니다.
+ * - 동시 실행 수가 limit의 절반도 안 되면(부하가 낮으면) limit을 늘리지 않습니다.
+ * - minRtt는 probeMultiplier × limit 회 표본마다 초기화하여 기준 지연이 바뀌어도 따라갑니다.
+ * 
+ * 사용 방법:
+ * 
+ * <pre>
+ * long start = limiter.tryAcquire();
+ * if (start &lt; 0) { 거부 }
+ * try { 작업; limiter.onSuccess(start); }
+ * catch (RuntimeException e) { 과부하 오류면 limiter.onDropped(), 아니면 limiter.onIgnored(); throw e; }
+ * </pre>
+ * 
+ * tryAcquire는 CAS 한 번, 완료 처리는 짧은 synchronized 구간 하나입니다.
+ */
+public class AdaptiveConcurrencyLimiter {
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final int probeMultiplier;
+    private final LongSupplier nanoClock;
+
+    private final AtomicInteger inflight = new AtomicInteger();
+    private volatile double limit;
+
+    // 아래 필드는 synchronized(this) 안에서만 변경
+    private long minRttNanos;
+    private long samplesUntilProbe;
+
+    /**
+     * @param initialLimit    시작 limit
+     * @param minLimit        최소 limit
+     * @param maxLimit        최대 limit (보통 커넥션 풀 크기 이하)
+     * @param probeMultiplier minRtt 초기화 주기 (limit의 배수, 표본 수)
+     */
+    public AdaptiveConcurrencyLimiter(int initialLimit, int minLimit, int maxLimit, int probeMultiplier) {
+        this(initialLimit, minLimit, maxLimit, probeMultiplier, System::nanoTime);
+    }
+
+    AdaptiveConcurrencyLimiter(int initialLimit, int minLimit, int maxLimit, int probeMultiplier,
+            LongSupplier nanoClock) {
+        if (minLimit < 1 || maxLimit < minLimit) {
+            throw new IllegalArgumentException("Limits must satisfy 1 <= min <= max");
+        }
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.probeMultiplier = probeMultiplier;
+        this.nanoClock = nanoClock;
+        this.limit = Math.max(minLimit, Math.min(maxLimit, initialLimit));
+        this.samplesUntilProbe = nextProbe();
+    }
+
+    /**
+     * 실행 슬롯을 확보합니다.
+     * 
+     * @return 시작 시각 (onSuccess에 전달), limit에 도달했으면 -1
+     */
+    public long tryAcquire() {
+        while (true) {
+            int current = inflight.get();
+            if (current >= (int) limit) {
+                return -1;
+            }
+            if (inflight.compareAndSet(current, current + 1)) {
+                return nanoClock.getAsLong();
+            }
+        }
+    }
+
+    /**
+     * 작업이 성공했을 때 슬롯을 반환하고 RTT로 limit을 조정합니다.
+     */
+    public void onSuccess(long startNanos) {
+        int inflightAtEnd = inflight.getAndDecrement();
+        update(nanoClock.getAsLong() - startNanos, inflightAtEnd, false);
+    }
+
+    /**
+     * 작업이 실패(타임아웃, 커넥션 오류 등)했을 때 슬롯을 반환하고 limit을 줄입니다.
+     */
+    public void onDropped() {
+        int inflightAtEnd = inflight.getAndDecrement();
+        update(0, inflightAtEnd, true);
+    }
+
+    /**
+     * 부하와 무관한 이유(제약 조건 위반 등)로 실패했을 때 limit을 바꾸지 않고 슬롯만 반환합니다.
+     */
+    public void onIgnored() {
+        inflight.decrementAndGet();
+    }
+
+    public int getLimit() {
+        return (int) limit;
+    }
+
+    public int getInflight() {
+        return inflight.get();
+    }
+
+    private synchronized void update(long rttNanos, int inflightAtEnd, boolean dropped) {
+        double current = limit;
+        double step = Math.max(1, Math.log10(current));
+        double next;
+        if (dropped) {
+            next = current - step;
+        } else {
+            if (rttNanos <= 0) {
+                return;
+            }
+            if (--samplesUntilProbe <= 0) {
+                // 기준 지연 재측정: 이번 표본을 새 minRtt로 사용
+                samplesUntilProbe = nextProbe();
+                minRttNanos = rttNanos;
+                return;
+            }
+            if (minRttNanos == 0 || rttNanos < minRttNanos) {
+                minRttNanos = rttNanos;
+                return;
+            }
+            if (inflightAtEnd * 2 < current) {
+                // 부하가 limit에 한참 못 미치면 RTT로 판단할 근거가 없음
+                return;
+            }
+            double queue = Math.ceil(current * (1 - (double) minRttNanos / rttNanos));
+            double alpha = 3 * step;
+            double beta = 6 * step;
+            if (queue <= step) {
+                next = current + beta;
+            } else if (queue < alpha) {
+                next = current + step;
+            } else if (queue > beta) {
+                next = current - step;
+            } else {
+                return;
+            }
+        }
+        limit = Math.max(minLimit, Math.min(maxLimit, next));
+    }
+
+    private long nextProbe() {
+        return (long) probeMultiplier * Math.max(1, (long) limit);
+    }
+}
@@ -0,0 +1,162 @@
+package org.example.bitlygood.util;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiConsumer;
+import java.util.function.LongSupplier;
+
+/**
+ * 오류율/지연 기반 서킷 브레이커
+ * 
+ * 상태:
+ * - CLOSED: 모든 호출 허용. 고정 시간 구간(window) 동안 호출 수와 실패 수를 세고,
+ *   호출 수가 minimumCalls 이상이면서 실패 비율이 failureRateThreshold 이상이면 OPEN
+ * - OPEN: 모든 호출 거부. openDuration이 지나면 다음 호출 시 HALF_OPEN
+ * - HALF_OPEN: probes개의 시험 호출만 허용. 하나라도 실패하면 다시 OPEN, 모두 성공하면 CLOSED
+ * 
+ * 실패는 예외뿐 아니라 slowCallThreshold 이상 걸린 호출도 포함합니다.
+ * (타임아웃까지 기다리는 호출이 쌓이기 전에 차단하기 위함)
+ * 
+ * CLOSED 상태의 허용 판단과 결과 기록은 원자 변수만 사용하며, 상태 전환만 잠금을 사용합니다.
+ */
+public class CircuitBreaker {
+
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    private final long windowNanos;
+    private final int minimumCalls;
+    private final double failureRateThreshold;
+    private final long slowCallNanos;
+    private final long openNanos;
+    private final int probes;
+    private final LongSupplier nanoClock;
+    private final BiConsumer<State, State> transitionListener;
+
+    private volatile State state = State.CLOSED;
+    private volatile long openedAt;
+
+    // CLOSED 구간 통계
+    private final AtomicLong windowStart;
+    private final AtomicInteger calls = new AtomicInteger();
+    private final AtomicInteger failures = new AtomicInteger();
+
+    // HALF_OPEN 시험 호출
+    private final AtomicInteger probePermits = new AtomicInteger();
+    private final AtomicInteger probeSuccesses = new AtomicInteger();
+
+    /**
+     * @param window               실패율을 계산하는 구간 길이 (나노초)
+     * @param minimumCalls         구간 내 최소 호출 수 (이보다 적으면 열리지 않음)
+     * @param failureRateThreshold 열리는 실패 비율 (0~1)
+     * @param slowCallThreshold    실패로 간주하는 호출 시간 (나노초)
+     * @param openDuration         OPEN 유지 시간 (나노초)
+     * @param probes               HALF_OPEN 시험 호출 수
+     * @param transitionListener   상태 전환 알림 (이전 상태, 새 상태)
+     */
+    public CircuitBreaker(long window, int minimumCalls, double failureRateThreshold, long slowCallThreshold,
+            long openDuration, int probes, BiConsumer<State, State> transitionListener) {
+        this(window, minimumCalls, failureRateThreshold, slowCallThreshold, openDuration, probes,
+                transitionListener, System::nanoTime);
+    }
+
+    CircuitBreaker(long window, int minimumCalls, double failureRateThreshold, long slowCallThreshold,
+            long openDuration, int probes, BiConsumer<State, State> transitionListener, LongSupplier nanoClock) {
+        if (minimumCalls < 1 || probes < 1 || failureRateThreshold <= 0 || failureRateThreshold > 1) {
+            throw new IllegalArgumentException("Invalid circuit breaker settings");
+        }
+        this.windowNanos = window;
+        this.minimumCalls = minimumCalls;
+        this.failureRateThreshold = failureRateThreshold;
+        this.slowCallNanos = slowCallThreshold;
+        this.openNanos = openDuration;
+        this.probes = probes;
+        this.transitionListener = transitionListener;
+        this.nanoClock = nanoClock;
+        this.windowStart = new AtomicLong(nanoClock.getAsLong());
+    }
+
+    /**
+     * 호출을 허용할지 판단합니다. 허용된 호출은 반드시 onResult로 결과를 알려야 합니다.
+     */
+    public boolean tryAcquire() {
+        State current = state;
+        if (current == State.CLOSED) {
+            return true;
+        }
+        if (current == State.OPEN) {
+            if (nanoClock.getAsLong() - openedAt < openNanos) {
+                return false;
+            }
+            transition(State.OPEN, State.HALF_OPEN);
+        }
+        return state == State.HALF_OPEN && probePermits.getAndDecrement() > 0;
+    }
+
+    /**
+     * 허용된 호출의 결과를 기록합니다.
+     * 
+     * @param durationNanos 호출 시간
+     * @param error         예외 발생 여부
+     */
+    public void onResult(long durationNanos, boolean error) {
+        boolean failed = error || durationNanos >= slowCallNanos;
+        State current = state;
+        if (current == State.HALF_OPEN) {
+            if (failed) {
+                transition(State.HALF_OPEN, State.OPEN);
+            } else if (probeSuccesses.incrementAndGet() >= probes) {
+                transition(State.HALF_OPEN, State.CLOSED);
+            }
+            return;
+        }
+        if (current != State.CLOSED) {
+            // OPEN 전에 시작된 호출의 늦은 결과
+            return;
+        }
+        rollWindow();
+        int callCount = calls.incrementAndGet();
+        if (failed) {
+            int failureCount = failures.incrementAndGet();
+            if (callCount >= minimumCalls && failureCount >= callCount * failureRateThreshold) {
+                transition(State.CLOSED, State.OPEN);
+            }
+        }
+    }
+
+    public State getState() {
+        return state;
+    }
+
+    private void rollWindow() {
+        long now = nanoClock.getAsLong();
+        long start = windowStart.get();
+        if (now - start >= windowNanos && windowStart.compareAndSet(start, now)) {
+            calls.set(0);
+            failures.set(0);
+        }
+    }
+
+    private void transition(State from, State to) {
+        synchronized (this) {
+            if (state != from) {
+                return;
+            }
+            switch (to) {
+                case OPEN -> openedAt = nanoClock.getAsLong();
+                case HALF_OPEN -> {
+                    probeSuccesses.set(0);
+                    probePermits.set(probes);
+                }
+                case CLOSED -> {
+                    windowStart.set(nanoClock.getAsLong());
+                    calls.set(0);
+                    failures.set(0);
+                }
+            }
+            state = to;
+        }
+        transitionListener.accept(from, to);
+    }
+}
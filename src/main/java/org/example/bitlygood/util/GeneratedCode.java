@@ -0,0 +1,73 @@
+package org.example.bitlygood.util;
+
+import java.util.Arrays;
+
+/**
+ * 카운터 기반 생성 코드 규칙
+ *
+ * app.code.numeric-lookup.enabled=true 이면 자동 생성 코드는 MARKER + Base62(카운터) 형태가 되고,
+ * 카운터 값은 url.code_id(BIGINT, unique)에 함께 저장됩니다.
+ * 사용자 지정 alias는 Base62 문자만 허용하므로 MARKER로 시작하는 코드는 항상 생성 코드입니다.
+ *
+ * 생성 코드는 문자열 비교 대신 code_id 정수 인덱스로 조회할 수 있습니다.
+ * MARKER가 없는 기존 코드는 그대로 short_url로 조회됩니다.
+ */
+public final class GeneratedCode {
+
+    public static final char MARKER = '_';
+
+    // Base62.BASE62_CHARS와 같은 문자 순서여야 함 (GeneratedCodeTest에서 확인)
+    // redirect-server가 이 파일만 Spring 없이 따로 컴파일하므로 Base62(@Component)를 참조하지 않고 복사해 둠
+    private static final String ALPHABET = "0123456789abcdefghijklmnopqrstuvwxyzABCDEFGHIJKLMNOPQRSTUVWXYZ";
+
+    // long 범위의 Base62 최대 자릿수
+    private static final int MAX_DIGITS = 11;
+
+    private static final byte[] DIGITS = new byte[128];
+
+    static {
+        Arrays.fill(DIGITS, (byte) -1);
+        for (int i = 0; i < ALPHABET.length(); i++) {
+            DIGITS[ALPHABET.charAt(i)] = (byte) i;
+        }
+    }
+
+    private GeneratedCode() {
+    }
+
+    /**
+     * MARKER로 시작하는 생성 코드인지 확인합니다.
+     */
+    public static boolean isGenerated(String code) {
+        return code != null && code.length() > 1 && code.charAt(0) == MARKER;
+    }
+
+    /**
+     * 생성 코드에서 카운터 값을 꺼냅니다.
+     *
+     * @return 카운터 값 (생성 코드가 아니거나 잘못된 형식이면 -1)
+     */
+    public static long decode(String code) {
+        if (!isGenerated(code) || code.length() - 1 > MAX_DIGITS) {
+            return -1;
+        }
+        if (code.length() > 2 && code.charAt(1) == '0') {
+            // 앞자리 0은 Base62 인코딩 결과가 아님 (같은 카운터에 여러 코드가 대응되지 않도록)
+            return -1;
+        }
+        long value = 0;
+        for (int i = 1; i < code.length(); i++) {
+            char c = code.charAt(i);
+            int digit = c < 128 ? DIGITS[c] : -1;
+            if (digit < 0) {
+                return -1;
+            }
+            if (value > (Long.MAX_VALUE - digit) / 62) {
+                // long 범위 초과
+                return -1;
+            }
+            value = value * 62 + digit;
+        }
+        return value;
+    }
+}
@@ -0,0 +1,128 @@
+package org.example.bitlygood.util;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * 애플리케이션 JFR(JDK Flight Recorder) 이벤트
+ * 
+ * 기록 중인 JFR 레코딩이 없으면 begin/commit은 거의 비용이 없습니다. (isEnabled 확인 후 즉시 반환)
+ * 호출 빈도가 높은 이벤트이므로 스택 트레이스는 남기지 않습니다.
+ * 이벤트 이름은 모두 "bitly." 로 시작하며 JMC에서는 Bitly 카테고리로 묶여 보입니다.
+ * 
+ * 사용 예:
+ * 
+ * <pre>
+ * JfrEvents.CacheLookup event = new JfrEvents.CacheLookup();
+ * event.begin();
+ * ... 조회 ...
+ * event.commit(shortCode, "redis", "hit");
+ * </pre>
+ */
+public final class JfrEvents {
+
+    public static final String PREFIX = "bitly.";
+
+    private JfrEvents() {
+    }
+
+    @Name(PREFIX + "CacheLookup")
+    @Label("Cache Lookup")
+    @Category("Bitly")
+    @Description("Original URL lookup in the local or Redis cache tier")
+    @StackTrace(false)
+    public static class CacheLookup extends Event {
+
+        @Label("Short Code")
+        String shortCode;
+
+        @Label("Tier")
+        String tier;
+
+        @Label("Outcome")
+        String outcome;
+
+        public void commit(String shortCode, String tier, String outcome) {
+            if (shouldCommit()) {
+                this.shortCode = shortCode;
+                this.tier = tier;
+                this.outcome = outcome;
+                commit();
+            }
+        }
+    }
+
+    @Name(PREFIX + "DbFallback")
+    @Label("DB Fallback")
+    @Category("Bitly")
+    @Description("Original URL lookup in the database after a cache miss or cache error")
+    @StackTrace(false)
+    public static class DbFallback extends Event {
+
+        @Label("Short Code")
+        String shortCode;
+
+        @Label("Reason")
+        String reason;
+
+        @Label("Outcome")
+        String outcome;
+
+        public void commit(String shortCode, String reason, String outcome) {
+            if (shouldCommit()) {
+                this.shortCode = shortCode;
+                this.reason = reason;
+                this.outcome = outcome;
+                commit();
+            }
+        }
+    }
+
+    @Name(PREFIX + "CounterAllocation")
+    @Label("Counter Allocation")
+    @Category("Bitly")
+    @Description("Redis counter increment for a generated short code")
+    @StackTrace(false)
+    public static class CounterAllocation extends Event {
+
+        @Label("Counter")
+        long counter;
+
+        @Label("Stripe")
+        int stripe;
+
+        public void commit(long counter, int stripe) {
+            if (shouldCommit()) {
+                this.counter = counter;
+                this.stripe = stripe;
+                commit();
+            }
+        }
+    }
+
+    @Name(PREFIX + "CleanupChunk")
+    @Label("Cleanup Chunk")
+    @Category("Bitly")
+    @Description("One chunk of expired URL deletion including cache eviction")
+    @StackTrace(false)
+    public static class CleanupChunk extends Event {
+
+        @Label("Deleted")
+        int deleted;
+
+        @Label("Limit")
+        int limit;
+
+        public void commit(int deleted, int limit) {
+            if (shouldCommit()) {
+                this.deleted = deleted;
+                this.limit = limit;
+                commit();
+            }
+        }
+    }
+}
@@ -0,0 +1,331 @@
+package org.example.bitlygood.util;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * 메모리 매핑된 읽기 전용 단축코드 → URL 인덱스 파일
+ * 
+ * 파일 전체를 mmap하여 조회하므로 데이터가 힙 밖(OS 페이지 캐시)에 있어 GC 부담이 없고,
+ * 프로세스를 재시작해도 페이지 캐시가 유지되어 즉시 빠르게 조회할 수 있습니다.
+ * 
+ * 파일 형식 (리틀 엔디언):
+ * <pre>
+ * [헤더 64바이트]
+ *   magic(8) "BGSNAP01" | slotCount(8) | entryCount(8) | maxId(8) | createdAt(8) | 예약(24)
+ * [인덱스 slotCount × 16바이트] - 오픈 어드레싱(선형 탐사) 해시 테이블
+ *   keyHash(8, 0이면 빈 슬롯) | recordOffset(8, 아레나 내 위치)
+ * [아레나] - 레코드를 이어 붙인 영역
+ *   codeLength(2) | code(UTF-8) | urlLength(4) | url(UTF-8)
+ * </pre>
+ * 
+ * 2GB를 넘는 파일도 다룰 수 있도록 1GB 단위로 나누어 매핑합니다.
+ * 작성은 Writer로 임시 파일에 한 뒤 원자적으로 교체하므로 읽는 쪽은 완성된 파일만 봅니다.
+ */
+public final class MappedUrlIndex implements AutoCloseable {
+
+    private static final long MAGIC = 0x313050414E534742L; // "BGSNAP01" (리틀 엔디언)
+    private static final int HEADER_SIZE = 64;
+    private static final int SLOT_SIZE = 16;
+
+    // 1GB 단위 매핑 (MappedByteBuffer는 int 인덱스만 지원)
+    private static final int CHUNK_SHIFT = 30;
+    private static final long CHUNK_SIZE = 1L << CHUNK_SHIFT;
+
+    private final Path path;
+    private final MappedByteBuffer[] chunks;
+    private final long slotCount;
+    private final long entryCount;
+    private final long maxId;
+    private final long createdAt;
+    private final long arenaStart;
+
+    private MappedUrlIndex(Path path, MappedByteBuffer[] chunks) {
+        this.path = path;
+        this.chunks = chunks;
+        if (getLong(0) != MAGIC) {
+            throw new IllegalStateException("Not a URL snapshot file: " + path);
+        }
+        this.slotCount = getLong(8);
+        this.entryCount = getLong(16);
+        this.maxId = getLong(24);
+        this.createdAt = getLong(32);
+        this.arenaStart = HEADER_SIZE + slotCount * SLOT_SIZE;
+    }
+
+    /**
+     * 스냅샷 파일을 읽기 전용으로 매핑합니다.
+     */
+    public static MappedUrlIndex open(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            int chunkCount = (int) ((size + CHUNK_SIZE - 1) >>> CHUNK_SHIFT);
+            MappedByteBuffer[] chunks = new MappedByteBuffer[chunkCount];
+            for (int i = 0; i < chunkCount; i++) {
+                long position = (long) i << CHUNK_SHIFT;
+                chunks[i] = channel.map(FileChannel.MapMode.READ_ONLY, position, Math.min(CHUNK_SIZE, size - position));
+                chunks[i].order(ByteOrder.LITTLE_ENDIAN);
+            }
+            // 매핑은 채널을 닫아도 유지됨
+            return new MappedUrlIndex(path, chunks);
+        }
+    }
+
+    /**
+     * 단축코드의 원본 URL을 조회합니다.
+     * 
+     * @return 원본 URL (없으면 null)
+     */
+    public String get(String shortCode) {
+        if (slotCount == 0) {
+            return null;
+        }
+        byte[] code = shortCode.getBytes(StandardCharsets.UTF_8);
+        long hash = hash(code);
+        long mask = slotCount - 1;
+        for (long slot = hash & mask, probes = 0; probes < slotCount; slot = (slot + 1) & mask, probes++) {
+            long slotPosition = HEADER_SIZE + slot * SLOT_SIZE;
+            long storedHash = getLong(slotPosition);
+            if (storedHash == 0) {
+                return null;
+            }
+            if (storedHash == hash) {
+                long record = arenaStart + getLong(slotPosition + 8);
+                if (codeEquals(record, code)) {
+                    long urlPosition = record + 2 + code.length;
+                    byte[] url = new byte[getInt(urlPosition)];
+                    getBytes(urlPosition + 4, url);
+                    return new String(url, StandardCharsets.UTF_8);
+                }
+            }
+        }
+        return null;
+    }
+
+    public long size() {
+        return entryCount;
+    }
+
+    /**
+     * 스냅샷에 포함된 가장 큰 url.id (다음 델타의 시작점)
+     */
+    public long getMaxId() {
+        return maxId;
+    }
+
+    public long getCreatedAt() {
+        return createdAt;
+    }
+
+    public Path getPath() {
+        return path;
+    }
+
+    /**
+     * 매핑은 버퍼가 GC될 때 해제됩니다. (교체 직후에도 진행 중인 조회가 안전하도록 명시적으로 해제하지 않음)
+     */
+    @Override
+    public void close() {
+    }
+
+    private boolean codeEquals(long record, byte[] code) {
+        if ((getShort(record) & 0xFFFF) != code.length) {
+            return false;
+        }
+        for (int i = 0; i < code.length; i++) {
+            if (getByte(record + 2 + i) != code[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private byte getByte(long position) {
+        return chunks[(int) (position >>> CHUNK_SHIFT)].get((int) (position & (CHUNK_SIZE - 1)));
+    }
+
+    private void getBytes(long position, byte[] dst) {
+        for (int copied = 0; copied < dst.length;) {
+            MappedByteBuffer chunk = chunks[(int) ((position + copied) >>> CHUNK_SHIFT)];
+            int offset = (int) ((position + copied) & (CHUNK_SIZE - 1));
+            int length = Math.min(dst.length - copied, chunk.limit() - offset);
+            chunk.get(offset, dst, copied, length);
+            copied += length;
+        }
+    }
+
+    private short getShort(long position) {
+        return (short) ((getByte(position) & 0xFF) | (getByte(position + 1) & 0xFF) << 8);
+    }
+
+    private int getInt(long position) {
+        int chunkOffset = (int) (position & (CHUNK_SIZE - 1));
+        MappedByteBuffer chunk = chunks[(int) (position >>> CHUNK_SHIFT)];
+        if (chunkOffset + 4 <= chunk.limit()) {
+            return chunk.getInt(chunkOffset);
+        }
+        return (getShort(position) & 0xFFFF) | (getShort(position + 2) & 0xFFFF) << 16;
+    }
+
+    private long getLong(long position) {
+        // 헤더와 슬롯은 16바이트 정렬이므로 청크 경계에 걸치지 않음
+        return chunks[(int) (position >>> CHUNK_SHIFT)].getLong((int) (position & (CHUNK_SIZE - 1)));
+    }
+
+    /**
+     * 64비트 FNV-1a 해시 (0은 빈 슬롯 표시용이므로 1로 대체)
+     */
+    static long hash(byte[] code) {
+        long hash = 0xcbf29ce484222325L;
+        for (byte b : code) {
+            hash ^= b & 0xFF;
+            hash *= 0x100000001b3L;
+        }
+        return hash == 0 ? 1 : hash;
+    }
+
+    /**
+     * 스냅샷 파일 작성기
+     * 
+     * 인덱스 영역은 파일에 매핑하여 바로 기록하고, 아레나는 별도 임시 파일에 순차 기록한 뒤 이어 붙이므로
+     * 행 수와 관계없이 작성 중 힙 사용량이 일정합니다.
+     * 예상 행 수로 슬롯 수(2의 거듭제곱, 적재율 0.5 이하)를 정하며, 예상보다 많이 추가되어
+     * 적재율이 0.75를 넘으면 IllegalStateException이 발생합니다.
+     */
+    public static final class Writer implements AutoCloseable {
+
+        private final Path target;
+        private final Path indexFile;
+        private final Path arenaFile;
+        private final FileChannel indexChannel;
+        private final MappedByteBuffer[] indexChunks;
+        private final OutputStream arena;
+        private final long slotCount;
+        private final ByteBuffer scratch = ByteBuffer.allocate(6).order(ByteOrder.LITTLE_ENDIAN);
+        private long arenaSize;
+        private long entryCount;
+        private long maxId;
+        private boolean finished;
+
+        public Writer(Path target, long expectedEntries) throws IOException {
+            this.target = target;
+            this.slotCount = Long.highestOneBit(Math.max(16, expectedEntries * 2 - 1)) << 1;
+            this.indexFile = target.resolveSibling(target.getFileName() + ".index.tmp");
+            this.arenaFile = target.resolveSibling(target.getFileName() + ".arena.tmp");
+
+            long indexSize = HEADER_SIZE + slotCount * SLOT_SIZE;
+            this.indexChannel = FileChannel.open(indexFile, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+                    StandardOpenOption.READ, StandardOpenOption.WRITE);
+            int chunkCount = (int) ((indexSize + CHUNK_SIZE - 1) >>> CHUNK_SHIFT);
+            this.indexChunks = new MappedByteBuffer[chunkCount];
+            for (int i = 0; i < chunkCount; i++) {
+                long position = (long) i << CHUNK_SHIFT;
+                indexChunks[i] = indexChannel.map(FileChannel.MapMode.READ_WRITE, position,
+                        Math.min(CHUNK_SIZE, indexSize - position));
+                indexChunks[i].order(ByteOrder.LITTLE_ENDIAN);
+            }
+            this.arena = new BufferedOutputStream(Files.newOutputStream(arenaFile), 1 << 16);
+        }
+
+        /**
+         * 매핑을 추가합니다. 같은 단축코드를 두 번 추가하면 안 됩니다.
+         * 
+         * @param id          url.id (델타 시작점 계산용)
+         * @param shortCode   단축코드
+         * @param originalUrl 원본 URL (저장된 형태 그대로)
+         */
+        public void add(long id, String shortCode, String originalUrl) throws IOException {
+            if (entryCount + 1 > slotCount / 4 * 3) {
+                throw new IllegalStateException("Snapshot index is full: " + entryCount + " entries, " + slotCount + " slots");
+            }
+            byte[] code = shortCode.getBytes(StandardCharsets.UTF_8);
+            byte[] url = originalUrl.getBytes(StandardCharsets.UTF_8);
+
+            long hash = hash(code);
+            long mask = slotCount - 1;
+            long slot = hash & mask;
+            while (getLong(HEADER_SIZE + slot * SLOT_SIZE) != 0) {
+                slot = (slot + 1) & mask;
+            }
+            putLong(HEADER_SIZE + slot * SLOT_SIZE, hash);
+            putLong(HEADER_SIZE + slot * SLOT_SIZE + 8, arenaSize);
+
+            scratch.clear();
+            arena.write(scratch.putShort(0, (short) code.length).array(), 0, 2);
+            arena.write(code);
+            arena.write(scratch.putInt(0, url.length).array(), 0, 4);
+            arena.write(url);
+            arenaSize += 2 + code.length + 4 + url.length;
+            entryCount++;
+            maxId = Math.max(maxId, id);
+        }
+
+        /**
+         * 헤더를 기록하고 인덱스와 아레나를 합쳐 대상 파일로 원자적으로 교체합니다.
+         * 
+         * @param minMaxId 추가된 행이 없을 때 기록할 maxId (이전 스냅샷의 maxId)
+         */
+        public void finish(long minMaxId) throws IOException {
+            putLong(0, MAGIC);
+            putLong(8, slotCount);
+            putLong(16, entryCount);
+            putLong(24, Math.max(maxId, minMaxId));
+            putLong(32, System.currentTimeMillis());
+            for (MappedByteBuffer chunk : indexChunks) {
+                chunk.force();
+            }
+            arena.close();
+
+            // 인덱스 파일 뒤에 아레나를 이어 붙임
+            try (FileChannel arenaChannel = FileChannel.open(arenaFile, StandardOpenOption.READ)) {
+                long position = HEADER_SIZE + slotCount * SLOT_SIZE;
+                long transferred = 0;
+                while (transferred < arenaSize) {
+                    transferred += arenaChannel.transferTo(transferred, arenaSize - transferred,
+                            indexChannel.position(position + transferred));
+                }
+            }
+            indexChannel.force(true);
+            indexChannel.close();
+            Files.deleteIfExists(arenaFile);
+            Files.move(indexFile, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            finished = true;
+        }
+
+        public long getEntryCount() {
+            return entryCount;
+        }
+
+        /**
+         * 완료되지 않은 작성을 취소하고 임시 파일을 삭제합니다.
+         */
+        @Override
+        public void close() throws IOException {
+            if (finished) {
+                return;
+            }
+            arena.close();
+            indexChannel.close();
+            Files.deleteIfExists(arenaFile);
+            Files.deleteIfExists(indexFile);
+        }
+
+        private long getLong(long position) {
+            return indexChunks[(int) (position >>> CHUNK_SHIFT)].getLong((int) (position & (CHUNK_SIZE - 1)));
+        }
+
+        private void putLong(long position, long value) {
+            indexChunks[(int) (position >>> CHUNK_SHIFT)].putLong((int) (position & (CHUNK_SIZE - 1)), value);
+        }
+    }
+}
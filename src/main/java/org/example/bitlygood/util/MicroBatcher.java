@@ -0,0 +1,219 @@
+package org.example.bitlygood.util;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * 마이크로 배칭 실행기 (DataLoader 방식)
+ * 
+ * 여러 스레드가 동시에 요청한 키들을 짧은 시간(maxWait) 동안 모았다가
+ * 배치 함수 한 번으로 처리하고, 각 요청자의 Future를 결과로 완료합니다.
+ * 
+ * 동작 방식:
+ * 1. submit(key)는 요청을 큐에 넣고 즉시 Future를 반환
+ * 2. 디스패처 스레드가 첫 요청을 받은 뒤 maxWait 동안 또는 maxBatchSize개가 찰 때까지 요청을 모음
+ * 3. 같은 키는 한 번만 조회하도록 중복 제거 후 배치 함수 실행 (워커 스레드)
+ * 4. 결과 맵에서 각 키의 값을 찾아 Future 완료 (없으면 null)
+ * 
+ * 동시에 실행되는 배치 수는 maxConcurrentBatches로 제한되며,
+ * 배치가 모두 실행 중이면 다음 배치는 그동안 더 많은 요청을 모으게 됩니다.
+ * 
+ * @param <K> 키 타입
+ * @param <V> 값 타입
+ */
+public class MicroBatcher<K, V> implements AutoCloseable {
+
+    private static final long IDLE_POLL_MILLIS = 100;
+
+    private final String name;
+    private final int maxBatchSize;
+    private final long maxWaitNanos;
+    private final Function<List<K>, Map<K, V>> batchFunction;
+
+    private final BlockingQueue<PendingRequest<K, V>> queue;
+    private final Semaphore batchPermits;
+    private final ExecutorService workers;
+    private final Thread dispatcher;
+
+    private final LongAdder batchCount = new LongAdder();
+    private final LongAdder keyCount = new LongAdder();
+
+    private volatile boolean running = true;
+
+    /**
+     * @param name                 스레드 이름 및 오류 메시지에 사용할 이름
+     * @param maxBatchSize         배치 하나에 담을 최대 요청 수
+     * @param maxWait              첫 요청 이후 추가 요청을 기다리는 최대 시간
+     * @param maxConcurrentBatches 동시에 실행할 수 있는 최대 배치 수
+     * @param maxQueueSize         대기 큐 크기 (초과 시 요청 거부)
+     * @param batchFunction        키 목록을 받아 키 → 값 맵을 반환하는 함수
+     */
+    public MicroBatcher(String name, int maxBatchSize, Duration maxWait, int maxConcurrentBatches,
+            int maxQueueSize, Function<List<K>, Map<K, V>> batchFunction) {
+        if (maxBatchSize < 1 || maxConcurrentBatches < 1 || maxQueueSize < 1) {
+            throw new IllegalArgumentException("Batch size, concurrency and queue size must be positive");
+        }
+        this.name = name;
+        this.maxBatchSize = maxBatchSize;
+        this.maxWaitNanos = maxWait.toNanos();
+        this.batchFunction = batchFunction;
+        this.queue = new ArrayBlockingQueue<>(maxQueueSize);
+        this.batchPermits = new Semaphore(maxConcurrentBatches);
+
+        AtomicInteger workerIndex = new AtomicInteger();
+        this.workers = Executors.newFixedThreadPool(maxConcurrentBatches, runnable -> {
+            Thread thread = new Thread(runnable, name + "-worker-" + workerIndex.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.dispatcher = new Thread(this::dispatchLoop, name + "-dispatcher");
+        this.dispatcher.setDaemon(true);
+        this.dispatcher.start();
+    }
+
+    /**
+     * 키 조회를 요청합니다.
+     * 
+     * @param key 조회할 키
+     * @return 값으로 완료되는 Future (값이 없으면 null로 완료)
+     */
+    public CompletableFuture<V> submit(K key) {
+        CompletableFuture<V> future = new CompletableFuture<>();
+        if (!running) {
+            future.completeExceptionally(new IllegalStateException(name + " is closed"));
+        } else if (!queue.offer(new PendingRequest<>(key, future))) {
+            future.completeExceptionally(new RejectedExecutionException(name + " queue is full"));
+        }
+        return future;
+    }
+
+    public long getBatchCount() {
+        return batchCount.sum();
+    }
+
+    public long getKeyCount() {
+        return keyCount.sum();
+    }
+
+    public int getQueueSize() {
+        return queue.size();
+    }
+
+    private void dispatchLoop() {
+        List<PendingRequest<K, V>> batch = new ArrayList<>(maxBatchSize);
+        try {
+            while (running || !queue.isEmpty()) {
+                // 실행 슬롯을 먼저 확보: 모든 배치가 실행 중이면 그동안 큐에 요청이 더 쌓임
+                batchPermits.acquire();
+                PendingRequest<K, V> first = queue.poll(IDLE_POLL_MILLIS, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    batchPermits.release();
+                    continue;
+                }
+                batch.add(first);
+                collect(batch);
+
+                List<PendingRequest<K, V>> toRun = List.copyOf(batch);
+                batch.clear();
+                try {
+                    workers.execute(() -> runBatch(toRun));
+                } catch (RejectedExecutionException e) {
+                    batchPermits.release();
+                    failAll(toRun, e);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            failAll(batch, new IllegalStateException(name + " is closed"));
+        }
+    }
+
+    /**
+     * 첫 요청 이후 maxWait 동안 또는 배치가 찰 때까지 요청을 더 모읍니다.
+     */
+    private void collect(List<PendingRequest<K, V>> batch) throws InterruptedException {
+        long deadline = System.nanoTime() + maxWaitNanos;
+        while (batch.size() < maxBatchSize) {
+            // 이미 큐에 쌓인 요청은 기다리지 않고 가져옴
+            queue.drainTo(batch, maxBatchSize - batch.size());
+            if (batch.size() >= maxBatchSize) {
+                return;
+            }
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0) {
+                return;
+            }
+            PendingRequest<K, V> next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next == null) {
+                return;
+            }
+            batch.add(next);
+        }
+    }
+
+    private void runBatch(List<PendingRequest<K, V>> batch) {
+        // 같은 키에 대한 요청은 한 번만 조회
+        Map<K, List<CompletableFuture<V>>> waiters = new LinkedHashMap<>();
+        for (PendingRequest<K, V> request : batch) {
+            waiters.computeIfAbsent(request.key(), key -> new ArrayList<>(1)).add(request.future());
+        }
+
+        try {
+            Map<K, V> results = batchFunction.apply(new ArrayList<>(waiters.keySet()));
+            batchCount.increment();
+            keyCount.add(waiters.size());
+            waiters.forEach((key, futures) -> {
+                V value = results != null ? results.get(key) : null;
+                futures.forEach(future -> future.complete(value));
+            });
+        } catch (Throwable t) {
+            waiters.values().forEach(futures -> futures.forEach(future -> future.completeExceptionally(t)));
+        } finally {
+            batchPermits.release();
+        }
+    }
+
+    private void failAll(List<PendingRequest<K, V>> requests, Throwable cause) {
+        requests.forEach(request -> request.future().completeExceptionally(cause));
+        requests.clear();
+    }
+
+    /**
+     * 새 요청을 막고, 이미 들어온 요청을 처리한 뒤 스레드를 종료합니다.
+     */
+    @Override
+    public void close() {
+        running = false;
+        try {
+            dispatcher.join(TimeUnit.SECONDS.toMillis(5));
+            if (dispatcher.isAlive()) {
+                dispatcher.interrupt();
+            }
+            workers.shutdown();
+            workers.awaitTermination(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        List<PendingRequest<K, V>> remaining = new ArrayList<>();
+        queue.drainTo(remaining);
+        failAll(remaining, new IllegalStateException(name + " is closed"));
+    }
+
+    private record PendingRequest<K, V>(K key, CompletableFuture<V> future) {
+    }
+}
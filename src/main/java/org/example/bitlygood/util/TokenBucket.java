@@ -0,0 +1,77 @@
+package org.example.bitlygood.util;
+
+import java.util.function.LongSupplier;
+
+/**
+ * 토큰 버킷 (초당 허용량 + 순간 허용량)
+ * 
+ * 초당 ratePerSecond개씩 토큰이 채워지고 최대 burst개까지 쌓입니다.
+ * tryAcquire는 토큰이 있으면 하나를 소비하고 true, 없으면 기다리지 않고 false를 반환합니다.
+ * 
+ * 토큰은 호출 시점에 경과 시간만큼 한꺼번에 채우므로 별도 타이머 스레드가 없습니다.
+ * 호출마다 짧은 synchronized 구간 하나만 거칩니다.
+ */
+public class TokenBucket {
+
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+
+    private final double ratePerNano;
+    private final double burst;
+    private final LongSupplier nanoClock;
+
+    private double tokens;
+    private long lastRefillNanos;
+
+    /**
+     * @param ratePerSecond 초당 채워지는 토큰 수
+     * @param burst         최대 토큰 수 (처음에는 가득 찬 상태)
+     */
+    public TokenBucket(double ratePerSecond, double burst) {
+        this(ratePerSecond, burst, System::nanoTime);
+    }
+
+    TokenBucket(double ratePerSecond, double burst, LongSupplier nanoClock) {
+        if (ratePerSecond < 0 || burst < 1) {
+            throw new IllegalArgumentException("Rate must not be negative and burst must be at least 1");
+        }
+        this.ratePerNano = ratePerSecond / NANOS_PER_SECOND;
+        this.burst = burst;
+        this.nanoClock = nanoClock;
+        this.tokens = burst;
+        this.lastRefillNanos = nanoClock.getAsLong();
+    }
+
+    /**
+     * 토큰 하나를 소비합니다.
+     * 
+     * @return 토큰이 있었으면 true
+     */
+    public synchronized boolean tryAcquire() {
+        refill();
+        if (tokens < 1) {
+            return false;
+        }
+        tokens -= 1;
+        return true;
+    }
+
+    /**
+     * 다음 토큰이 채워질 때까지 남은 시간을 반환합니다. (토큰이 있으면 0)
+     */
+    public synchronized long nanosUntilNextToken() {
+        refill();
+        if (tokens >= 1) {
+            return 0;
+        }
+        return ratePerNano > 0 ? (long) Math.ceil((1 - tokens) / ratePerNano) : Long.MAX_VALUE;
+    }
+
+    private void refill() {
+        long now = nanoClock.getAsLong();
+        long elapsed = now - lastRefillNanos;
+        if (elapsed > 0) {
+            tokens = Math.min(burst, tokens + elapsed * ratePerNano);
+            lastRefillNanos = now;
+        }
+    }
+}
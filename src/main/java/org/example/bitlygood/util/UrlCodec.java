@@ -0,0 +1,121 @@
+package org.example.bitlygood.util;
+
+import java.util.stream.IntStream;
+
+/**
+ * 원본 URL 압축 코덱 (정적 사전 치환)
+ * 
+ * 대부분의 원본 URL은 같은 스킴/호스트 접두사("https://www.")와 UTM 파라미터 등
+ * 반복되는 부분 문자열을 포함합니다. 자주 나오는 부분 문자열을 1글자 토큰으로 치환하여
+ * Redis 값과 original_url 컬럼의 크기를 줄입니다.
+ * 
+ * 인코딩 형식:
+ * - 압축된 값: MARKER(\u0001) + 본문. 본문의 제어 문자(\u0002~\u001F)는 사전 토큰, 나머지는 원문 그대로
+ * - 압축되지 않은 값: 원문 그대로 (기존에 저장된 값도 그대로 디코딩됨)
+ * 
+ * URL에는 제어 문자가 올 수 없으므로(RFC 3986) 토큰과 원문이 충돌하지 않으며,
+ * 결과가 여전히 문자열이므로 StringRedisSerializer와 text 컬럼에 그대로 저장할 수 있습니다.
+ * 디코딩은 문자 단위 단일 패스이며 추가 할당은 결과 문자열 하나뿐입니다.
+ * 
+ * 주의: 사전의 토큰 순서는 저장 형식의 일부입니다. 항목을 바꾸거나 순서를 바꾸면
+ * 이미 저장된 값을 잘못 디코딩하므로, 변경이 필요하면 새 마커(버전)를 추가해야 합니다.
+ */
+public final class UrlCodec {
+
+    // 압축된 값의 시작 문자 (사전 버전 1)
+    static final char MARKER = '\u0001';
+
+    // 토큰 문자 범위 시작 (\u0002 ~ \u001F, 최대 30개)
+    private static final char FIRST_TOKEN = '\u0002';
+
+    // 사전 v1 (인덱스 i → 토큰 문자 FIRST_TOKEN + i)
+    private static final String[] DICTIONARY = {
+            "https://www.", "http://www.", "https://", "http://",
+            ".com/", ".co.kr/", ".net/", ".org/", ".html",
+            "?utm_source=", "&utm_medium=", "&utm_campaign=", "&utm_content=", "&utm_term=", "utm_",
+            "naver", "google", "youtube", "/watch?v=", "facebook", "instagram", "amazon",
+            "product", "article", "newsletter", "email", "blog.", "index", "search?q=", "%20"
+    };
+
+    // 첫 글자(ASCII)별 사전 항목 인덱스 (긴 항목 우선)
+    private static final int[][] CANDIDATES_BY_FIRST_CHAR = new int[128][];
+
+    static {
+        for (char c = 0; c < 128; c++) {
+            final char first = c;
+            CANDIDATES_BY_FIRST_CHAR[c] = IntStream.range(0, DICTIONARY.length)
+                    .filter(i -> DICTIONARY[i].charAt(0) == first)
+                    .boxed()
+                    .sorted((a, b) -> DICTIONARY[b].length() - DICTIONARY[a].length())
+                    .mapToInt(Integer::intValue)
+                    .toArray();
+        }
+    }
+
+    private UrlCodec() {
+    }
+
+    /**
+     * URL을 압축합니다.
+     * 압축해도 짧아지지 않거나 제어 문자가 포함된 값은 원문 그대로 반환합니다.
+     * 
+     * @param url 원본 URL
+     * @return 압축된 값 또는 원문
+     */
+    public static String encode(String url) {
+        if (url == null || url.isEmpty()) {
+            return url;
+        }
+        StringBuilder encoded = new StringBuilder(url.length() + 1).append(MARKER);
+        int i = 0;
+        while (i < url.length()) {
+            char c = url.charAt(i);
+            if (c < FIRST_TOKEN + DICTIONARY.length) {
+                // 제어 문자가 포함된 값은 토큰과 구분할 수 없으므로 압축하지 않음
+                return url;
+            }
+            int matched = c < 128 ? longestMatch(url, i, CANDIDATES_BY_FIRST_CHAR[c]) : -1;
+            if (matched >= 0) {
+                encoded.append((char) (FIRST_TOKEN + matched));
+                i += DICTIONARY[matched].length();
+            } else {
+                encoded.append(c);
+                i++;
+            }
+        }
+        return encoded.length() < url.length() ? encoded.toString() : url;
+    }
+
+    /**
+     * 압축된 값을 원본 URL로 복원합니다. 압축되지 않은 값은 그대로 반환합니다.
+     * 
+     * @param value 저장된 값
+     * @return 원본 URL
+     */
+    public static String decode(String value) {
+        if (value == null || value.isEmpty() || value.charAt(0) != MARKER) {
+            return value;
+        }
+        StringBuilder decoded = new StringBuilder(value.length() * 2);
+        for (int i = 1; i < value.length(); i++) {
+            char c = value.charAt(i);
+            int token = c - FIRST_TOKEN;
+            if (token >= 0 && token < DICTIONARY.length) {
+                decoded.append(DICTIONARY[token]);
+            } else {
+                decoded.append(c);
+            }
+        }
+        return decoded.toString();
+    }
+
+    private static int longestMatch(String url, int offset, int[] candidates) {
+        for (int candidate : candidates) {
+            String entry = DICTIONARY[candidate];
+            if (url.startsWith(entry, offset)) {
+                return candidate;
+            }
+        }
+        return -1;
+    }
+}
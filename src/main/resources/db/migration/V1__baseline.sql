@@ -0,0 +1,17 @@
+-- 기준 스키마 (ddl-auto=update 가 만들던 url 테이블)
+-- 기존 DB는 spring.flyway.baseline-on-migrate=true 로 이 버전을 건너뛰고 V2부터 적용합니다.
+
+CREATE TABLE IF NOT EXISTS url (
+    id              BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    original_url    VARCHAR(255) NOT NULL,
+    short_url       VARCHAR(255) NOT NULL,
+    code_id         BIGINT,
+    expiration_date TIMESTAMP(6),
+    created_at      TIMESTAMP(6) NOT NULL,
+    CONSTRAINT uk_url_short_url UNIQUE (short_url),
+    CONSTRAINT uk_url_code_id UNIQUE (code_id)
+);
+
+CREATE INDEX IF NOT EXISTS idx_url_short_url ON url (short_url);
+CREATE INDEX IF NOT EXISTS idx_url_expiration_date ON url (expiration_date);
+CREATE INDEX IF NOT EXISTS idx_url_created_at ON url (created_at);
@@ -0,0 +1,4 @@
+-- 베이스라인으로 등록된 기존 DB에 code_id 컬럼이 없을 수 있음 (ddl-auto=update 로 추가되기 전)
+-- unique 제약은 V3의 covering unique 인덱스가 담당합니다.
+
+ALTER TABLE url ADD COLUMN IF NOT EXISTS code_id BIGINT;
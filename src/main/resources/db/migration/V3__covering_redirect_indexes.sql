@@ -0,0 +1,18 @@
+-- 리다이렉션 쿼리용 covering unique 인덱스
+--
+--   SELECT original_url FROM url
+--   WHERE short_url = ? AND (expiration_date IS NULL OR expiration_date > NOW())
+--
+-- 조회 조건과 반환 컬럼이 모두 인덱스에 있으므로 Index Only Scan 으로 처리되어 힙 페이지를 읽지 않습니다.
+-- (visibility map 이 최신일 때. autovacuum 이 insert 위주 테이블도 처리하는 PostgreSQL 13 이상 권장)
+-- code_id(생성 코드 정수 조회)에도 같은 형태의 인덱스를 만듭니다.
+--
+-- 운영 중 쓰기를 막지 않도록 CONCURRENTLY 로 생성하며, 트랜잭션 밖에서 실행해야 하므로
+-- V3__covering_redirect_indexes.sql.conf 에서 executeInTransaction=false 로 지정합니다.
+-- 생성이 중간에 실패하면 INVALID 인덱스가 남으므로 DROP INDEX 후 flyway repair 로 다시 실행하세요.
+
+CREATE UNIQUE INDEX CONCURRENTLY IF NOT EXISTS uk_url_short_url_covering
+    ON url (short_url) INCLUDE (original_url, expiration_date);
+
+CREATE UNIQUE INDEX CONCURRENTLY IF NOT EXISTS uk_url_code_id_covering
+    ON url (code_id) INCLUDE (original_url, expiration_date);
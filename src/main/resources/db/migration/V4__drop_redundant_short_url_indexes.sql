@@ -0,0 +1,38 @@
+-- V3 의 covering unique 인덱스가 유일성과 조회를 모두 담당하므로
+-- short_url / code_id 에 남아 있는 unique 제약(+ 내부 인덱스)과 일반 인덱스를 제거합니다.
+-- ddl-auto=update 로 만들어진 DB는 unique 제약 이름이 자동 생성(uk_xxxx)되어 있으므로 카탈로그에서 찾아 삭제합니다.
+-- INSERT ... ON CONFLICT (short_url) 는 covering unique 인덱스로 그대로 추론됩니다.
+-- V3 의 CONCURRENTLY 생성이 실패해 INVALID 인덱스가 남아 있으면 (IF NOT EXISTS 로 V3 는 성공 처리됨)
+-- 유일성을 보장하는 인덱스가 없어지므로 아무것도 삭제하지 않고 중단합니다.
+
+DO $$
+DECLARE
+    uk_name TEXT;
+    covering_name TEXT;
+BEGIN
+    FOREACH covering_name IN ARRAY ARRAY['uk_url_short_url_covering', 'uk_url_code_id_covering']
+    LOOP
+        IF NOT EXISTS (
+            SELECT 1
+            FROM pg_index i
+            WHERE i.indexrelid = to_regclass(covering_name)
+              AND i.indisvalid
+        ) THEN
+            RAISE EXCEPTION 'Index % is missing or invalid: DROP INDEX it and re-run V3 (flyway repair) before V4', covering_name;
+        END IF;
+    END LOOP;
+
+    FOR uk_name IN
+        SELECT c.conname
+        FROM pg_constraint c
+        JOIN pg_attribute a ON a.attrelid = c.conrelid AND a.attnum = ANY (c.conkey)
+        WHERE c.conrelid = 'url'::regclass
+          AND c.contype = 'u'
+          AND array_length(c.conkey, 1) = 1
+          AND a.attname IN ('short_url', 'code_id')
+    LOOP
+        EXECUTE format('ALTER TABLE url DROP CONSTRAINT %I', uk_name);
+    END LOOP;
+END $$;
+
+DROP INDEX IF EXISTS idx_url_short_url;
@@ -0,0 +1,53 @@
+package org.example.bitlygood.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.example.bitlygood.domain.OriginalUrlConverter;
+import org.example.bitlygood.domain.Url;
+import org.example.bitlygood.service.UrlService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.predicate.RuntimeHintsPredicates;
+
+/**
+ * 네이티브 이미지 런타임 힌트 등록 테스트
+ */
+class NativeRuntimeHintsTest {
+
+    private final RuntimeHints hints = new RuntimeHints();
+
+    @BeforeEach
+    void setUp() {
+        new NativeRuntimeHints().registerHints(hints, getClass().getClassLoader());
+    }
+
+    @Test
+    @DisplayName("JPA 엔티티와 컨버터는 Hibernate가 리플렉션으로 생성할 수 있다")
+    void entityAndConverter_Registered() {
+        assertThat(RuntimeHintsPredicates.reflection().onType(Url.class)
+                .withMemberCategories(MemberCategory.DECLARED_FIELDS, MemberCategory.INVOKE_DECLARED_CONSTRUCTORS))
+                .accepts(hints);
+        assertThat(RuntimeHintsPredicates.reflection().onType(OriginalUrlConverter.class)
+                .withMemberCategory(MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS))
+                .accepts(hints);
+    }
+
+    @Test
+    @DisplayName("@Observed 클래스의 메서드 애노테이션을 읽을 수 있다")
+    void observedClasses_Registered() {
+        assertThat(RuntimeHintsPredicates.reflection().onType(UrlService.class)
+                .withMemberCategory(MemberCategory.INTROSPECT_PUBLIC_METHODS))
+                .accepts(hints);
+    }
+
+    @Test
+    @DisplayName("Flyway 마이그레이션 설정 파일이 이미지에 포함된다")
+    void flywayScriptConfig_Registered() {
+        assertThat(RuntimeHintsPredicates.resource()
+                .forResource("db/migration/V3__covering_redirect_indexes.sql.conf"))
+                .accepts(hints);
+    }
+}
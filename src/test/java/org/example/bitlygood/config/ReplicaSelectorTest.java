@@ -0,0 +1,67 @@
+package org.example.bitlygood.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * ReplicaSelector 복제본 선택 규칙 테스트
+ */
+class ReplicaSelectorTest {
+
+    private ReplicaSelector replicaSelector;
+
+    @BeforeEach
+    void setUp() {
+        replicaSelector = new ReplicaSelector(List.of("replica-0", "replica-1"), Duration.ofSeconds(2));
+    }
+
+    @Test
+    @DisplayName("헬스 체크 전에는 복제본을 선택하지 않는다")
+    void select_BeforeHealthCheck_ReturnsEmpty() {
+        assertThat(replicaSelector.select()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("정상 복제본들 사이에서 라운드 로빈으로 분산한다")
+    void select_HealthyReplicas_RoundRobin() {
+        // given
+        replicaSelector.markHealthy("replica-0", Duration.ZERO);
+        replicaSelector.markHealthy("replica-1", Duration.ofMillis(500));
+
+        // when
+        Set<String> selected = new HashSet<>();
+        for (int i = 0; i < 4; i++) {
+            replicaSelector.select().ifPresent(selected::add);
+        }
+
+        // then
+        assertThat(selected).containsExactlyInAnyOrder("replica-0", "replica-1");
+    }
+
+    @Test
+    @DisplayName("복제 지연이 허용치를 넘거나 비정상인 복제본은 제외한다")
+    void select_LaggingOrUnhealthyReplica_Excluded() {
+        // given
+        replicaSelector.markHealthy("replica-0", Duration.ofSeconds(10));
+        replicaSelector.markHealthy("replica-1", Duration.ZERO);
+
+        // when & then
+        for (int i = 0; i < 4; i++) {
+            assertThat(replicaSelector.select()).isEqualTo(Optional.of("replica-1"));
+        }
+
+        // replica-1 마저 비정상이 되면 Primary로 폴백 (빈 값)
+        replicaSelector.markUnhealthy("replica-1");
+        assertThat(replicaSelector.select()).isEmpty();
+        assertThat(replicaSelector.getLagSeconds("replica-1")).isEqualTo(-1);
+    }
+}
@@ -0,0 +1,154 @@
+package org.example.bitlygood.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.quality.Strictness;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.trace.SpanContext;
+import io.opentelemetry.api.trace.TraceFlags;
+import io.opentelemetry.api.trace.TraceState;
+import io.opentelemetry.sdk.common.CompletableResultCode;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.opentelemetry.sdk.trace.data.StatusData;
+import io.opentelemetry.sdk.trace.export.SpanExporter;
+
+/**
+ * TailSamplingSpanExporter 트레이스 단위 결정 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+class TailSamplingSpanExporterTest {
+
+    private static final long MILLIS = 1_000_000L;
+
+    @Mock
+    private SpanExporter delegate;
+
+    private final List<SpanData> exported = new ArrayList<>();
+    private final AtomicLong now = new AtomicLong();
+    private TailSamplingSpanExporter exporter;
+
+    @BeforeEach
+    void setUp() {
+        TracingSamplingProperties.Tail properties = new TracingSamplingProperties.Tail();
+        properties.setTracesPerSecond(1);
+        properties.setSlowThreshold(Duration.ofMillis(200));
+        properties.setMaxPendingTraces(2);
+        properties.setPendingTimeout(Duration.ofSeconds(30));
+        exporter = new TailSamplingSpanExporter(delegate, properties, new SimpleMeterRegistry(), now::get);
+    }
+
+    @Test
+    @DisplayName("루트 스팬이 끝날 때까지 하위 스팬을 모았다가 함께 내보낸다")
+    void export_ChildBeforeRoot_ExportedTogether() {
+        // given
+        stubDelegate();
+        SpanData child = span(1, 2, 1, 5, StatusData.unset());
+        SpanData root = span(1, 1, 0, 10, StatusData.unset());
+
+        // when
+        exporter.export(List.of(child));
+        exporter.export(List.of(root));
+
+        // then
+        assertThat(exported).containsExactly(child, root);
+        assertThat(exporter.pendingTraceCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("허용량을 넘은 빠른 정상 트레이스는 버리고, 느리거나 오류인 트레이스는 항상 내보낸다")
+    void export_OverRate_KeepsOnlySlowAndErrored() {
+        // given
+        stubDelegate();
+        SpanData sampled = span(1, 1, 0, 10, StatusData.unset());
+        SpanData dropped = span(2, 1, 0, 10, StatusData.unset());
+        SpanData slow = span(3, 1, 0, 300, StatusData.unset());
+        SpanData erroredChild = span(4, 2, 1, 2, StatusData.error());
+        SpanData erroredRoot = span(4, 1, 0, 10, StatusData.unset());
+
+        // when
+        exporter.export(List.of(sampled, dropped, slow, erroredChild, erroredRoot));
+
+        // then
+        assertThat(exported).containsExactly(sampled, slow, erroredChild, erroredRoot);
+    }
+
+    @Test
+    @DisplayName("루트 스팬이 오지 않는 트레이스는 한도를 넘으면 오래된 것부터 결정한다")
+    void export_TooManyPending_DecidesOldest() {
+        // given
+        stubDelegate();
+        SpanData first = span(1, 2, 1, 5, StatusData.error());
+
+        // when
+        exporter.export(List.of(first));
+        exporter.export(List.of(span(2, 2, 1, 5, StatusData.unset())));
+        exporter.export(List.of(span(3, 2, 1, 5, StatusData.unset())));
+
+        // then
+        assertThat(exported).containsExactly(first);
+        assertThat(exporter.pendingTraceCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("모든 트레이스가 버려지면 위임 익스포터를 호출하지 않는다")
+    void export_AllDropped_DelegateNotCalled() {
+        // given (허용량 1개 소진)
+        stubDelegate();
+        exporter.export(List.of(span(1, 1, 0, 10, StatusData.unset())));
+
+        // when
+        exporter.export(List.of(span(2, 1, 0, 10, StatusData.unset())));
+
+        // then
+        verify(delegate, times(1)).export(anyCollection());
+    }
+
+    private void stubDelegate() {
+        when(delegate.export(anyCollection())).thenAnswer(invocation -> {
+            Collection<SpanData> spans = invocation.getArgument(0);
+            exported.addAll(spans);
+            return CompletableResultCode.ofSuccess();
+        });
+    }
+
+    /**
+     * @param trace      트레이스 번호
+     * @param spanId     스팬 번호
+     * @param parentId   부모 스팬 번호 (0이면 루트)
+     * @param durationMs 소요 시간
+     */
+    private static SpanData span(int trace, int spanId, int parentId, long durationMs, StatusData status) {
+        String traceId = String.format("%032x", trace);
+        SpanData span = mock(SpanData.class, withSettings().strictness(Strictness.LENIENT));
+        when(span.getTraceId()).thenReturn(traceId);
+        when(span.getParentSpanContext()).thenReturn(parentId == 0
+                ? SpanContext.getInvalid()
+                : SpanContext.create(traceId, String.format("%016x", parentId), TraceFlags.getSampled(),
+                        TraceState.getDefault()));
+        when(span.getStartEpochNanos()).thenReturn(0L);
+        when(span.getEndEpochNanos()).thenReturn(durationMs * MILLIS);
+        when(span.getStatus()).thenReturn(status);
+        when(span.getAttributes()).thenReturn(Attributes.empty());
+        return span;
+    }
+}
@@ -3,16 +3,28 @@ package org.example.bitlygood.controller;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.example.bitlygood.dto.CreateUrlRequest;
 import org.example.bitlygood.dto.CreateUrlResponse;
+import org.example.bitlygood.exception.AliasAlreadyExistsException;
+import org.example.bitlygood.exception.OverloadedException;
+import org.example.bitlygood.exception.RateLimitExceededException;
+import org.example.bitlygood.service.CreateRateLimiter;
+import org.example.bitlygood.service.TrafficBulkheads;
 import org.example.bitlygood.service.UrlService;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -32,6 +44,18 @@ class UrlControllerAliasTest {
         @MockitoBean
         private UrlService urlService;
 
+        @MockitoBean
+        private CreateRateLimiter createRateLimiter;
+
+        // 벌크헤드 비활성(기본값): 제한 없이 바로 실행
+        @TestConfiguration
+        static class BulkheadConfig {
+                @Bean
+                TrafficBulkheads trafficBulkheads() {
+                        return new TrafficBulkheads(new SimpleMeterRegistry());
+                }
+        }
+
         @Test
         @DisplayName("사용자 지정 alias로 URL 단축 API 테스트")
         void createShortUrlWithAlias_Success() throws Exception {
@@ -119,6 +143,68 @@ class UrlControllerAliasTest {
                                 .andExpect(jsonPath("$.expirationDate").isEmpty());
         }
 
+        @Test
+        @DisplayName("이미 사용 중인 alias로 URL 단축 시 409 응답")
+        void createShortUrlWithDuplicateAlias_ReturnsConflict() throws Exception {
+                // given
+                CreateUrlRequest request = new CreateUrlRequest(
+                                "https://www.example.com",
+                                "myalias",
+                                null);
+
+                when(urlService.createShortUrl(any(CreateUrlRequest.class)))
+                                .thenThrow(new AliasAlreadyExistsException("myalias"));
+
+                // when & then
+                mockMvc.perform(post("/urls")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(objectMapper.writeValueAsString(request)))
+                                .andExpect(status().isConflict())
+                                .andExpect(jsonPath("$.message").value("Alias already exists: myalias"));
+        }
+
+        @Test
+        @DisplayName("DB 저장 동시 실행 한도 초과 시 503 응답과 Retry-After 헤더")
+        void createShortUrl_Overloaded_ReturnsServiceUnavailable() throws Exception {
+                // given
+                CreateUrlRequest request = new CreateUrlRequest(
+                                "https://www.example.com",
+                                null,
+                                null);
+
+                when(urlService.createShortUrl(any(CreateUrlRequest.class)))
+                                .thenThrow(new OverloadedException("db-write", 1));
+
+                // when & then
+                mockMvc.perform(post("/urls")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(objectMapper.writeValueAsString(request)))
+                                .andExpect(status().isServiceUnavailable())
+                                .andExpect(header().string("Retry-After", "1"));
+        }
+
+        @Test
+        @DisplayName("클라이언트별 생성 한도 초과 시 429 응답과 Retry-After 헤더")
+        void createShortUrl_RateLimited_ReturnsTooManyRequests() throws Exception {
+                // given
+                CreateUrlRequest request = new CreateUrlRequest(
+                                "https://www.example.com",
+                                null,
+                                null);
+
+                doThrow(new RateLimitExceededException(3)).when(createRateLimiter)
+                                .acquire(any(HttpServletRequest.class));
+
+                // when & then
+                mockMvc.perform(post("/urls")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(objectMapper.writeValueAsString(request)))
+                                .andExpect(status().isTooManyRequests())
+                                .andExpect(header().string("Retry-After", "3"));
+
+                verifyNoInteractions(urlService);
+        }
+
         // @Test
         // @DisplayName("잘못된 요청 데이터로 URL 단축 API 테스트")
         // void createShortUrlWithInvalidRequest_ReturnsBadRequest() throws Exception {
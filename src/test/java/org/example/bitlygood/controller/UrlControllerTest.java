@@ -2,13 +2,22 @@ package org.example.bitlygood.controller;
 
 import org.example.bitlygood.dto.CreateUrlRequest;
 import org.example.bitlygood.dto.CreateUrlResponse;
+import org.example.bitlygood.dto.ResolveUrlsRequest;
+import org.example.bitlygood.dto.ResolveUrlsResponse;
+import org.example.bitlygood.service.CreateRateLimiter;
+import org.example.bitlygood.service.TrafficBulkheads;
 import org.example.bitlygood.service.UrlService;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import java.util.List;
+import java.util.Map;
+
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.when;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
@@ -18,6 +27,8 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
 @WebMvcTest(UrlController.class)
 class UrlControllerTest {
 
@@ -30,6 +41,17 @@ class UrlControllerTest {
     @MockitoBean
     private UrlService urlService;
 
+    @MockitoBean
+    private CreateRateLimiter createRateLimiter;
+
+    @TestConfiguration
+    static class BulkheadConfig {
+        @Bean
+        TrafficBulkheads trafficBulkheads() {
+            return new TrafficBulkheads(new SimpleMeterRegistry());
+        }
+    }
+
     @Test
     @DisplayName("POST /urls 요청 시 단축 URL을 생성하고 201 응답을 반환한다.")
     void createShortUrl() throws Exception {
@@ -54,4 +76,24 @@ class UrlControllerTest {
                 .andExpect(jsonPath("$.originalUrl").value(originalUrl));
     }
 
+    @Test
+    @DisplayName("POST /urls/resolve 요청 시 조회된 매핑과 찾지 못한 코드를 함께 반환한다.")
+    void resolveShortUrls() throws Exception {
+        // given
+        List<String> shortCodes = List.of("B", "unknown");
+        ResolveUrlsResponse response = new ResolveUrlsResponse(
+                Map.of("B", "https://example.com"),
+                List.of("unknown"));
+
+        when(urlService.resolveShortUrls(shortCodes)).thenReturn(response);
+
+        // when & then
+        mockMvc.perform(post("/urls/resolve")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(new ResolveUrlsRequest(shortCodes))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.resolved.B").value("https://example.com"))
+                .andExpect(jsonPath("$.notFound[0]").value("unknown"));
+    }
+
 }
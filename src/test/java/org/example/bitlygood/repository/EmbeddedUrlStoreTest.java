@@ -0,0 +1,307 @@
+package org.example.bitlygood.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import org.example.bitlygood.domain.Url;
+import org.example.bitlygood.domain.UrlChange;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * EmbeddedUrlStore 로그 재생, 만료 삭제, 로그 재작성 테스트
+ */
+class EmbeddedUrlStoreTest {
+
+    @TempDir
+    Path tempDir;
+
+    private EmbeddedUrlStore store;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        store = open();
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        store.close();
+    }
+
+    @Test
+    @DisplayName("저장한 매핑을 재시작 후 로그에서 복원한다")
+    void putThenReopen_RestoresMappings() throws Exception {
+        // given
+        store.put(url("abc", "https://a.example.com", null));
+        store.putIfAbsent("alias1", "https://b.example.com", null, LocalDateTime.now());
+
+        // when
+        store.close();
+        store = open();
+
+        // then
+        assertThat(store.get("abc")).contains("https://a.example.com");
+        assertThat(store.getAll(List.of("abc", "alias1", "none")))
+                .containsExactlyInAnyOrderEntriesOf(Map.of(
+                        "abc", "https://a.example.com",
+                        "alias1", "https://b.example.com"));
+    }
+
+    @Test
+    @DisplayName("이미 있는 단축코드는 putIfAbsent로 덮어쓰지 않는다")
+    void putIfAbsent_ExistingCode_ReturnsFalse() {
+        // given
+        store.putIfAbsent("alias1", "https://first.example.com", null, LocalDateTime.now());
+
+        // when
+        boolean saved = store.putIfAbsent("alias1", "https://second.example.com", null, LocalDateTime.now());
+
+        // then
+        assertThat(saved).isFalse();
+        assertThat(store.get("alias1")).contains("https://first.example.com");
+    }
+
+    @Test
+    @DisplayName("만료된 매핑은 조회되지 않고 deleteExpired로 limit개씩 삭제된다")
+    void deleteExpired_RemovesInChunks() throws Exception {
+        // given
+        LocalDateTime past = LocalDateTime.now().minusMinutes(1);
+        store.put(url("old1", "https://old1.example.com", past));
+        store.put(url("old2", "https://old2.example.com", past));
+        store.put(url("live", "https://live.example.com", null));
+
+        // when
+        List<String> first = store.deleteExpired(LocalDateTime.now(), 1);
+        List<String> second = store.deleteExpired(LocalDateTime.now(), 1);
+        List<String> third = store.deleteExpired(LocalDateTime.now(), 1);
+
+        // then
+        assertThat(store.get("old1")).isEmpty();
+        assertThat(first).hasSize(1);
+        assertThat(second).hasSize(1);
+        assertThat(third).isEmpty();
+
+        // 삭제도 재시작 후 유지
+        store.close();
+        store = open();
+        assertThat(store.size()).isEqualTo(1);
+        assertThat(store.get("live")).contains("https://live.example.com");
+    }
+
+    @Test
+    @DisplayName("마지막 레코드가 잘린 로그는 잘린 위치 앞까지만 복원한다")
+    void reopen_TruncatedTail_KeepsCompleteRecords() throws Exception {
+        // given
+        store.put(url("abc", "https://a.example.com", null));
+        store.close();
+        Files.write(tempDir.resolve("urls.log"), new byte[] { 0, 0, 0, 40, 1, 2 }, StandardOpenOption.APPEND);
+
+        // when
+        store = open();
+        store.put(url("def", "https://d.example.com", null));
+        store.close();
+        store = open();
+
+        // then
+        assertThat(store.get("abc")).contains("https://a.example.com");
+        assertThat(store.get("def")).contains("https://d.example.com");
+    }
+
+    @Test
+    @DisplayName("로그 재작성 후에도 살아 있는 매핑과 id 순서가 유지된다")
+    void compactNow_KeepsLiveMappingsInIdOrder() throws Exception {
+        // given
+        LocalDateTime past = LocalDateTime.now().minusMinutes(1);
+        store.put(url("a1", "https://a.example.com", null));
+        store.put(url("x1", "https://x.example.com", past));
+        store.put(url("b2", "https://b.example.com", null));
+        store.deleteExpired(LocalDateTime.now(), 100);
+        long before = Files.size(tempDir.resolve("urls.log"));
+
+        // when
+        store.compactNow();
+        store.close();
+        store = open();
+
+        // then
+        assertThat(Files.size(tempDir.resolve("urls.log"))).isLessThan(before);
+        assertThat(store.scan(0, 10)).extracting(UrlChange::shortUrl).containsExactly("a1", "b2");
+    }
+
+    @Test
+    @DisplayName("이미 있는 단축코드를 put하면 DuplicateKeyException을 던지고 기존 매핑을 유지한다")
+    void put_ExistingCode_ThrowsDuplicateKey() {
+        // given
+        store.put(url("abc", "https://a.example.com", null));
+
+        // when & then
+        assertThatThrownBy(() -> store.put(url("abc", "https://other.example.com", null)))
+                .isInstanceOf(DuplicateKeyException.class);
+        assertThat(store.get("abc")).contains("https://a.example.com");
+    }
+
+    @Test
+    @DisplayName("쓰기가 중간에 실패하면 로그를 되돌려 이후 쓰기가 재시작 후에도 유지된다")
+    void put_PartialWriteFails_LaterWritesSurviveRestart() throws Exception {
+        // given
+        store.put(url("abc", "https://a.example.com", null));
+        FileChannel real = (FileChannel) ReflectionTestUtils.getField(store, "channel");
+        PartialWriteChannel failing = new PartialWriteChannel(real);
+        ReflectionTestUtils.setField(store, "channel", failing);
+
+        // when
+        assertThatThrownBy(() -> store.put(url("torn", "https://torn.example.com", null)))
+                .isInstanceOf(UncheckedIOException.class);
+        failing.fail = false;
+        store.put(url("def", "https://d.example.com", null));
+        store.close();
+        store = open();
+
+        // then
+        assertThat(store.get("abc")).contains("https://a.example.com");
+        assertThat(store.get("def")).contains("https://d.example.com");
+        assertThat(store.get("torn")).isEmpty();
+    }
+
+    private EmbeddedUrlStore open() throws Exception {
+        EmbeddedUrlStore opened = new EmbeddedUrlStore(new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(opened, "directory", tempDir.toString());
+        ReflectionTestUtils.setField(opened, "compactRatio", 0.5);
+        opened.init();
+        return opened;
+    }
+
+    private static Url url(String shortUrl, String originalUrl, LocalDateTime expirationDate) {
+        Url url = new Url(originalUrl, expirationDate);
+        url.setShortUrl(shortUrl);
+        return url;
+    }
+
+    /**
+     * 레코드 절반만 쓰고 실패하는 채널 (디스크 가득 참 등 재현용)
+     */
+    private static final class PartialWriteChannel extends FileChannel {
+
+        private final FileChannel delegate;
+        private boolean fail = true;
+
+        private PartialWriteChannel(FileChannel delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public int write(ByteBuffer src) throws IOException {
+            if (!fail) {
+                return delegate.write(src);
+            }
+            ByteBuffer half = src.duplicate();
+            half.limit(src.position() + src.remaining() / 2);
+            delegate.write(half);
+            throw new IOException("No space left on device");
+        }
+
+        @Override
+        public int read(ByteBuffer dst) throws IOException {
+            return delegate.read(dst);
+        }
+
+        @Override
+        public long read(ByteBuffer[] dsts, int offset, int length) throws IOException {
+            return delegate.read(dsts, offset, length);
+        }
+
+        @Override
+        public long write(ByteBuffer[] srcs, int offset, int length) throws IOException {
+            return delegate.write(srcs, offset, length);
+        }
+
+        @Override
+        public long position() throws IOException {
+            return delegate.position();
+        }
+
+        @Override
+        public FileChannel position(long newPosition) throws IOException {
+            delegate.position(newPosition);
+            return this;
+        }
+
+        @Override
+        public long size() throws IOException {
+            return delegate.size();
+        }
+
+        @Override
+        public FileChannel truncate(long size) throws IOException {
+            delegate.truncate(size);
+            return this;
+        }
+
+        @Override
+        public void force(boolean metaData) throws IOException {
+            delegate.force(metaData);
+        }
+
+        @Override
+        public long transferTo(long position, long count, WritableByteChannel target) throws IOException {
+            return delegate.transferTo(position, count, target);
+        }
+
+        @Override
+        public long transferFrom(ReadableByteChannel src, long position, long count) throws IOException {
+            return delegate.transferFrom(src, position, count);
+        }
+
+        @Override
+        public int read(ByteBuffer dst, long position) throws IOException {
+            return delegate.read(dst, position);
+        }
+
+        @Override
+        public int write(ByteBuffer src, long position) throws IOException {
+            return delegate.write(src, position);
+        }
+
+        @Override
+        public MappedByteBuffer map(MapMode mode, long position, long size) throws IOException {
+            return delegate.map(mode, position, size);
+        }
+
+        @Override
+        public FileLock lock(long position, long size, boolean shared) throws IOException {
+            return delegate.lock(position, size, shared);
+        }
+
+        @Override
+        public FileLock tryLock(long position, long size, boolean shared) throws IOException {
+            return delegate.tryLock(position, size, shared);
+        }
+
+        @Override
+        protected void implCloseChannel() throws IOException {
+            delegate.close();
+        }
+    }
+}
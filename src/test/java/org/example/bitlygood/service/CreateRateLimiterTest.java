@@ -0,0 +1,158 @@
+package org.example.bitlygood.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Set;
+
+import org.example.bitlygood.exception.RateLimitExceededException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * CreateRateLimiter 로컬 버킷, Redis 동기화, 클라이언트 구분 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+class CreateRateLimiterTest {
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Mock
+    private RedisCircuitBreaker redisCircuitBreaker;
+
+    private SimpleMeterRegistry meterRegistry;
+    private CreateRateLimiter rateLimiter;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        rateLimiter = new CreateRateLimiter(redisTemplate, redisCircuitBreaker, meterRegistry);
+        ReflectionTestUtils.setField(rateLimiter, "enabled", true);
+        ReflectionTestUtils.setField(rateLimiter, "ratePerSecond", 0.5);
+        ReflectionTestUtils.setField(rateLimiter, "burst", 2.0);
+        ReflectionTestUtils.setField(rateLimiter, "apiKeyHeader", "X-API-Key");
+        ReflectionTestUtils.setField(rateLimiter, "apiKeys", Set.of("registered-key"));
+        ReflectionTestUtils.setField(rateLimiter, "syncIntervalMs", 60_000L);
+        ReflectionTestUtils.setField(rateLimiter, "maxClients", 100);
+        ReflectionTestUtils.setField(rateLimiter, "idleSeconds", 300L);
+        rateLimiter.init();
+    }
+
+    @AfterEach
+    void tearDown() {
+        rateLimiter.stop();
+    }
+
+    @Test
+    @DisplayName("로컬 버킷의 burst를 넘으면 429 예외를 던지고 다른 클라이언트는 영향받지 않는다")
+    void acquire_LocalBurstExceeded_Throws() {
+        // given
+        rateLimiter.acquire("ip:10.0.0.1");
+        rateLimiter.acquire("ip:10.0.0.1");
+
+        // when & then
+        assertThatThrownBy(() -> rateLimiter.acquire("ip:10.0.0.1"))
+                .isInstanceOf(RateLimitExceededException.class)
+                .extracting(e -> ((RateLimitExceededException) e).getRetryAfterSeconds())
+                .isEqualTo(2L);
+        assertThatCode(() -> rateLimiter.acquire("ip:10.0.0.2")).doesNotThrowAnyException();
+        assertThat(meterRegistry.get("rate.limit.rejected").tag("scope", "local").counter().count())
+                .isEqualTo(1.0);
+        verifyNoInteractions(redisTemplate);
+    }
+
+    @Test
+    @DisplayName("동기화 결과 공용 버킷이 비어 있으면 로컬 토큰이 남아도 거부한다")
+    void sync_GlobalBucketEmpty_BlocksClient() {
+        // given
+        when(redisCircuitBreaker.isClosed()).thenReturn(true);
+        when(redisTemplate.execute(ArgumentMatchers.<RedisScript<Long>>any(), eq(List.of("rate:create:ip:10.0.0.1")),
+                any(), any(), eq("1"))).thenReturn(-500L);
+        rateLimiter.acquire("ip:10.0.0.1");
+
+        // when
+        rateLimiter.sync();
+
+        // then
+        assertThatThrownBy(() -> rateLimiter.acquire("ip:10.0.0.1"))
+                .isInstanceOf(RateLimitExceededException.class)
+                .extracting(e -> ((RateLimitExceededException) e).getRetryAfterSeconds())
+                .isEqualTo(3L);
+        assertThat(meterRegistry.get("rate.limit.rejected").tag("scope", "global").counter().count())
+                .isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Redis 서킷이 열려 있으면 동기화하지 않고 소비량을 다음 주기에 반영한다")
+    void sync_CircuitOpen_KeepsPending() {
+        // given
+        when(redisCircuitBreaker.isClosed()).thenReturn(false, true);
+        rateLimiter.acquire("ip:10.0.0.1");
+
+        // when
+        rateLimiter.sync();
+        verifyNoInteractions(redisTemplate);
+        rateLimiter.sync();
+
+        // then
+        verify(redisTemplate).execute(ArgumentMatchers.<RedisScript<Long>>any(),
+                eq(List.of("rate:create:ip:10.0.0.1")), any(), any(), eq("1"));
+    }
+
+    @Test
+    @DisplayName("등록된 API 키는 키 기준으로, 없거나 등록되지 않은 키는 IP 기준으로 구분하고 키 원문은 남기지 않는다")
+    void clientId_RegisteredApiKeyOnly() {
+        // when
+        String byKey = rateLimiter.clientId("registered-key", "10.0.0.1");
+        String byIp = rateLimiter.clientId(null, "10.0.0.1");
+        String byUnknownKey = rateLimiter.clientId("random-key", "10.0.0.1");
+
+        // then
+        assertThat(byKey).startsWith("key:").doesNotContain("registered-key");
+        assertThat(byKey).isEqualTo(rateLimiter.clientId("registered-key", "10.0.0.2"));
+        assertThat(byIp).isEqualTo("ip:10.0.0.1");
+        assertThat(byUnknownKey).isEqualTo(byIp);
+    }
+
+    @Test
+    @DisplayName("등록되지 않은 키를 바꿔 보내도 같은 IP 버킷을 사용하고 새 클라이언트를 만들지 않는다")
+    void acquire_RandomUnknownKeys_ShareIpBucket() {
+        // given
+        MockHttpServletRequest first = request("random-1");
+        MockHttpServletRequest second = request("random-2");
+        rateLimiter.acquire(first);
+        rateLimiter.acquire(second);
+
+        // when & then
+        assertThatThrownBy(() -> rateLimiter.acquire(request("random-3")))
+                .isInstanceOf(RateLimitExceededException.class);
+        assertThat(meterRegistry.get("rate.limit.clients").gauge().value()).isEqualTo(1.0);
+    }
+
+    private static MockHttpServletRequest request(String apiKey) {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setRemoteAddr("10.0.0.9");
+        request.addHeader("X-API-Key", apiKey);
+        return request;
+    }
+}
@@ -0,0 +1,86 @@
+package org.example.bitlygood.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.sql.SQLTransientConnectionException;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.orm.jpa.JpaSystemException;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * DatabaseConcurrencyLimiter 실패 종류별 한도 반영 테스트
+ */
+class DatabaseConcurrencyLimiterTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private DatabaseConcurrencyLimiter limiter;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        limiter = new DatabaseConcurrencyLimiter(meterRegistry);
+        ReflectionTestUtils.setField(limiter, "enabled", true);
+        ReflectionTestUtils.setField(limiter, "lookupInitialLimit", 10);
+        ReflectionTestUtils.setField(limiter, "lookupMinLimit", 2);
+        ReflectionTestUtils.setField(limiter, "lookupMaxLimit", 35);
+        ReflectionTestUtils.setField(limiter, "writeInitialLimit", 5);
+        ReflectionTestUtils.setField(limiter, "writeMinLimit", 2);
+        ReflectionTestUtils.setField(limiter, "writeMaxLimit", 15);
+        ReflectionTestUtils.setField(limiter, "probeMultiplier", 30);
+        limiter.init();
+    }
+
+    @Test
+    @DisplayName("제약 조건 위반으로 실패하면 한도를 줄이지 않고 슬롯만 반환한다")
+    void write_ConstraintViolation_KeepsLimit() {
+        // when
+        assertThatThrownBy(() -> limiter.write((Runnable) () -> {
+            throw new DataIntegrityViolationException("duplicate key value violates unique constraint");
+        })).isInstanceOf(DataIntegrityViolationException.class);
+
+        // then
+        assertThat(gauge("db.limiter.limit", "write")).isEqualTo(5.0);
+        assertThat(gauge("db.limiter.inflight", "write")).isZero();
+    }
+
+    @Test
+    @DisplayName("쿼리 타임아웃으로 실패하면 한도를 줄인다")
+    void write_QueryTimeout_ShrinksLimit() {
+        // when
+        assertThatThrownBy(() -> limiter.write((Runnable) () -> {
+            throw new QueryTimeoutException("canceling statement due to statement timeout");
+        })).isInstanceOf(QueryTimeoutException.class);
+
+        // then
+        assertThat(gauge("db.limiter.limit", "write")).isLessThan(5.0);
+        assertThat(gauge("db.limiter.inflight", "write")).isZero();
+    }
+
+    @Test
+    @DisplayName("원인에 커넥션 대기 초과가 있으면 과부하로 보고 한도를 줄인다")
+    void lookup_ConnectionTimeoutCause_ShrinksLimit() {
+        // given - Hikari 커넥션 대기 초과가 JPA 예외로 감싸진 경우
+        RuntimeException wrapped = new JpaSystemException(new RuntimeException(
+                new SQLTransientConnectionException("Connection is not available, request timed out")));
+
+        // when
+        assertThatThrownBy(() -> limiter.lookup(() -> {
+            throw wrapped;
+        })).isSameAs(wrapped);
+
+        // then
+        assertThat(gauge("db.limiter.limit", "lookup")).isLessThan(10.0);
+    }
+
+    private double gauge(String name, String limiterName) {
+        return meterRegistry.get(name).tag("name", limiterName).gauge().value();
+    }
+}
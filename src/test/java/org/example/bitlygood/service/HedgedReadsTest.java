@@ -0,0 +1,139 @@
+package org.example.bitlygood.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.example.bitlygood.service.LookupLatencyRecorder.Tier;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * HedgedReads 헤지 여부, 승자 선택, 예산 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+class HedgedReadsTest {
+
+    @Mock
+    private LookupLatencyRecorder lookupLatencyRecorder;
+
+    private SimpleMeterRegistry meterRegistry;
+    private HedgedReads hedgedReads;
+    private final AtomicInteger hedgeCalls = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        hedgedReads = new HedgedReads(lookupLatencyRecorder, meterRegistry);
+        ReflectionTestUtils.setField(hedgedReads, "enabled", true);
+        ReflectionTestUtils.setField(hedgedReads, "percentile", 95.0);
+        ReflectionTestUtils.setField(hedgedReads, "minDelayMs", 1L);
+        ReflectionTestUtils.setField(hedgedReads, "maxDelayMs", 20L);
+        ReflectionTestUtils.setField(hedgedReads, "budgetPercent", 100.0);
+        ReflectionTestUtils.setField(hedgedReads, "maxBudget", 1L);
+        hedgedReads.init();
+    }
+
+    @AfterEach
+    void tearDown() {
+        hedgedReads.stop();
+    }
+
+    @Test
+    @DisplayName("Redis가 지연 기준 안에 답하면 헤지 요청을 보내지 않는다")
+    void read_FastPrimary_NoHedge() {
+        // when
+        HedgedReads.Result result = hedgedReads.read(
+                () -> CompletableFuture.completedFuture("https://a.example.com"), this::hedge);
+
+        // then
+        assertThat(result.cachedUrl()).isEqualTo("https://a.example.com");
+        assertThat(result.databaseUrl()).isNull();
+        assertThat(hedgeCalls).hasValue(0);
+    }
+
+    @Test
+    @DisplayName("Redis가 지연 기준을 넘기면 DB 조회를 시작하고 먼저 온 DB 답을 사용한다")
+    void read_SlowPrimary_HedgeWins() {
+        // when - 끝나지 않는 Redis 조회
+        HedgedReads.Result result = hedgedReads.read(CompletableFuture::new, this::hedge);
+
+        // then
+        assertThat(result.cachedUrl()).isNull();
+        assertThat(result.databaseUrl()).contains("https://db.example.com");
+        assertThat(hedgeCalls).hasValue(1);
+        assertThat(meterRegistry.counter("url.hedge.wins", "winner", "hedge").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("DB가 빈 답으로 먼저 끝나면 Redis 답을 기다려 캐시 히트를 사용한다")
+    void read_EmptyHedgeFirst_WaitsForPrimaryHit() {
+        // given - 복제본에 아직 없는 새 링크: DB는 바로 빈 답, Redis는 지연 기준을 넘겨 히트
+        CompletableFuture<String> slow = new CompletableFuture<>();
+        CompletableFuture.delayedExecutor(100, TimeUnit.MILLISECONDS)
+                .execute(() -> slow.complete("https://a.example.com"));
+
+        // when
+        HedgedReads.Result result = hedgedReads.read(() -> slow, () -> {
+            hedgeCalls.incrementAndGet();
+            return Optional.empty();
+        });
+
+        // then
+        assertThat(result.cachedUrl()).isEqualTo("https://a.example.com");
+        assertThat(result.databaseUrl()).isNull();
+        assertThat(hedgeCalls).hasValue(1);
+        assertThat(meterRegistry.counter("url.hedge.wins", "winner", "primary").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("예산이 없으면 헤지 없이 Redis 답을 기다린다")
+    void read_NoBudget_WaitsForPrimary() {
+        // given - 첫 헤지가 예산(최대 1개)을 모두 사용하고, 이후 조회는 예산을 적립하지 않음
+        hedgedReads.read(CompletableFuture::new, this::hedge);
+        ReflectionTestUtils.setField(hedgedReads, "budgetPercent", 0.0);
+        CompletableFuture<String> slow = new CompletableFuture<>();
+        CompletableFuture.delayedExecutor(50, TimeUnit.MILLISECONDS)
+                .execute(() -> slow.complete("https://a.example.com"));
+
+        // when
+        HedgedReads.Result result = hedgedReads.read(() -> slow, this::hedge);
+
+        // then
+        assertThat(result.cachedUrl()).isEqualTo("https://a.example.com");
+        assertThat(hedgeCalls).hasValue(1);
+        assertThat(meterRegistry.counter("url.hedge.skipped").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("지연 기준은 최근 구간 Redis 퍼센타일을 최소/최대 범위로 제한한 값이다")
+    void refreshDelay_ClampsObservedPercentile() {
+        // given - p95 = 0.1ms (최소 1ms보다 작음)
+        when(lookupLatencyRecorder.intervalPercentileNanos(eq(Tier.REDIS), anyDouble())).thenReturn(100_000L);
+
+        // when
+        hedgedReads.refreshDelay();
+
+        // then
+        assertThat(meterRegistry.get("url.hedge.delay").gauge().value()).isEqualTo(1.0);
+    }
+
+    private Optional<String> hedge() {
+        hedgeCalls.incrementAndGet();
+        return Optional.of("https://db.example.com");
+    }
+}
@@ -0,0 +1,167 @@
+package org.example.bitlygood.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * LocalUrlCache 저장/복원 및 제거 테스트
+ */
+class LocalUrlCacheTest {
+
+    @TempDir
+    Path tempDir;
+
+    private LocalUrlCache localUrlCache;
+
+    @BeforeEach
+    void setUp() {
+        localUrlCache = newCache(60);
+    }
+
+    @Test
+    @DisplayName("저장한 캐시 내용을 재시작 후 복원한다")
+    void persistThenRestore_KeepsEntries() {
+        // given
+        localUrlCache.put("abc", "https://a.example.com");
+        localUrlCache.put("def", "https://d.example.com");
+        localUrlCache.persist();
+
+        // when - 새 인스턴스로 재시작
+        LocalUrlCache restarted = newCache(60);
+
+        // then
+        assertThat(restarted.get("abc")).isEqualTo("https://a.example.com");
+        assertThat(restarted.get("def")).isEqualTo("https://d.example.com");
+    }
+
+    @Test
+    @DisplayName("TTL보다 오래 중단된 뒤 재시작해도 저장 당시 남은 TTL로 복원한다")
+    void restore_AfterDowntimeLongerThanTtl_KeepsRemainingTtl() {
+        // given
+        localUrlCache.put("abc", "https://a.example.com");
+        localUrlCache.persist();
+        LocalUrlCache restarted = newCache(60);
+        restarted.invalidate("abc");
+
+        // when - 10분 뒤 복원
+        restarted.restore(System.currentTimeMillis() + 600_000L);
+
+        // then
+        assertThat(restarted.get("abc")).isEqualTo("https://a.example.com");
+    }
+
+    @Test
+    @DisplayName("복원 시 만료된 항목은 제외한다")
+    void restore_SkipsExpiredEntries() {
+        // given - TTL 0초로 저장된 항목
+        LocalUrlCache expiring = newCache(0);
+        expiring.put("old", "https://old.example.com");
+        expiring.persist();
+
+        // when
+        LocalUrlCache restarted = newCache(60);
+
+        // then
+        assertThat(restarted.size()).isZero();
+        assertThat(restarted.get("old")).isNull();
+    }
+
+    @Test
+    @DisplayName("크기 제한을 넘으면 접근 빈도가 낮은 항목을 제거한다")
+    void put_OverMaxSize_EvictsLeastFrequent() {
+        // given
+        ReflectionTestUtils.setField(localUrlCache, "maxSize", 2);
+        localUrlCache.put("hot", "https://hot.example.com");
+        localUrlCache.put("cold", "https://cold.example.com");
+        for (int i = 0; i < 10; i++) {
+            localUrlCache.get("hot");
+        }
+
+        // when
+        localUrlCache.put("new", "https://new.example.com");
+
+        // then
+        assertThat(localUrlCache.size()).isEqualTo(2);
+        assertThat(localUrlCache.get("hot")).isEqualTo("https://hot.example.com");
+    }
+
+    @Test
+    @DisplayName("제거 표본을 순회 시작 부분에서만 고르지 않아 앞쪽의 인기 항목이 남는다")
+    @SuppressWarnings("unchecked")
+    void put_OverMaxSize_DoesNotAlwaysEvictFromHead() {
+        // given - 1024개를 채우고 순회 순서상 앞쪽 16개만 자주 접근
+        ReflectionTestUtils.setField(localUrlCache, "maxSize", 1024);
+        for (int i = 0; i < 1024; i++) {
+            localUrlCache.put("code" + i, "https://example.com/" + i);
+        }
+        Map<String, ?> entries = (Map<String, ?>) ReflectionTestUtils.getField(localUrlCache, "entries");
+        List<String> hot = new ArrayList<>(entries.keySet()).subList(0, 16);
+        hot.forEach(code -> {
+            for (int i = 0; i < 10; i++) {
+                localUrlCache.get(code);
+            }
+        });
+
+        // when
+        for (int i = 0; i < 64; i++) {
+            localUrlCache.put("new" + i, "https://new.example.com/" + i);
+        }
+
+        // then
+        assertThat(localUrlCache.size()).isEqualTo(1024);
+        assertThat(hot.stream().filter(entries::containsKey).count()).isGreaterThanOrEqualTo(8);
+    }
+
+    @Test
+    @DisplayName("변경 피드로 전달된 만료 링크를 제거한다")
+    void onRemoved_InvalidatesEntries() {
+        // given
+        localUrlCache.put("gone", "https://gone.example.com");
+
+        // when
+        localUrlCache.onRemoved(List.of("gone"));
+
+        // then
+        assertThat(localUrlCache.get("gone")).isNull();
+    }
+
+    @Test
+    @DisplayName("TTL이 지난 항목은 get에서 제외되지만 stale 구간 동안 getStale로 조회된다")
+    void getStale_ExpiredWithinStaleWindow_ReturnsEntry() {
+        // given - TTL 0초, stale 60초
+        LocalUrlCache expiring = newCache(0);
+        ReflectionTestUtils.setField(expiring, "staleSeconds", 60L);
+        expiring.put("abc", "https://a.example.com");
+
+        // when
+        String fresh = expiring.get("abc");
+        expiring.decay();
+
+        // then
+        assertThat(fresh).isNull();
+        assertThat(expiring.getStale("abc")).isEqualTo("https://a.example.com");
+        assertThat(expiring.getStale("none")).isNull();
+    }
+
+    private LocalUrlCache newCache(long ttlSeconds) {
+        LocalUrlCache cache = new LocalUrlCache(new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(cache, "enabled", true);
+        ReflectionTestUtils.setField(cache, "maxSize", 1000);
+        ReflectionTestUtils.setField(cache, "ttlSeconds", ttlSeconds);
+        ReflectionTestUtils.setField(cache, "persistFile", tempDir.resolve("local-cache.bin").toString());
+        cache.init();
+        return cache;
+    }
+}
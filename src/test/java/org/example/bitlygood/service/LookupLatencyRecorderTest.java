@@ -0,0 +1,56 @@
+package org.example.bitlygood.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Map;
+
+import org.example.bitlygood.service.LookupLatencyRecorder.Outcome;
+import org.example.bitlygood.service.LookupLatencyRecorder.Tier;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * LookupLatencyRecorder 구간/누적 히스토그램 테스트
+ */
+class LookupLatencyRecorderTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final LookupLatencyRecorder recorder = new LookupLatencyRecorder(meterRegistry);
+
+    @Test
+    @DisplayName("구간을 넘기면 마지막 구간과 누적 값이 계층/결과별로 집계된다")
+    @SuppressWarnings("unchecked")
+    void rotate_SplitsIntervalAndTotal() {
+        // given
+        long now = System.nanoTime();
+        recorder.record(Tier.REDIS, Outcome.HIT, now);
+        recorder.record(Tier.REDIS, Outcome.HIT, now);
+        recorder.rotate();
+        recorder.record(Tier.REDIS, Outcome.HIT, now);
+
+        // when
+        recorder.rotate();
+        Map<String, Object> snapshot = recorder.snapshot();
+
+        // then
+        Map<String, Object> tiers = (Map<String, Object>) snapshot.get("tiers");
+        assertThat(tiers).containsOnlyKeys("redis");
+        Map<String, Map<String, Object>> hit = (Map<String, Map<String, Object>>) ((Map<String, Object>) tiers
+                .get("redis")).get("hit");
+        assertThat(hit.get("interval")).containsEntry("count", 1L).containsKeys("p50", "p99", "p999", "max");
+        assertThat(hit.get("total")).containsEntry("count", 3L);
+    }
+
+    @Test
+    @DisplayName("기록은 Micrometer 타이머에도 계층/결과 태그로 남는다")
+    void record_UpdatesMicrometerTimer() {
+        // when
+        recorder.record(Tier.DB, Outcome.ERROR, System.nanoTime());
+
+        // then
+        assertThat(meterRegistry.get("url.lookup.tier").tag("tier", "db").tag("outcome", "error").timer().count())
+                .isEqualTo(1);
+    }
+}
@@ -0,0 +1,72 @@
+package org.example.bitlygood.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.example.bitlygood.util.JfrEvents;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+/**
+ * ProfilingService JFR 레코딩 테스트
+ */
+class ProfilingServiceTest {
+
+    private final ProfilingService profilingService = new ProfilingService();
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(profilingService, "maxDuration", Duration.ofSeconds(5));
+        ReflectionTestUtils.setField(profilingService, "settings", "default");
+    }
+
+    @Test
+    @DisplayName("레코딩 파일에 애플리케이션 이벤트가 단축코드, 계층과 함께 기록된다")
+    void record_ContainsApplicationEvents() throws Exception {
+        // given
+        AtomicBoolean running = new AtomicBoolean(true);
+        CompletableFuture<Void> load = CompletableFuture.runAsync(() -> {
+            while (running.get()) {
+                JfrEvents.CacheLookup event = new JfrEvents.CacheLookup();
+                event.begin();
+                event.commit("abc123", "redis", "hit");
+                Thread.onSpinWait();
+            }
+        });
+
+        // when
+        Path file = profilingService.record(Duration.ofMillis(300));
+        running.set(false);
+        load.join();
+
+        // then
+        try {
+            RecordedEvent lookup = RecordingFile.readAllEvents(file).stream()
+                    .filter(event -> event.getEventType().getName().equals("bitly.CacheLookup"))
+                    .findFirst()
+                    .orElseThrow();
+            assertThat(lookup.getString("shortCode")).isEqualTo("abc123");
+            assertThat(lookup.getString("tier")).isEqualTo("redis");
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    @Test
+    @DisplayName("최대 시간을 넘는 레코딩 요청은 거부한다")
+    void record_TooLong_Rejected() {
+        assertThatThrownBy(() -> profilingService.record(Duration.ofMinutes(10)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
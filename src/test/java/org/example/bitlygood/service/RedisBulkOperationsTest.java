@@ -0,0 +1,33 @@
+package org.example.bitlygood.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.ClusterSlotHashUtil;
+
+/**
+ * RedisBulkOperations 슬롯 분할 테스트
+ */
+class RedisBulkOperationsTest {
+
+    @Test
+    @DisplayName("키를 해시 슬롯별로 묶고 슬롯 안에서는 원래 순서를 유지한다")
+    void groupBySlot_GroupsKeysBySlot() {
+        // given - 해시 태그가 같은 키는 같은 슬롯
+        List<String> keys = List.of("{user1}:a", "url:abc", "{user1}:b", "url:xyz");
+
+        // when
+        Map<Integer, List<Integer>> groups = RedisBulkOperations.groupBySlot(keys);
+
+        // then
+        int taggedSlot = ClusterSlotHashUtil.calculateSlot("{user1}:a");
+        assertThat(groups.get(taggedSlot)).containsExactly(0, 2);
+        assertThat(groups.values().stream().mapToInt(List::size).sum()).isEqualTo(keys.size());
+        groups.forEach((slot, indexes) -> indexes
+                .forEach(index -> assertThat(ClusterSlotHashUtil.calculateSlot(keys.get(index))).isEqualTo(slot)));
+    }
+}
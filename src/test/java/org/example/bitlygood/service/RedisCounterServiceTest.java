@@ -8,6 +8,7 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.anyString;
@@ -90,6 +91,70 @@ class RedisCounterServiceTest {
         verify(valueOperations, times(3)).increment("url_counter");
     }
 
+    /**
+     * 카운터 스트라이핑 테스트
+     * 
+     * 스트라이프를 사용하면 선택된 스트라이프 키의 INCR 결과 n에 대해 n * stripes + i 를 발급하여
+     * 스트라이프끼리 값이 겹치지 않아야 합니다.
+     * 스트라이프 키는 url_counter와 별도이며, 기존 발급 값 + headroom 위에서 시작해야 합니다.
+     */
+    @Test
+    @DisplayName("스트라이프 카운터는 별도 키를 기존 발급 값 + headroom 위로 초기화하고 고유한 값을 발급한다.")
+    void getNextCounter_Striped() {
+        // given - 스트라이프 4개, 기존 단일 카운터 값 5, headroom 100
+        ReflectionTestUtils.setField(redisCounterService, "stripes", 4);
+        ReflectionTestUtils.setField(redisCounterService, "stripeHeadroom", 100L);
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.get("url_counter:stripes")).thenReturn(null, "4");
+        when(valueOperations.get("url_counter")).thenReturn("5");
+        when(valueOperations.increment(anyString())).thenReturn(32L);
+
+        // when
+        long result = redisCounterService.getNextCounter();
+
+        // then - 시작값 (5 * 4 + 4 + 100) / 4 + 1 = 32, 발급 값 32 * 4 + (0~3)은 기존 값 + headroom보다 큼
+        assertTrue(result >= 128 && result <= 131);
+        for (int stripe = 0; stripe < 4; stripe++) {
+            verify(valueOperations).setIfAbsent("url_counter:s4:" + stripe, "32");
+        }
+        verify(valueOperations).setIfAbsent("url_counter:stripes", "4");
+        verify(valueOperations, never()).increment("url_counter");
+    }
+
+    /**
+     * 스트라이프 수 불일치 테스트
+     * 
+     * Redis에 기록된 스트라이프 수와 설정이 다르면 이미 발급된 값과 겹칠 수 있으므로 발급을 거부해야 합니다.
+     */
+    @Test
+    @DisplayName("기록된 스트라이프 수와 설정이 다르면 카운터를 발급하지 않는다.")
+    void getNextCounter_StripeMismatch_Throws() {
+        // given - Redis에는 2개로 기록, 이 노드는 4개
+        ReflectionTestUtils.setField(redisCounterService, "stripes", 4);
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.get("url_counter:stripes")).thenReturn("2");
+
+        // when & then
+        assertThrows(IllegalStateException.class, () -> redisCounterService.getNextCounter());
+        verify(valueOperations, never()).increment(anyString());
+    }
+
+    /**
+     * 스트라이프를 쓰던 Redis에 stripes=1 노드가 기동하는 경우
+     * 
+     * 단일 키(url_counter)로 되돌아가면 스트라이프로 발급된 값과 겹치므로 기동을 중단해야 합니다.
+     */
+    @Test
+    @DisplayName("스트라이프가 기록된 Redis에서 stripes=1 노드는 기동 시 확인에 실패한다.")
+    void verifyStripes_SingleCounterAfterStriping_Throws() {
+        // given
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.get("url_counter:stripes")).thenReturn("4");
+
+        // when & then
+        assertThrows(IllegalStateException.class, () -> redisCounterService.verifyStripes());
+    }
+
     /**
      * 현재 카운터 값 조회 테스트
      * 
@@ -0,0 +1,103 @@
+package org.example.bitlygood.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.example.bitlygood.exception.OverloadedException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * TrafficBulkheads 종류별 동시 처리 수 제한 테스트
+ */
+class TrafficBulkheadsTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private TrafficBulkheads bulkheads;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        bulkheads = new TrafficBulkheads(meterRegistry);
+        ReflectionTestUtils.setField(bulkheads, "enabled", true);
+        ReflectionTestUtils.setField(bulkheads, "redirectMaxConcurrent", 2);
+        ReflectionTestUtils.setField(bulkheads, "createMaxConcurrent", 1);
+        ReflectionTestUtils.setField(bulkheads, "retryAfterSeconds", 2L);
+        bulkheads.init();
+    }
+
+    @Test
+    @DisplayName("create 허용 수가 가득 차면 create는 거부하고 redirect는 계속 처리한다")
+    void createSaturated_RedirectStillServed() throws Exception {
+        // given - 다른 스레드에서 create 하나가 처리 중
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<String> running = CompletableFuture.supplyAsync(() -> bulkheads.create(() -> {
+            started.countDown();
+            return await(release);
+        }));
+        assertThat(started.await(1, TimeUnit.SECONDS)).isTrue();
+
+        // when & then
+        try {
+            assertThatThrownBy(() -> bulkheads.create(() -> "rejected"))
+                    .isInstanceOf(OverloadedException.class)
+                    .extracting(e -> ((OverloadedException) e).getRetryAfterSeconds())
+                    .isEqualTo(2L);
+            assertThat(bulkheads.redirect(() -> "served")).isEqualTo("served");
+            assertThat(meterRegistry.get("bulkhead.rejected").tag("name", "create").functionCounter().count())
+                    .isEqualTo(1.0);
+            assertThat(meterRegistry.get("bulkhead.active").tag("name", "create").gauge().value()).isEqualTo(1.0);
+        } finally {
+            release.countDown();
+        }
+        assertThat(running.get(1, TimeUnit.SECONDS)).isEqualTo("done");
+    }
+
+    @Test
+    @DisplayName("작업이 예외로 끝나도 허용 수를 반환한다")
+    void create_TaskThrows_ReleasesPermit() {
+        // given
+        assertThatThrownBy(() -> bulkheads.create(() -> {
+            throw new IllegalArgumentException("bad request");
+        })).isInstanceOf(IllegalArgumentException.class);
+
+        // when
+        String result = bulkheads.create(() -> "created");
+
+        // then
+        assertThat(result).isEqualTo("created");
+    }
+
+    @Test
+    @DisplayName("비활성 상태에서는 제한 없이 호출 스레드에서 바로 실행한다")
+    void disabled_RunsInline() {
+        // given
+        TrafficBulkheads disabled = new TrafficBulkheads(new SimpleMeterRegistry());
+        disabled.init();
+        String caller = Thread.currentThread().getName();
+
+        // when
+        String thread = disabled.redirect(() -> Thread.currentThread().getName());
+
+        // then
+        assertThat(thread).isEqualTo(caller);
+    }
+
+    private static String await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return "done";
+    }
+}
@@ -0,0 +1,176 @@
+package org.example.bitlygood.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import org.example.bitlygood.config.ReadYourWritesWindow;
+import org.example.bitlygood.exception.OverloadedException;
+import org.example.bitlygood.repository.UrlStore;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * UrlCacheService 일괄 조회 테스트
+ * 
+ * MGET 한 번, 캐시 미스에 대한 DB 쿼리 한 번, 파이프라인 캐시 저장으로 처리되는지 검증합니다.
+ */
+@ExtendWith(MockitoExtension.class)
+class UrlCacheServiceBatchTest {
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Mock
+    private UrlStore urlStore;
+
+    @Mock
+    private ReadYourWritesWindow readYourWritesWindow;
+
+    @Mock
+    private UrlBatchLoader urlBatchLoader;
+
+    @Mock
+    private RedisAutoPipeline redisAutoPipeline;
+
+    @Mock
+    private RedisBulkOperations redisBulkOperations;
+
+    @Mock
+    private HashBucketUrlCache hashBucketUrlCache;
+
+    @Mock
+    private UrlSnapshotService urlSnapshotService;
+
+    @Mock
+    private LocalUrlCache localUrlCache;
+
+    @Mock
+    private LookupLatencyRecorder lookupLatencyRecorder;
+
+    @Mock
+    private HedgedReads hedgedReads;
+
+    // 비활성화 상태(한도 없음)로 작업을 그대로 실행
+    @Spy
+    private DatabaseConcurrencyLimiter databaseConcurrencyLimiter = new DatabaseConcurrencyLimiter(
+            new SimpleMeterRegistry());
+
+    // 비활성화 상태(항상 Redis 호출)
+    @Spy
+    private RedisCircuitBreaker redisCircuitBreaker = new RedisCircuitBreaker(new SimpleMeterRegistry());
+
+    @InjectMocks
+    private UrlCacheService urlCacheService;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(urlCacheService, "urlCacheTtlSeconds", 3600L);
+    }
+
+    @Test
+    @DisplayName("캐시 히트와 미스가 섞인 일괄 조회 시 미스만 DB에서 한 번에 조회한다")
+    void getOriginalUrls_MixedHitsAndMisses() {
+        // given
+        when(redisBulkOperations.multiGet(List.of("url:hit1", "url:miss1", "url:miss2")))
+                .thenReturn(Arrays.asList("https://hit1.example.com", null, null));
+        when(urlStore.getAll(List.of("miss1", "miss2")))
+                .thenReturn(Map.of("miss1", "https://miss1.example.com"));
+
+        // when
+        Map<String, String> result = urlCacheService.getOriginalUrls(List.of("hit1", "miss1", "miss2", "hit1"));
+
+        // then
+        assertThat(result).containsExactlyInAnyOrderEntriesOf(Map.of(
+                "hit1", "https://hit1.example.com",
+                "miss1", "https://miss1.example.com"));
+
+        // DB에서 찾은 URL만 파이프라인으로 캐시에 저장
+        verify(redisBulkOperations).setAll(eq(Map.of("url:miss1", "https://miss1.example.com")), any());
+        verify(urlStore, never()).get(any());
+    }
+
+    @Test
+    @DisplayName("모두 캐시 히트이면 DB를 조회하지 않는다")
+    void getOriginalUrls_AllHits_NoDatabaseQuery() {
+        // given
+        when(redisBulkOperations.multiGet(List.of("url:a1", "url:b2")))
+                .thenReturn(List.of("https://a.example.com", "https://b.example.com"));
+
+        // when
+        Map<String, String> result = urlCacheService.getOriginalUrls(List.of("a1", "b2"));
+
+        // then
+        assertThat(result).hasSize(2);
+        verify(urlStore, never()).getAll(anyCollection());
+        verify(redisBulkOperations, never()).setAll(any(), any());
+    }
+
+    @Test
+    @DisplayName("Redis 오류 시 전체를 DB에서 한 번에 조회한다")
+    void getOriginalUrls_RedisError_FallbackToDatabase() {
+        // given
+        when(redisBulkOperations.multiGet(any())).thenThrow(new RuntimeException("Redis error"));
+        when(urlStore.getAll(List.of("a1", "b2")))
+                .thenReturn(Map.of("a1", "https://a.example.com"));
+
+        // when
+        Map<String, String> result = urlCacheService.getOriginalUrls(List.of("a1", "b2"));
+
+        // then
+        assertThat(result).containsExactlyEntriesOf(Map.of("a1", "https://a.example.com"));
+    }
+
+    @Test
+    @DisplayName("서킷이 열려 있으면 stale 항목은 로컬 캐시로 응답하고 나머지만 DB에서 한 번에 조회한다")
+    void getOriginalUrls_CircuitOpen_ServesStaleThenDatabase() {
+        // given
+        doReturn(false).when(redisCircuitBreaker).tryAcquire();
+        when(localUrlCache.getStale("a1")).thenReturn("https://stale.example.com");
+        when(urlStore.getAll(List.of("b2"))).thenReturn(Map.of("b2", "https://b.example.com"));
+
+        // when
+        Map<String, String> result = urlCacheService.getOriginalUrls(List.of("a1", "b2"));
+
+        // then
+        assertThat(result).containsExactlyInAnyOrderEntriesOf(Map.of(
+                "a1", "https://stale.example.com",
+                "b2", "https://b.example.com"));
+        verify(redisCircuitBreaker).tryAcquireDbFallback();
+        verify(localUrlCache).put("b2", "https://b.example.com");
+        verify(redisBulkOperations, never()).multiGet(any());
+    }
+
+    @Test
+    @DisplayName("MGET이 실패하고 degraded 모드 DB 허용량이 없으면 DB를 조회하지 않고 거부한다")
+    void getOriginalUrls_RedisErrorWithoutPermit_Rejected() {
+        // given
+        when(redisBulkOperations.multiGet(any())).thenThrow(new RuntimeException("Redis error"));
+        doReturn(false).when(redisCircuitBreaker).tryAcquireDbFallback();
+
+        // when & then
+        assertThatThrownBy(() -> urlCacheService.getOriginalUrls(List.of("a1", "b2")))
+                .isInstanceOf(OverloadedException.class);
+        verify(urlStore, never()).getAll(anyCollection());
+    }
+}
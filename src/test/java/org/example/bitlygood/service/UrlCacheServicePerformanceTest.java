@@ -1,19 +1,30 @@
 package org.example.bitlygood.service;
 
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 import static org.assertj.core.api.Assertions.assertThat;
-import org.example.bitlygood.repository.UrlRepository;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import org.example.bitlygood.config.ReadYourWritesWindow;
+import org.example.bitlygood.exception.OverloadedException;
+import org.example.bitlygood.repository.UrlStore;
+import org.example.bitlygood.service.LookupLatencyRecorder.Outcome;
+import org.example.bitlygood.service.LookupLatencyRecorder.Tier;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -21,6 +32,8 @@ import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.core.ValueOperations;
 import org.springframework.test.util.ReflectionTestUtils;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
 /**
  * UrlCacheService 성능 테스트
  * 
@@ -37,7 +50,43 @@ class UrlCacheServicePerformanceTest {
     private ValueOperations<String, String> valueOperations;
 
     @Mock
-    private UrlRepository urlRepository;
+    private UrlStore urlStore;
+
+    @Mock
+    private ReadYourWritesWindow readYourWritesWindow;
+
+    @Mock
+    private UrlBatchLoader urlBatchLoader;
+
+    @Mock
+    private RedisAutoPipeline redisAutoPipeline;
+
+    @Mock
+    private RedisBulkOperations redisBulkOperations;
+
+    @Mock
+    private HashBucketUrlCache hashBucketUrlCache;
+
+    @Mock
+    private UrlSnapshotService urlSnapshotService;
+
+    @Mock
+    private LocalUrlCache localUrlCache;
+
+    @Mock
+    private LookupLatencyRecorder lookupLatencyRecorder;
+
+    @Mock
+    private HedgedReads hedgedReads;
+
+    // 비활성화 상태(한도 없음)로 작업을 그대로 실행
+    @Spy
+    private DatabaseConcurrencyLimiter databaseConcurrencyLimiter = new DatabaseConcurrencyLimiter(
+            new SimpleMeterRegistry());
+
+    // 비활성화 상태(항상 Redis 호출)
+    @Spy
+    private RedisCircuitBreaker redisCircuitBreaker = new RedisCircuitBreaker(new SimpleMeterRegistry());
 
     @InjectMocks
     private UrlCacheService urlCacheService;
@@ -72,7 +121,7 @@ class UrlCacheServicePerformanceTest {
         assertThat(durationMs).isLessThan(1);
 
         // 데이터베이스 호출이 없어야 함
-        verify(urlRepository, never()).findOriginalUrlByShortUrlNotExpired(anyString());
+        verify(urlStore, never()).get(anyString());
     }
 
     @Test
@@ -84,7 +133,7 @@ class UrlCacheServicePerformanceTest {
 
         when(redisTemplate.opsForValue()).thenReturn(valueOperations);
         when(valueOperations.get("url:" + shortCode)).thenReturn(null);
-        when(urlRepository.findOriginalUrlByShortUrlNotExpired(shortCode)).thenReturn(Optional.of(originalUrl));
+        when(urlStore.get(shortCode)).thenReturn(Optional.of(originalUrl));
 
         // when
         Optional<String> result = urlCacheService.getOriginalUrl(shortCode);
@@ -97,6 +146,164 @@ class UrlCacheServicePerformanceTest {
         verify(valueOperations).set(eq("url:" + shortCode), eq(originalUrl), any());
     }
 
+    @Test
+    @DisplayName("배치 로더가 활성화되어 있으면 캐시 미스를 배치 로더로 조회한다")
+    void getOriginalUrl_CacheMiss_UsesBatchLoader() {
+        // given
+        String shortCode = "batch123";
+        String originalUrl = "https://www.example.com";
+
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.get("url:" + shortCode)).thenReturn(null);
+        when(urlBatchLoader.isEnabled()).thenReturn(true);
+        when(urlBatchLoader.load(shortCode)).thenReturn(Optional.of(originalUrl));
+
+        // when
+        Optional<String> result = urlCacheService.getOriginalUrl(shortCode);
+
+        // then
+        assertThat(result).contains(originalUrl);
+        verify(urlStore, never()).get(anyString());
+        verify(valueOperations).set(eq("url:" + shortCode), eq(originalUrl), any());
+    }
+
+    @Test
+    @DisplayName("자동 파이프라이닝이 활성화되어 있으면 GET/SET을 파이프라인으로 보낸다")
+    void getOriginalUrl_AutoPipelineEnabled_UsesPipeline() {
+        // given
+        String shortCode = "pipe123";
+        String originalUrl = "https://www.example.com";
+
+        when(redisAutoPipeline.isEnabled()).thenReturn(true);
+        when(redisAutoPipeline.get("url:" + shortCode)).thenReturn(null);
+        when(redisAutoPipeline.set(eq("url:" + shortCode), eq(originalUrl), any()))
+                .thenReturn(CompletableFuture.completedFuture(Boolean.TRUE));
+        when(urlStore.get(shortCode)).thenReturn(Optional.of(originalUrl));
+
+        // when
+        Optional<String> result = urlCacheService.getOriginalUrl(shortCode);
+
+        // then
+        assertThat(result).contains(originalUrl);
+        verify(redisAutoPipeline).set(eq("url:" + shortCode), eq(originalUrl), any());
+        verify(valueOperations, never()).get(anyString());
+    }
+
+    @Test
+    @DisplayName("해시 버킷 구조를 사용하면 버킷 해시에서 조회하고 필드로 저장한다")
+    void getOriginalUrl_HashLayout_UsesBucketHash() {
+        // given
+        String shortCode = "hash123";
+        String originalUrl = "https://www.example.com";
+
+        when(hashBucketUrlCache.isEnabled()).thenReturn(true);
+        when(hashBucketUrlCache.get(shortCode)).thenReturn(null);
+        when(urlStore.get(shortCode)).thenReturn(Optional.of(originalUrl));
+
+        // when
+        Optional<String> result = urlCacheService.getOriginalUrl(shortCode);
+
+        // then
+        assertThat(result).contains(originalUrl);
+        verify(hashBucketUrlCache).set(eq(shortCode), eq(originalUrl), any());
+        verify(redisTemplate, never()).opsForValue();
+    }
+
+    @Test
+    @DisplayName("로컬 스냅샷에 있는 코드는 Redis와 DB를 조회하지 않는다")
+    void getOriginalUrl_SnapshotHit_SkipsRedisAndDatabase() {
+        // given
+        String shortCode = "snap123";
+        String originalUrl = "https://www.example.com";
+        when(urlSnapshotService.get(shortCode)).thenReturn(originalUrl);
+
+        // when
+        Optional<String> result = urlCacheService.getOriginalUrl(shortCode);
+
+        // then
+        assertThat(result).contains(originalUrl);
+        verify(redisTemplate, never()).opsForValue();
+        verify(urlStore, never()).get(anyString());
+    }
+
+    @Test
+    @DisplayName("Redis 조회 오류는 redis 계층 error로, DB 재조회는 db 계층 hit로 기록한다")
+    void getOriginalUrl_RedisError_RecordsTierOutcomes() {
+        // given
+        String shortCode = "err123";
+        String originalUrl = "https://www.example.com";
+
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.get("url:" + shortCode)).thenThrow(new RuntimeException("Redis down"));
+        when(urlStore.get(shortCode)).thenReturn(Optional.of(originalUrl));
+
+        // when
+        Optional<String> result = urlCacheService.getOriginalUrl(shortCode);
+
+        // then
+        assertThat(result).contains(originalUrl);
+        verify(lookupLatencyRecorder).record(eq(Tier.LOCAL), eq(Outcome.MISS), anyLong());
+        verify(lookupLatencyRecorder).record(eq(Tier.REDIS), eq(Outcome.ERROR), anyLong());
+        verify(lookupLatencyRecorder).record(eq(Tier.DB), eq(Outcome.HIT), anyLong());
+    }
+
+    @Test
+    @DisplayName("DB 동시 실행 한도 초과 시 DB를 다시 조회하지 않고 거부한다")
+    void getOriginalUrl_LimiterRejects_ThrowsOverloaded() {
+        // given
+        String shortCode = "busy123";
+
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.get("url:" + shortCode)).thenReturn(null);
+        doThrow(new OverloadedException("db-lookup", 1)).when(databaseConcurrencyLimiter).lookup(any());
+
+        // when & then
+        assertThatThrownBy(() -> urlCacheService.getOriginalUrl(shortCode))
+                .isInstanceOf(OverloadedException.class);
+        verify(urlStore, never()).get(shortCode);
+        verify(databaseConcurrencyLimiter, times(1)).lookup(any());
+        verify(lookupLatencyRecorder).record(eq(Tier.DB), eq(Outcome.REJECTED), anyLong());
+    }
+
+    @Test
+    @DisplayName("Redis 서킷이 열려 있으면 Redis를 호출하지 않고 로컬 stale 항목으로 응답한다")
+    void getOriginalUrl_CircuitOpen_ServesStaleLocalEntry() {
+        // given
+        String shortCode = "stale123";
+        String originalUrl = "https://www.example.com";
+
+        doReturn(false).when(redisCircuitBreaker).tryAcquire();
+        when(localUrlCache.getStale(shortCode)).thenReturn(originalUrl);
+
+        // when
+        Optional<String> result = urlCacheService.getOriginalUrl(shortCode);
+
+        // then
+        assertThat(result).contains(originalUrl);
+        verify(redisTemplate, never()).opsForValue();
+        verify(urlStore, never()).get(shortCode);
+        verify(redisCircuitBreaker).revalidate(eq(shortCode), any());
+    }
+
+    @Test
+    @DisplayName("Redis 서킷이 열려 있고 로컬 항목이 없으면 DB에서 조회해 로컬 캐시에만 저장한다")
+    void getOriginalUrl_CircuitOpen_FallsBackToDatabase() {
+        // given
+        String shortCode = "open123";
+        String originalUrl = "https://www.example.com";
+
+        doReturn(false).when(redisCircuitBreaker).tryAcquire();
+        when(urlStore.get(shortCode)).thenReturn(Optional.of(originalUrl));
+
+        // when
+        Optional<String> result = urlCacheService.getOriginalUrl(shortCode);
+
+        // then
+        assertThat(result).contains(originalUrl);
+        verify(redisTemplate, never()).opsForValue();
+        verify(localUrlCache).put(shortCode, originalUrl);
+    }
+
     @Test
     @DisplayName("만료된 URL 캐시 처리 테스트")
     void getOriginalUrl_ExpiredUrl_ReturnsEmpty() {
@@ -106,7 +313,7 @@ class UrlCacheServicePerformanceTest {
         when(redisTemplate.opsForValue()).thenReturn(valueOperations);
         when(valueOperations.get("url:" + shortCode)).thenReturn(null);
         // DB 레벨에서 만료 체크가 이루어지므로 빈 Optional 반환
-        when(urlRepository.findOriginalUrlByShortUrlNotExpired(shortCode)).thenReturn(Optional.empty());
+        when(urlStore.get(shortCode)).thenReturn(Optional.empty());
 
         // when
         Optional<String> result = urlCacheService.getOriginalUrl(shortCode);
@@ -133,6 +340,26 @@ class UrlCacheServicePerformanceTest {
         assertThat(hitRate).isEqualTo(0.8); // 80/(80+20) = 0.8
     }
 
+    @Test
+    @DisplayName("캐시 통계는 로컬에 누적했다가 INCRBY 한 번으로 반영한다")
+    void flushCacheStats_SendsAccumulatedCounts() {
+        // given
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.get("url:hot")).thenReturn("https://www.example.com");
+        urlCacheService.getOriginalUrl("hot");
+        urlCacheService.getOriginalUrl("hot");
+        urlCacheService.getOriginalUrl("hot");
+
+        // when
+        urlCacheService.flushCacheStats();
+        urlCacheService.flushCacheStats();
+
+        // then
+        verify(valueOperations).increment("cache_stats:hits", 3L);
+        verify(valueOperations, never()).increment("cache_stats:hits");
+        verify(valueOperations, never()).increment(eq("cache_stats:misses"), anyLong());
+    }
+
     @Test
     @DisplayName("캐시 통계 초기화 테스트")
     void resetCacheStats_ClearsStatistics() {
@@ -166,7 +393,7 @@ class UrlCacheServicePerformanceTest {
 
         when(redisTemplate.opsForValue()).thenReturn(valueOperations);
         when(valueOperations.get("url:" + shortCode)).thenThrow(new RuntimeException("Redis error"));
-        when(urlRepository.findOriginalUrlByShortUrlNotExpired(shortCode)).thenReturn(Optional.of(originalUrl));
+        when(urlStore.get(shortCode)).thenReturn(Optional.of(originalUrl));
 
         // when
         Optional<String> result = urlCacheService.getOriginalUrl(shortCode);
@@ -176,6 +403,6 @@ class UrlCacheServicePerformanceTest {
         assertThat(result.get()).isEqualTo(originalUrl);
 
         // Redis 오류 시에도 데이터베이스에서 정상 조회되어야 함
-        verify(urlRepository).findOriginalUrlByShortUrlNotExpired(shortCode);
+        verify(urlStore).get(shortCode);
     }
 }
@@ -0,0 +1,157 @@
+package org.example.bitlygood.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.example.bitlygood.domain.UrlChange;
+import org.example.bitlygood.repository.UrlRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * UrlChangeFeed 워터마크 및 전달 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+class UrlChangeFeedTest {
+
+    @Mock
+    private UrlRepository urlRepository;
+
+    @Mock
+    private ObjectProvider<UrlChangeConsumer> consumers;
+
+    @Mock
+    private UrlChangeConsumer consumer;
+
+    private UrlChangeFeed urlChangeFeed;
+
+    @BeforeEach
+    void setUp() {
+        urlChangeFeed = new UrlChangeFeed(urlRepository, consumers, new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(urlChangeFeed, "enabled", true);
+        ReflectionTestUtils.setField(urlChangeFeed, "batchSize", 100);
+        ReflectionTestUtils.setField(urlChangeFeed, "maxBatchesPerPoll", 5);
+        ReflectionTestUtils.setField(urlChangeFeed, "gapTimeoutMs", 60_000L);
+        ReflectionTestUtils.setField(urlChangeFeed, "gapMinAgeMs", 0L);
+        urlChangeFeed.init();
+
+        // 첫 폴링은 현재 MAX(id)를 시작 워터마크로 사용
+        when(urlRepository.findMaxId()).thenReturn(10L);
+        urlChangeFeed.poll();
+    }
+
+    @Test
+    @DisplayName("워터마크 이후 생성된 행을 소비자에게 전달하고 워터마크를 올린다")
+    void poll_NewRows_DeliveredAndWatermarkAdvanced() {
+        // given
+        when(consumers.orderedStream()).thenAnswer(invocation -> Stream.of(consumer));
+        when(urlRepository.findChangesAfterId(10L, 100)).thenReturn(List.of(change(11), change(12)));
+        when(urlRepository.findShortUrlsExpiredBetween(any(), any())).thenReturn(List.of());
+
+        // when
+        urlChangeFeed.poll();
+
+        // then
+        verify(consumer).onCreated(List.of(change(11), change(12)));
+        assertThat(urlChangeFeed.getWatermark()).isEqualTo(12L);
+    }
+
+    @Test
+    @DisplayName("id에 빈 번호가 있으면 워터마크를 멈추고 늦게 커밋된 행만 추가로 전달한다")
+    void poll_GapInIds_WaitsForLateCommit() {
+        // given - 12번이 아직 커밋되지 않음
+        when(consumers.orderedStream()).thenAnswer(invocation -> Stream.of(consumer));
+        when(urlRepository.findShortUrlsExpiredBetween(any(), any())).thenReturn(List.of());
+        when(urlRepository.findChangesAfterId(10L, 100)).thenReturn(List.of(change(11), change(13)));
+        when(urlRepository.findChangesAfterId(11L, 100)).thenReturn(List.of(change(12), change(13)));
+        when(urlRepository.findTransactionHorizon()).thenReturn(500L);
+        when(urlRepository.isAbandonedIdRange(12L, 12L, 500L)).thenReturn(false);
+
+        // when
+        urlChangeFeed.poll();
+        long watermarkWithGap = urlChangeFeed.getWatermark();
+        urlChangeFeed.poll();
+
+        // then - 13번은 한 번만 전달
+        assertThat(watermarkWithGap).isEqualTo(11L);
+        verify(consumer).onCreated(List.of(change(11), change(13)));
+        verify(consumer).onCreated(List.of(change(12)));
+        assertThat(urlChangeFeed.getWatermark()).isEqualTo(13L);
+    }
+
+    @Test
+    @DisplayName("빈 번호가 다시 채워질 수 없음이 확인되면 gap-timeout을 기다리지 않고 건너뛴다")
+    void poll_AbandonedGap_SkippedImmediately() {
+        // given - 12번은 ON CONFLICT로 소모되어 행이 없음
+        when(consumers.orderedStream()).thenAnswer(invocation -> Stream.of(consumer));
+        when(urlRepository.findShortUrlsExpiredBetween(any(), any())).thenReturn(List.of());
+        when(urlRepository.findChangesAfterId(10L, 100)).thenReturn(List.of(change(11), change(13)));
+        when(urlRepository.findTransactionHorizon()).thenReturn(500L);
+        when(urlRepository.isAbandonedIdRange(12L, 12L, 500L)).thenReturn(true);
+
+        // when
+        urlChangeFeed.poll();
+
+        // then
+        verify(consumer).onCreated(List.of(change(11), change(13)));
+        assertThat(urlChangeFeed.getWatermark()).isEqualTo(13L);
+    }
+
+    @Test
+    @DisplayName("빈 번호가 gap-min-age보다 짧게 유지되었으면 트랜잭션 경계를 읽지 않고 기다린다")
+    void poll_FreshGap_HorizonDeferredUntilMinAge() {
+        // given - 12번 INSERT가 id만 받고 아직 xid를 할당받지 않았을 수 있음
+        ReflectionTestUtils.setField(urlChangeFeed, "gapMinAgeMs", 60_000L);
+        when(consumers.orderedStream()).thenAnswer(invocation -> Stream.of(consumer));
+        when(urlRepository.findShortUrlsExpiredBetween(any(), any())).thenReturn(List.of());
+        when(urlRepository.findChangesAfterId(10L, 100)).thenReturn(List.of(change(11), change(13)));
+
+        // when
+        urlChangeFeed.poll();
+
+        // then
+        assertThat(urlChangeFeed.getWatermark()).isEqualTo(11L);
+        verify(urlRepository, never()).findTransactionHorizon();
+        verify(urlRepository, never()).isAbandonedIdRange(anyLong(), anyLong(), anyLong());
+    }
+
+    @Test
+    @DisplayName("만료된 링크는 삭제 이벤트로 전달한다")
+    void poll_ExpiredLinks_DeliveredAsRemoved() {
+        // given
+        when(consumers.orderedStream()).thenAnswer(invocation -> Stream.of(consumer));
+        when(urlRepository.findChangesAfterId(eq(10L), anyInt())).thenReturn(List.of());
+        when(urlRepository.findShortUrlsExpiredBetween(any(), any())).thenReturn(List.of("old1"));
+
+        // when
+        urlChangeFeed.poll();
+
+        // then
+        verify(consumer).onRemoved(List.of("old1"));
+        verify(consumer, never()).onCreated(anyList());
+    }
+
+    private static UrlChange change(long id) {
+        return new UrlChange(id, "code" + id, "https://example.com/" + id, null,
+                LocalDateTime.of(2025, 1, 1, 0, 0));
+    }
+}
@@ -1,24 +1,32 @@
 package org.example.bitlygood.service;
 
+import org.example.bitlygood.config.ReadYourWritesWindow;
 import org.example.bitlygood.domain.Url;
 import org.example.bitlygood.dto.CreateUrlRequest;
 import org.example.bitlygood.dto.CreateUrlResponse;
-import org.example.bitlygood.repository.UrlRepository;
+import org.example.bitlygood.exception.AliasAlreadyExistsException;
+import org.example.bitlygood.repository.UrlStore;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.test.util.ReflectionTestUtils;
 
+import java.time.LocalDateTime;
 import java.util.Optional;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.*;
 
 /**
@@ -28,7 +36,7 @@ import static org.mockito.Mockito.*;
 class UrlServiceAliasTest {
 
     @Mock
-    private UrlRepository urlRepository;
+    private UrlStore urlStore;
 
     @Mock
     private Base62 base62;
@@ -39,6 +47,14 @@ class UrlServiceAliasTest {
     @Mock
     private UrlCacheService urlCacheService;
 
+    @Mock
+    private ReadYourWritesWindow readYourWritesWindow;
+
+    // 비활성화 상태(한도 없음)로 작업을 그대로 실행
+    @Spy
+    private DatabaseConcurrencyLimiter databaseConcurrencyLimiter = new DatabaseConcurrencyLimiter(
+            new SimpleMeterRegistry());
+
     @InjectMocks
     private UrlService urlService;
 
@@ -56,12 +72,8 @@ class UrlServiceAliasTest {
         String alias = "myalias";
         CreateUrlRequest request = new CreateUrlRequest(originalUrl, alias, null);
 
-        when(urlRepository.existsByShortUrl(alias)).thenReturn(false);
-        when(urlRepository.save(any(Url.class))).thenAnswer(invocation -> {
-            Url url = invocation.getArgument(0);
-            url.setShortUrl(alias);
-            return url;
-        });
+        when(urlStore.putIfAbsent(eq(alias), eq(originalUrl), isNull(), any(LocalDateTime.class)))
+                .thenReturn(true);
 
         // when
         CreateUrlResponse response = urlService.createShortUrl(request);
@@ -72,8 +84,9 @@ class UrlServiceAliasTest {
         assertThat(response.getOriginalUrl()).isEqualTo(originalUrl);
         assertThat(response.getExpirationDate()).isNull();
 
-        verify(urlRepository).existsByShortUrl(alias);
-        verify(urlRepository).save(any(Url.class));
+        // 중복 검사 SELECT 없이 한 번의 INSERT로 처리
+        verify(urlStore).putIfAbsent(eq(alias), eq(originalUrl), isNull(), any(LocalDateTime.class));
+        verify(urlStore, never()).put(any(Url.class));
         verify(base62, never()).encode(anyLong());
         verify(redisCounterService, never()).getNextCounter();
     }
@@ -86,15 +99,17 @@ class UrlServiceAliasTest {
         String alias = "myalias";
         CreateUrlRequest request = new CreateUrlRequest(originalUrl, alias, null);
 
-        when(urlRepository.existsByShortUrl(alias)).thenReturn(true);
+        when(urlStore.putIfAbsent(eq(alias), eq(originalUrl), isNull(), any(LocalDateTime.class)))
+                .thenReturn(false);
 
         // when & then
         assertThatThrownBy(() -> urlService.createShortUrl(request))
+                .isInstanceOf(AliasAlreadyExistsException.class)
                 .isInstanceOf(IllegalArgumentException.class)
                 .hasMessage("Alias already exists: " + alias);
 
-        verify(urlRepository).existsByShortUrl(alias);
-        verify(urlRepository, never()).save(any(Url.class));
+        verify(urlStore, never()).put(any(Url.class));
+        verify(readYourWritesWindow, never()).markWritten(anyString());
     }
 
     @Test
@@ -148,12 +163,9 @@ class UrlServiceAliasTest {
         String expirationDateStr = "2024-12-31T23:59:59";
         CreateUrlRequest request = new CreateUrlRequest(originalUrl, alias, expirationDateStr);
 
-        when(urlRepository.existsByShortUrl(alias)).thenReturn(false);
-        when(urlRepository.save(any(Url.class))).thenAnswer(invocation -> {
-            Url url = invocation.getArgument(0);
-            url.setShortUrl(alias);
-            return url;
-        });
+        when(urlStore.putIfAbsent(eq(alias), eq(originalUrl),
+                eq(LocalDateTime.parse(expirationDateStr)), any(LocalDateTime.class)))
+                .thenReturn(true);
 
         // when
         CreateUrlResponse response = urlService.createShortUrl(request);
@@ -192,11 +204,6 @@ class UrlServiceAliasTest {
 
         when(redisCounterService.getNextCounter()).thenReturn(counter);
         when(base62.encode(counter)).thenReturn(generatedCode);
-        when(urlRepository.save(any(Url.class))).thenAnswer(invocation -> {
-            Url url = invocation.getArgument(0);
-            url.setShortUrl(generatedCode);
-            return url;
-        });
 
         // when
         CreateUrlResponse response = urlService.createShortUrl(request);
@@ -208,7 +215,8 @@ class UrlServiceAliasTest {
 
         verify(redisCounterService).getNextCounter();
         verify(base62).encode(counter);
-        verify(urlRepository, never()).existsByShortUrl(anyString());
+        verify(urlStore).put(argThat(url -> generatedCode.equals(url.getShortUrl())));
+        verify(urlStore, never()).putIfAbsent(anyString(), anyString(), any(), any());
     }
 
     @Test
@@ -0,0 +1,164 @@
+package org.example.bitlygood.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+
+import org.example.bitlygood.config.ReadYourWritesWindow;
+import org.example.bitlygood.dto.CreateUrlRequest;
+import org.example.bitlygood.dto.CreateUrlResponse;
+import org.example.bitlygood.exception.AliasAlreadyExistsException;
+import org.example.bitlygood.repository.PostgresUrlStore;
+import org.example.bitlygood.repository.UrlRepository;
+import org.example.bitlygood.repository.UrlRepositoryCustomImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * UrlService 생성 경로 테스트 (PostgresUrlStore → UrlRepositoryCustomImpl 단일 INSERT)
+ *
+ * JdbcTemplate의 커넥션만 목으로 바꾸고 저장소 구현은 실제 코드를 사용해
+ * 생성 결과와 커넥션 점유 시간(url.create.connection.hold) 기록을 함께 확인합니다.
+ */
+@ExtendWith(MockitoExtension.class)
+class UrlServiceCreatePathTest {
+
+    @Mock
+    private UrlRepository urlRepository;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private Connection connection;
+
+    @Mock
+    private PreparedStatement preparedStatement;
+
+    @Mock
+    private ResultSet resultSet;
+
+    @Mock
+    private Base62 base62;
+
+    @Mock
+    private RedisCounterService redisCounterService;
+
+    @Mock
+    private UrlCacheService urlCacheService;
+
+    @Mock
+    private ReadYourWritesWindow readYourWritesWindow;
+
+    private SimpleMeterRegistry meterRegistry;
+    private UrlRepositoryCustomImpl repositoryImpl;
+    private UrlService urlService;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        repositoryImpl = new UrlRepositoryCustomImpl(jdbcTemplate, meterRegistry);
+        urlService = new UrlService(new PostgresUrlStore(urlRepository), base62, redisCounterService,
+                urlCacheService, readYourWritesWindow, new DatabaseConcurrencyLimiter(new SimpleMeterRegistry()));
+        ReflectionTestUtils.setField(urlService, "domain", "http://localhost:8080");
+    }
+
+    @Test
+    @DisplayName("자동 생성 코드는 INSERT 한 문장으로 저장하고 커넥션 점유 시간을 generated로 기록한다")
+    void createShortUrl_Generated_RecordsConnectionHold() throws Exception {
+        // given
+        givenConnection();
+        when(redisCounterService.getNextCounter()).thenReturn(7L);
+        when(base62.encode(7L)).thenReturn("7");
+        doAnswer(invocation -> {
+            repositoryImpl.insert(invocation.getArgument(0), invocation.getArgument(1), invocation.getArgument(2),
+                    invocation.getArgument(3), invocation.getArgument(4));
+            return null;
+        }).when(urlRepository).insert(any(), any(), any(), any(), any());
+
+        // when
+        String shortCode = urlService.createShortUrl("https://example.com");
+
+        // then
+        assertThat(shortCode).isEqualTo("7");
+        verify(connection).prepareStatement(startsWith("INSERT INTO url"));
+        verify(preparedStatement).setString(1, "7");
+        verify(preparedStatement).executeUpdate();
+        verify(readYourWritesWindow).markWritten("7");
+        assertThat(holdCount("generated")).isEqualTo(1);
+        assertThat(holdCount("alias")).isZero();
+    }
+
+    @Test
+    @DisplayName("alias 저장에 성공하면 응답을 반환하고 커넥션 점유 시간을 alias로 기록한다")
+    void createShortUrlWithAlias_Success_RecordsConnectionHold() throws Exception {
+        // given
+        givenAliasInsert(true);
+
+        // when
+        CreateUrlResponse response = urlService
+                .createShortUrl(new CreateUrlRequest("https://example.com", "myalias", null));
+
+        // then
+        assertThat(response.getShortCode()).isEqualTo("myalias");
+        assertThat(response.getShortUrl()).isEqualTo("http://localhost:8080/myalias");
+        verify(connection).prepareStatement(ArgumentMatchers.contains("ON CONFLICT (short_url) DO NOTHING"));
+        verify(readYourWritesWindow).markWritten("myalias");
+        verify(redisCounterService, never()).getNextCounter();
+        assertThat(holdCount("alias")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("alias가 이미 있으면 예외를 던지고 커넥션 점유 시간은 기록한다")
+    void createShortUrlWithAlias_Conflict_ThrowsAndRecordsConnectionHold() throws Exception {
+        // given - RETURNING 결과가 비어 있음
+        givenAliasInsert(false);
+
+        // when & then
+        assertThatThrownBy(() -> urlService
+                .createShortUrl(new CreateUrlRequest("https://example.com", "myalias", null)))
+                .isInstanceOf(AliasAlreadyExistsException.class)
+                .hasMessage("Alias already exists: myalias");
+        verify(readYourWritesWindow, never()).markWritten(anyString());
+        assertThat(holdCount("alias")).isEqualTo(1);
+    }
+
+    private void givenConnection() throws Exception {
+        when(jdbcTemplate.execute(ArgumentMatchers.<ConnectionCallback<Object>>any()))
+                .thenAnswer(invocation -> invocation.<ConnectionCallback<?>>getArgument(0).doInConnection(connection));
+        when(connection.prepareStatement(anyString())).thenReturn(preparedStatement);
+    }
+
+    private void givenAliasInsert(boolean inserted) throws Exception {
+        givenConnection();
+        when(preparedStatement.executeQuery()).thenReturn(resultSet);
+        when(resultSet.next()).thenReturn(inserted);
+        when(urlRepository.insertIfAbsent(any(), any(), any(), any()))
+                .thenAnswer(invocation -> repositoryImpl.insertIfAbsent(invocation.getArgument(0),
+                        invocation.getArgument(1), invocation.getArgument(2), invocation.getArgument(3)));
+    }
+
+    private long holdCount(String type) {
+        return meterRegistry.get("url.create.connection.hold").tag("type", type).timer().count();
+    }
+}
@@ -1,16 +1,21 @@
 package org.example.bitlygood.service;
 
+import org.example.bitlygood.config.ReadYourWritesWindow;
 import org.example.bitlygood.domain.Url;
-import org.example.bitlygood.repository.UrlRepository;
+import org.example.bitlygood.repository.UrlStore;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import java.util.Optional;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
@@ -19,7 +24,7 @@ import static org.mockito.Mockito.*;
 class UrlServiceTest {
 
     @Mock
-    private UrlRepository urlRepository;
+    private UrlStore urlStore;
 
     @Mock
     private Base62 base62;
@@ -30,6 +35,14 @@ class UrlServiceTest {
     @Mock
     private UrlCacheService urlCacheService;
 
+    @Mock
+    private ReadYourWritesWindow readYourWritesWindow;
+
+    // 비활성화 상태(한도 없음)로 작업을 그대로 실행
+    @Spy
+    private DatabaseConcurrencyLimiter databaseConcurrencyLimiter = new DatabaseConcurrencyLimiter(
+            new SimpleMeterRegistry());
+
     @InjectMocks
     private UrlService urlService;
 
@@ -51,7 +64,25 @@ class UrlServiceTest {
         assertEquals(shortCode, shortUrl);
         verify(redisCounterService, times(1)).getNextCounter();
         verify(base62, times(1)).encode(counterValue);
-        verify(urlRepository, times(1)).save(any(Url.class));
+        verify(urlStore, times(1)).put(any(Url.class));
+    }
+
+    @Test
+    @DisplayName("정수 조회 모드에서는 생성 코드에 마커를 붙이고 카운터 값을 code_id로 저장한다.")
+    void createShortUrl_NumericLookupEnabled_StoresCodeId() {
+        // given
+        ReflectionTestUtils.setField(urlService, "numericLookupEnabled", true);
+        long counterValue = 12345678L;
+
+        when(redisCounterService.getNextCounter()).thenReturn(counterValue);
+        when(base62.encode(counterValue)).thenReturn("PNFQ");
+
+        // when
+        String shortUrl = urlService.createShortUrl("https://example.com");
+
+        // then
+        assertEquals("_PNFQ", shortUrl);
+        verify(urlStore).put(argThat(url -> url.getCodeId() == counterValue && "_PNFQ".equals(url.getShortUrl())));
     }
 
     @Test
@@ -143,7 +174,7 @@ class UrlServiceTest {
         // 3. 모든 서비스가 올바른 횟수로 호출되었는지 확인
         verify(redisCounterService, times(originalUrls.length)).getNextCounter();
         verify(base62, times(originalUrls.length)).encode(anyLong());
-        verify(urlRepository, times(originalUrls.length)).save(any(Url.class));
+        verify(urlStore, times(originalUrls.length)).put(any(Url.class));
     }
 
     @Test
@@ -208,6 +239,6 @@ class UrlServiceTest {
         // 3. 모든 서비스가 올바른 횟수로 호출되었는지 확인
         verify(redisCounterService, times(originalUrls.length)).getNextCounter();
         verify(base62, times(originalUrls.length)).encode(anyLong());
-        verify(urlRepository, times(originalUrls.length)).save(any(Url.class));
+        verify(urlStore, times(originalUrls.length)).put(any(Url.class));
     }
 }
@@ -0,0 +1,118 @@
+package org.example.bitlygood.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * AdaptiveConcurrencyLimiter 한도 조정 테스트
+ */
+class AdaptiveConcurrencyLimiterTest {
+
+    private static final long MILLIS = 1_000_000L;
+
+    private final AtomicLong now = new AtomicLong();
+
+    @Test
+    @DisplayName("한도만큼만 슬롯을 내주고, 반환하면 다시 허용한다")
+    void tryAcquire_RejectsAtLimit() {
+        // given
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(2, 1, 10, 1000, now::get);
+
+        // when
+        long first = limiter.tryAcquire();
+        long second = limiter.tryAcquire();
+        long third = limiter.tryAcquire();
+
+        // then
+        assertThat(first).isGreaterThanOrEqualTo(0);
+        assertThat(second).isGreaterThanOrEqualTo(0);
+        assertThat(third).isEqualTo(-1);
+
+        now.addAndGet(MILLIS);
+        limiter.onSuccess(first);
+        assertThat(limiter.getInflight()).isEqualTo(1);
+        assertThat(limiter.tryAcquire()).isGreaterThanOrEqualTo(0);
+    }
+
+    @Test
+    @DisplayName("한도까지 사용 중이고 응답 시간이 기준과 같으면 한도를 늘린다")
+    void onSuccess_NoQueueing_IncreasesLimit() {
+        // given
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(4, 1, 50, 1000, now::get);
+        long[] starts = acquireAll(limiter, 4);
+
+        // when (모두 1ms: 첫 표본은 minRtt)
+        now.addAndGet(MILLIS);
+        for (long start : starts) {
+            limiter.onSuccess(start);
+        }
+
+        // then
+        assertThat(limiter.getLimit()).isGreaterThan(4);
+        assertThat(limiter.getInflight()).isZero();
+    }
+
+    @Test
+    @DisplayName("응답 시간이 기준보다 크게 늘어나면 한도를 줄인다")
+    void onSuccess_Queueing_DecreasesLimit() {
+        // given
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(20, 1, 50, 1000, now::get);
+        long[] starts = acquireAll(limiter, 20);
+        now.addAndGet(MILLIS);
+        limiter.onSuccess(starts[0]);
+
+        // when (나머지는 10ms: 대기열이 쌓인 상태)
+        now.addAndGet(9 * MILLIS);
+        for (int i = 1; i < starts.length; i++) {
+            limiter.onSuccess(starts[i]);
+        }
+
+        // then
+        assertThat(limiter.getLimit()).isLessThan(20);
+    }
+
+    @Test
+    @DisplayName("부하가 한도의 절반에 못 미치면 한도를 늘리지 않는다")
+    void onSuccess_AppLimited_KeepsLimit() {
+        // given
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(10, 1, 50, 1000, now::get);
+
+        // when (한 번에 하나씩만 실행)
+        for (int i = 0; i < 10; i++) {
+            long start = limiter.tryAcquire();
+            now.addAndGet(MILLIS);
+            limiter.onSuccess(start);
+        }
+
+        // then
+        assertThat(limiter.getLimit()).isEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("실패가 이어지면 한도를 줄이되 최소 한도 아래로는 내려가지 않는다")
+    void onDropped_DecreasesDownToMinLimit() {
+        // given
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(5, 2, 50, 1000, now::get);
+
+        // when
+        for (int i = 0; i < 10; i++) {
+            limiter.tryAcquire();
+            limiter.onDropped();
+        }
+
+        // then
+        assertThat(limiter.getLimit()).isEqualTo(2);
+    }
+
+    private static long[] acquireAll(AdaptiveConcurrencyLimiter limiter, int count) {
+        long[] starts = new long[count];
+        for (int i = 0; i < count; i++) {
+            starts[i] = limiter.tryAcquire();
+        }
+        return starts;
+    }
+}
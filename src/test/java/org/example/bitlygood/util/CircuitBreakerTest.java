@@ -0,0 +1,121 @@
+package org.example.bitlygood.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.example.bitlygood.util.CircuitBreaker.State;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * CircuitBreaker 상태 전환 테스트
+ */
+class CircuitBreakerTest {
+
+    private static final long MILLIS = 1_000_000L;
+
+    private final AtomicLong now = new AtomicLong();
+    private final List<String> transitions = new ArrayList<>();
+
+    // 구간 1초, 최소 4회, 실패율 50%, 느린 호출 100ms, OPEN 1초, 시험 호출 2회
+    private final CircuitBreaker breaker = new CircuitBreaker(1000 * MILLIS, 4, 0.5, 100 * MILLIS,
+            1000 * MILLIS, 2, (from, to) -> transitions.add(from + "->" + to), now::get);
+
+    @Test
+    @DisplayName("최소 호출 수 이상에서 실패율이 기준을 넘으면 열리고 호출을 거부한다")
+    void onResult_FailureRateExceeded_Opens() {
+        // given
+        record(false);
+        record(true);
+        record(false);
+
+        // when
+        record(true);
+
+        // then
+        assertThat(breaker.getState()).isEqualTo(State.OPEN);
+        assertThat(breaker.tryAcquire()).isFalse();
+        assertThat(transitions).containsExactly("CLOSED->OPEN");
+    }
+
+    @Test
+    @DisplayName("느린 호출도 실패로 센다")
+    void onResult_SlowCalls_Open() {
+        // when
+        for (int i = 0; i < 4; i++) {
+            breaker.tryAcquire();
+            breaker.onResult(200 * MILLIS, false);
+        }
+
+        // then
+        assertThat(breaker.getState()).isEqualTo(State.OPEN);
+    }
+
+    @Test
+    @DisplayName("구간이 지나면 이전 실패는 잊는다")
+    void onResult_WindowRolled_ResetsCounts() {
+        // given
+        record(true);
+        record(true);
+        record(false);
+
+        // when
+        now.addAndGet(1500 * MILLIS);
+        record(true);
+
+        // then
+        assertThat(breaker.getState()).isEqualTo(State.CLOSED);
+    }
+
+    @Test
+    @DisplayName("OPEN 시간이 지나면 시험 호출만 허용하고, 모두 성공하면 닫힌다")
+    void halfOpen_ProbesSucceed_Closes() {
+        // given
+        openBreaker();
+        now.addAndGet(1000 * MILLIS);
+
+        // when
+        boolean first = breaker.tryAcquire();
+        boolean second = breaker.tryAcquire();
+        boolean third = breaker.tryAcquire();
+        breaker.onResult(MILLIS, false);
+        breaker.onResult(MILLIS, false);
+
+        // then
+        assertThat(first).isTrue();
+        assertThat(second).isTrue();
+        assertThat(third).isFalse();
+        assertThat(breaker.getState()).isEqualTo(State.CLOSED);
+        assertThat(transitions).containsExactly("CLOSED->OPEN", "OPEN->HALF_OPEN", "HALF_OPEN->CLOSED");
+    }
+
+    @Test
+    @DisplayName("시험 호출이 실패하면 다시 열린다")
+    void halfOpen_ProbeFails_Reopens() {
+        // given
+        openBreaker();
+        now.addAndGet(1000 * MILLIS);
+
+        // when
+        breaker.tryAcquire();
+        breaker.onResult(MILLIS, true);
+
+        // then
+        assertThat(breaker.getState()).isEqualTo(State.OPEN);
+        assertThat(breaker.tryAcquire()).isFalse();
+    }
+
+    private void openBreaker() {
+        for (int i = 0; i < 4; i++) {
+            record(true);
+        }
+    }
+
+    private void record(boolean error) {
+        breaker.tryAcquire();
+        breaker.onResult(MILLIS, error);
+    }
+}
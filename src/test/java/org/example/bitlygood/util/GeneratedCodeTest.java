@@ -0,0 +1,51 @@
+package org.example.bitlygood.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.example.bitlygood.service.Base62;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+/**
+ * GeneratedCode 판별 및 카운터 복원 테스트
+ */
+class GeneratedCodeTest {
+
+    private final Base62 base62 = new Base62();
+
+    @ParameterizedTest
+    @ValueSource(longs = { 0L, 1L, 61L, 62L, 12345678L, Long.MAX_VALUE })
+    @DisplayName("마커가 붙은 Base62 코드에서 카운터 값을 복원한다")
+    void decode_RoundTrip(long counter) {
+        // given
+        String code = GeneratedCode.MARKER + base62.encode(counter);
+
+        // when & then
+        assertThat(GeneratedCode.isGenerated(code)).isTrue();
+        assertThat(GeneratedCode.decode(code)).isEqualTo(counter);
+    }
+
+    @Test
+    @DisplayName("모든 Base62 자릿값을 Base62 인코딩과 같은 문자로 해석한다")
+    void decode_SameAlphabetAsBase62() {
+        // redirect-server용으로 복사한 ALPHABET이 Base62의 문자 순서와 같은지 확인
+        for (long digit = 0; digit < 62; digit++) {
+            assertThat(GeneratedCode.decode(GeneratedCode.MARKER + base62.encode(digit))).isEqualTo(digit);
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = { "PNFQ", "myalias", "_", "_00", "_ab-c", "_zzzzzzzzzzzz", "_aZl8N0y58M8" })
+    @DisplayName("alias, 잘못된 문자, 앞자리 0, long 범위 초과 코드는 생성 코드로 복원하지 않는다")
+    void decode_NotGenerated_ReturnsMinusOne(String code) {
+        assertThat(GeneratedCode.decode(code)).isEqualTo(-1);
+    }
+
+    @Test
+    @DisplayName("null은 생성 코드가 아니다")
+    void isGenerated_Null_ReturnsFalse() {
+        assertThat(GeneratedCode.isGenerated(null)).isFalse();
+    }
+}
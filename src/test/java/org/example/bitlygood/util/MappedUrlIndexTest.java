@@ -0,0 +1,79 @@
+package org.example.bitlygood.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * MappedUrlIndex 파일 작성/조회 테스트
+ */
+class MappedUrlIndexTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    @DisplayName("작성한 모든 매핑을 조회할 수 있고 없는 코드는 null을 반환한다")
+    void writeThenOpen_AllEntriesFound() throws Exception {
+        // given
+        Path file = tempDir.resolve("base-1.snap");
+        int count = 10_000;
+        try (MappedUrlIndex.Writer writer = new MappedUrlIndex.Writer(file, count)) {
+            for (int i = 1; i <= count; i++) {
+                writer.add(i, "code" + i, "https://example.com/" + i);
+            }
+            writer.finish(0);
+        }
+
+        // when
+        try (MappedUrlIndex index = MappedUrlIndex.open(file)) {
+            // then
+            assertThat(index.size()).isEqualTo(count);
+            assertThat(index.getMaxId()).isEqualTo(count);
+            for (int i = 1; i <= count; i++) {
+                assertThat(index.get("code" + i)).isEqualTo("https://example.com/" + i);
+            }
+            assertThat(index.get("missing")).isNull();
+        }
+    }
+
+    @Test
+    @DisplayName("비어 있는 스냅샷은 이전 maxId를 유지한다")
+    void finish_Empty_KeepsPreviousMaxId() throws Exception {
+        // given
+        Path file = tempDir.resolve("delta-42.snap");
+        try (MappedUrlIndex.Writer writer = new MappedUrlIndex.Writer(file, 0)) {
+            writer.finish(42);
+        }
+
+        // when
+        try (MappedUrlIndex index = MappedUrlIndex.open(file)) {
+            // then
+            assertThat(index.size()).isZero();
+            assertThat(index.getMaxId()).isEqualTo(42);
+            assertThat(index.get("any")).isNull();
+        }
+    }
+
+    @Test
+    @DisplayName("완료하지 않은 작성은 임시 파일을 남기지 않는다")
+    void close_WithoutFinish_RemovesTemporaryFiles() throws Exception {
+        // given
+        Path file = tempDir.resolve("base-2.snap");
+        try (MappedUrlIndex.Writer writer = new MappedUrlIndex.Writer(file, 10)) {
+            writer.add(1, "a", "https://a.example.com");
+        }
+
+        // then
+        try (var files = Files.list(tempDir)) {
+            assertThat(files).isEmpty();
+        }
+        assertThatThrownBy(() -> MappedUrlIndex.open(file)).isInstanceOf(java.io.IOException.class);
+    }
+}
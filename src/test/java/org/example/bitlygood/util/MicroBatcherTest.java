@@ -0,0 +1,127 @@
+package org.example.bitlygood.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * MicroBatcher 배칭 동작 테스트
+ */
+class MicroBatcherTest {
+
+    private MicroBatcher<String, String> batcher;
+
+    @AfterEach
+    void tearDown() {
+        if (batcher != null) {
+            batcher.close();
+        }
+    }
+
+    @Test
+    @DisplayName("동시에 들어온 요청은 한 번의 배치로 처리되고 같은 키는 한 번만 조회한다")
+    void submit_ConcurrentRequests_MergedIntoOneBatch() throws Exception {
+        // given
+        List<List<String>> batches = Collections.synchronizedList(new ArrayList<>());
+        batcher = new MicroBatcher<>("test", 100, Duration.ofMillis(50), 1, 1000, keys -> {
+            batches.add(keys);
+            Map<String, String> result = new HashMap<>();
+            keys.stream().filter(key -> !key.equals("missing")).forEach(key -> result.put(key, "url-" + key));
+            return result;
+        });
+
+        // when
+        CompletableFuture<String> a = batcher.submit("a");
+        CompletableFuture<String> b = batcher.submit("b");
+        CompletableFuture<String> duplicate = batcher.submit("a");
+        CompletableFuture<String> missing = batcher.submit("missing");
+
+        // then
+        assertThat(a.get(1, TimeUnit.SECONDS)).isEqualTo("url-a");
+        assertThat(b.get(1, TimeUnit.SECONDS)).isEqualTo("url-b");
+        assertThat(duplicate.get(1, TimeUnit.SECONDS)).isEqualTo("url-a");
+        assertThat(missing.get(1, TimeUnit.SECONDS)).isNull();
+
+        assertThat(batches).hasSize(1);
+        assertThat(batches.get(0)).containsExactly("a", "b", "missing");
+        assertThat(batcher.getBatchCount()).isEqualTo(1);
+        assertThat(batcher.getKeyCount()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("배치 크기를 넘는 요청은 여러 배치로 나뉜다")
+    void submit_MoreThanMaxBatchSize_SplitIntoBatches() throws Exception {
+        // given
+        CountDownLatch firstBatchStarted = new CountDownLatch(1);
+        CountDownLatch releaseFirstBatch = new CountDownLatch(1);
+        List<Integer> batchSizes = Collections.synchronizedList(new ArrayList<>());
+        batcher = new MicroBatcher<>("test", 2, Duration.ofMillis(10), 1, 1000, keys -> {
+            batchSizes.add(keys.size());
+            firstBatchStarted.countDown();
+            try {
+                releaseFirstBatch.await(1, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return Map.of();
+        });
+
+        // when
+        List<CompletableFuture<String>> futures = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            futures.add(batcher.submit("key" + i));
+        }
+        firstBatchStarted.await(1, TimeUnit.SECONDS);
+        releaseFirstBatch.countDown();
+        CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).get(1, TimeUnit.SECONDS);
+
+        // then
+        assertThat(batchSizes).allMatch(size -> size <= 2);
+        assertThat(batchSizes.stream().mapToInt(Integer::intValue).sum()).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("배치 함수가 실패하면 해당 배치의 모든 요청이 실패한다")
+    void submit_BatchFunctionFails_AllWaitersFail() {
+        // given
+        batcher = new MicroBatcher<>("test", 10, Duration.ofMillis(10), 1, 1000, keys -> {
+            throw new IllegalStateException("DB error");
+        });
+
+        // when
+        CompletableFuture<String> future = batcher.submit("a");
+
+        // then
+        assertThatThrownBy(() -> future.get(1, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    @DisplayName("종료된 배처는 새 요청을 거부한다")
+    void submit_AfterClose_Rejected() {
+        // given
+        batcher = new MicroBatcher<>("test", 10, Duration.ofMillis(1), 1, 1000, keys -> Map.of());
+        batcher.close();
+
+        // when
+        CompletableFuture<String> future = batcher.submit("a");
+
+        // then
+        assertThat(future).isCompletedExceptionally();
+    }
+}
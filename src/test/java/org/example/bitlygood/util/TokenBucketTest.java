@@ -0,0 +1,52 @@
+package org.example.bitlygood.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * TokenBucket 허용량 계산 테스트
+ */
+class TokenBucketTest {
+
+    private final AtomicLong now = new AtomicLong();
+
+    @Test
+    @DisplayName("처음에는 burst개까지 허용하고 이후에는 거부한다")
+    void tryAcquire_BurstThenRejected() {
+        // given
+        TokenBucket bucket = new TokenBucket(10, 3, now::get);
+
+        // when & then
+        assertThat(bucket.tryAcquire()).isTrue();
+        assertThat(bucket.tryAcquire()).isTrue();
+        assertThat(bucket.tryAcquire()).isTrue();
+        assertThat(bucket.tryAcquire()).isFalse();
+    }
+
+    @Test
+    @DisplayName("경과 시간만큼 토큰이 채워지며 burst를 넘지 않는다")
+    void tryAcquire_RefillsOverTime() {
+        // given
+        TokenBucket bucket = new TokenBucket(10, 2, now::get);
+        bucket.tryAcquire();
+        bucket.tryAcquire();
+
+        // when (0.1초 → 토큰 1개)
+        now.addAndGet(100_000_000L);
+
+        // then
+        assertThat(bucket.tryAcquire()).isTrue();
+        assertThat(bucket.tryAcquire()).isFalse();
+        assertThat(bucket.nanosUntilNextToken()).isEqualTo(100_000_000L);
+
+        // 오래 지나도 burst까지만 채워짐
+        now.addAndGet(10_000_000_000L);
+        assertThat(bucket.tryAcquire()).isTrue();
+        assertThat(bucket.tryAcquire()).isTrue();
+        assertThat(bucket.tryAcquire()).isFalse();
+    }
+}
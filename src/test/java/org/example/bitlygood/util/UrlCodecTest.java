@@ -0,0 +1,59 @@
+package org.example.bitlygood.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+/**
+ * UrlCodec 압축/복원 테스트
+ */
+class UrlCodecTest {
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "https://www.example.com/landing/spring-sale?utm_source=newsletter&utm_medium=email&utm_campaign=2025_spring",
+            "https://www.youtube.com/watch?v=dQw4w9WgXcQ",
+            "https://blog.naver.com/someuser/223456789012",
+            "https://github.com/System-Deep-Dive/Bitly-kihong",
+            "https://한글도메인.kr/경로?q=값",
+            "http://x.io"
+    })
+    @DisplayName("압축한 값을 복원하면 원본 URL과 같다")
+    void encodeThenDecode_RoundTrip(String url) {
+        assertThat(UrlCodec.decode(UrlCodec.encode(url))).isEqualTo(url);
+    }
+
+    @Test
+    @DisplayName("공통 접두사와 UTM 파라미터가 있는 URL은 바이트 크기가 줄어든다")
+    void encode_CommonPatterns_Shrinks() {
+        // given
+        String url = "https://www.example.com/landing?utm_source=newsletter&utm_medium=email&utm_campaign=spring";
+
+        // when
+        String encoded = UrlCodec.encode(url);
+
+        // then
+        assertThat(encoded.charAt(0)).isEqualTo(UrlCodec.MARKER);
+        assertThat(encoded.getBytes(StandardCharsets.UTF_8).length)
+                .isLessThan(url.getBytes(StandardCharsets.UTF_8).length / 2);
+    }
+
+    @Test
+    @DisplayName("압축되지 않은 기존 값은 그대로 복원된다")
+    void decode_LegacyValue_PassesThrough() {
+        assertThat(UrlCodec.decode("https://legacy.example.com/a")).isEqualTo("https://legacy.example.com/a");
+        assertThat(UrlCodec.decode(null)).isNull();
+    }
+
+    @Test
+    @DisplayName("짧아지지 않거나 제어 문자가 포함된 값은 압축하지 않는다")
+    void encode_NoGainOrControlChars_ReturnsOriginal() {
+        assertThat(UrlCodec.encode("xyz")).isEqualTo("xyz");
+        assertThat(UrlCodec.encode("https://www.a.com/\u0003")).isEqualTo("https://www.a.com/\u0003");
+    }
+}